@@ -4,11 +4,16 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
+import com.kt.kol.gateway.itg.metrics.BlockingCallDetector;
+
 @SpringBootApplication
 @EnableConfigurationProperties
 public class Application {
 
 	public static void main(String[] args) {
-		SpringApplication.run(Application.class, args);
+		SpringApplication application = new SpringApplication(Application.class);
+		// 블로킹 호출 탐지(opt-in)는 스레드 풀 생성 전에 설치
+		application.addListeners(new BlockingCallDetector.Installer());
+		application.run(args);
 	}
 }
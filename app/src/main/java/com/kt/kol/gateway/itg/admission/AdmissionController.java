@@ -0,0 +1,142 @@
+package com.kt.kol.gateway.itg.admission;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.metrics.EventLoopLagMonitor;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.properties.AdmissionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 요청 수용 제어 (load shedding)
+ *
+ * <p>
+ * SoapRequestHandler 진입 시점, 본문을 읽기 전에 호출되어 과부하 요청을 503으로 즉시 거절한다.
+ * <ul>
+ * <li>처리 중 요청 수(kol.requests.pending)가 상한을 넘으면 거절</li>
+ * <li>업스트림 커넥션 풀 획득 대기 수가 상한을 넘으면 거절 - executeSoapCall 에서 풀 고갈로 실패하기 전에 차단</li>
+ * <li>이벤트 루프 지연이 target 을 interval 이상 연속 초과하면(CoDel) 거절 비율을 점진적으로 높이고,
+ * target 아래로 내려오면 빠르게 낮춘다</li>
+ * </ul>
+ * 판단에 쓰는 값은 주기 평가 태스크가 갱신하므로 요청 경로에서는 volatile 읽기만 수행한다.
+ */
+@Component
+@Slf4j
+public class AdmissionController {
+
+    private static final double SHED_STEP = 0.1;
+
+    public enum RejectReason {
+        PENDING, UPSTREAM, LATENCY
+    }
+
+    private final AdmissionProperties admissionProperties;
+    private final PerformanceMetrics performanceMetrics;
+    private final EventLoopLagMonitor lagMonitor;
+    private final Map<RejectReason, Counter> rejectedCounters = new EnumMap<>(RejectReason.class);
+
+    // 주기 평가 결과
+    private volatile long upstreamPending;
+    private volatile double shedRatio;
+    private long firstAboveTargetNanos; // 평가 스레드 전용
+
+    private Disposable evaluator;
+
+    public AdmissionController(AdmissionProperties admissionProperties, PerformanceMetrics performanceMetrics,
+            EventLoopLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.performanceMetrics = performanceMetrics;
+        this.lagMonitor = lagMonitor;
+        for (RejectReason reason : RejectReason.values()) {
+            rejectedCounters.put(reason, Counter.builder("kol.admission.rejected")
+                    .tag("reason", reason.name().toLowerCase())
+                    .description("Requests shed by the admission controller")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("kol.admission.shed.ratio", this, c -> c.shedRatio)
+                .description("Current latency-based shed ratio")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!admissionProperties.isEnabled()) {
+            return;
+        }
+        long interval = admissionProperties.getEvaluationInterval().toMillis();
+        evaluator = Schedulers.single().schedulePeriodically(this::evaluate, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (evaluator != null) {
+            evaluator.dispose();
+        }
+    }
+
+    /**
+     * 수용 여부 판단
+     *
+     * @return 수용이면 null, 거절이면 거절 사유
+     */
+    public RejectReason tryAdmit() {
+        if (!admissionProperties.isEnabled()) {
+            return null;
+        }
+        RejectReason reason = null;
+        if (performanceMetrics.getPendingRequests() >= admissionProperties.getMaxPendingRequests()) {
+            reason = RejectReason.PENDING;
+        } else if (upstreamPending >= admissionProperties.getMaxUpstreamPendingAcquire()) {
+            reason = RejectReason.UPSTREAM;
+        } else if (shedRatio > 0 && ThreadLocalRandom.current().nextDouble() < shedRatio) {
+            reason = RejectReason.LATENCY;
+        }
+        if (reason != null) {
+            rejectedCounters.get(reason).increment();
+        }
+        return reason;
+    }
+
+    /**
+     * 주기 평가 - 업스트림 풀 대기 수 갱신 및 CoDel 방식 과부하 판정
+     */
+    private void evaluate() {
+        try {
+            upstreamPending = performanceMetrics.upstreamPendingAcquire(PerformanceMetrics.SOAP_CLIENT_POOL);
+
+            long now = System.nanoTime();
+            long lag = lagMonitor.maxLagNanos();
+            if (lag < admissionProperties.getLagTarget().toNanos()) {
+                // target 아래: 과부하 해제, 거절 비율 빠르게 감소
+                firstAboveTargetNanos = 0;
+                shedRatio = shedRatio < SHED_STEP ? 0 : shedRatio / 2;
+            } else if (firstAboveTargetNanos == 0) {
+                firstAboveTargetNanos = now + admissionProperties.getLagInterval().toNanos();
+            } else if (now - firstAboveTargetNanos >= 0) {
+                // interval 이상 target 초과 지속: 거절 비율 단계적 증가
+                double next = Math.min(admissionProperties.getMaxShedRatio(), shedRatio + SHED_STEP);
+                if (shedRatio == 0) {
+                    log.warn("[Admission] 이벤트 루프 지연 과부하 감지 - lag: {}ms",
+                            TimeUnit.NANOSECONDS.toMillis(lag));
+                }
+                shedRatio = next;
+            }
+        } catch (Exception e) {
+            log.debug("[Admission] 평가 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.kt.kol.gateway.itg.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.properties.MemoryBudgetProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+/**
+ * 처리 중 페이로드 바이트 예산 (바이트 단위 세마포어)
+ *
+ * <p>
+ * 요청마다 {@link Reservation} 을 하나 열어 Reactor Context 로 전달하고, 요청 본문과 업스트림 응답은
+ * 버퍼링되는 DataBuffer 크기만큼 예산에서 차감한다. 파싱/변환된 객체도 원문과 비슷한 크기로 유지되므로
+ * 예약은 응답 전송이 끝날 때 한 번에 반환한다.
+ * <ul>
+ * <li>Content-Length 가 있는 요청은 본문을 읽기 전에 선예약 - 실패 시 즉시 503</li>
+ * <li>chunked 요청/업스트림 응답은 청크 단위 예약 - 초과 시 ServiceOverloadedException 으로 중단</li>
+ * </ul>
+ */
+@Component
+public class MemoryBudget {
+
+    public enum Stage {
+        REQUEST, RESPONSE
+    }
+
+    private final MemoryBudgetProperties properties;
+    private final AtomicLong reserved = new AtomicLong();
+    private final Counter requestRejected;
+    private final Counter responseAborted;
+
+    public MemoryBudget(MemoryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("kol.memory.budget.reserved", reserved, AtomicLong::get)
+                .description("Payload bytes currently reserved by in-flight requests")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("kol.memory.budget.limit", properties, p -> p.getMaxBytes().toBytes())
+                .description("Configured payload byte budget")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.requestRejected = Counter.builder("kol.memory.budget.rejected")
+                .tag("stage", "request")
+                .description("Requests rejected because the payload budget was exhausted")
+                .register(meterRegistry);
+        this.responseAborted = Counter.builder("kol.memory.budget.rejected")
+                .tag("stage", "response")
+                .description("Upstream responses aborted because the payload budget was exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 단위 예약 생성 - 비활성 상태면 항상 성공하는 예약 반환
+     */
+    public Reservation open() {
+        return properties.isEnabled() ? new Reservation(this) : Reservation.NOOP;
+    }
+
+    /**
+     * Content-Length 기반 선예약 - 실패 시 거절 카운트 기록
+     */
+    public boolean prepay(Reservation reservation, long contentLength) {
+        if (contentLength <= 0 || reservation.prepay(contentLength)) {
+            return true;
+        }
+        requestRejected.increment();
+        return false;
+    }
+
+    /**
+     * 본문 스트림의 각 청크를 Context 의 예약에서 차감 - 예약이 없으면 그대로 통과
+     */
+    public Flux<DataBuffer> track(Flux<DataBuffer> body, Stage stage) {
+        return Flux.deferContextual(ctx -> {
+            Reservation reservation = ctx.getOrDefault(Reservation.class, null);
+            if (reservation == null || reservation.budget == null) {
+                return body;
+            }
+            return body.handle((buffer, sink) -> {
+                if (reservation.reserve(buffer.readableByteCount())) {
+                    sink.next(buffer);
+                } else {
+                    DataBufferUtils.release(buffer);
+                    (stage == Stage.REQUEST ? requestRejected : responseAborted).increment();
+                    sink.error(new ServiceOverloadedException("Payload memory budget exceeded"));
+                }
+            });
+        });
+    }
+
+    public long getReservedBytes() {
+        return reserved.get();
+    }
+
+    private boolean tryAcquire(long bytes) {
+        long limit = properties.getMaxBytes().toBytes();
+        while (true) {
+            long current = reserved.get();
+            if (current + bytes > limit) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 하나가 보유한 예약 - 본문 청크는 순차 도착하지만 취소 시 close 와 경합할 수 있어 동기화
+     */
+    public static final class Reservation {
+
+        static final Reservation NOOP = new Reservation(null);
+
+        private final MemoryBudget budget;
+        private long held;   // 전역 예산에서 확보한 바이트
+        private long credit; // 선예약 중 아직 청크로 소비되지 않은 바이트
+        private boolean closed;
+
+        private Reservation(MemoryBudget budget) {
+            this.budget = budget;
+        }
+
+        synchronized boolean prepay(long bytes) {
+            if (budget == null) {
+                return true;
+            }
+            if (closed || !budget.tryAcquire(bytes)) {
+                return false;
+            }
+            held += bytes;
+            credit += bytes;
+            return true;
+        }
+
+        synchronized boolean reserve(long bytes) {
+            if (budget == null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            long fromCredit = Math.min(credit, bytes);
+            credit -= fromCredit;
+            long remaining = bytes - fromCredit;
+            if (remaining == 0) {
+                return true;
+            }
+            if (!budget.tryAcquire(remaining)) {
+                return false;
+            }
+            held += remaining;
+            return true;
+        }
+
+        /**
+         * 보유 예산 전체 반환 (멱등)
+         */
+        public synchronized void close() {
+            if (budget != null && !closed) {
+                closed = true;
+                budget.reserved.addAndGet(-held);
+                held = 0;
+                credit = 0;
+            }
+        }
+
+        public Context bindTo(Context context) {
+            return context.put(Reservation.class, this);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.kt.kol.gateway.itg.async;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.handler.ErrorResponseWriter;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.model.AsyncJobStatus;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.properties.AsyncJobProperties;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 비동기 작업 관리 (Prefer: respond-async)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>요청 검증 후 작업 id 를 발급하고 업스트림 호출은 클라이언트 연결과 분리하여 백그라운드로 수행</li>
+ * <li>결과는 로컬 저장소에 resultTtl 동안 보관 - GET /SoapJobs/{jobId} 로 조회</li>
+ * <li>X-Callback-Url 이 있으면 완료 시 결과를 POST (허용 호스트만)</li>
+ * <li>Pod 당 실행 중 작업 수(maxRunning)와 보관 작업 수(maxStored)를 넘으면 503</li>
+ * </ul>
+ * 저장소는 Pod 로컬이므로 폴링은 작업을 접수한 Pod 로 라우팅되어야 한다 (세션 어피니티 또는 콜백 사용).
+ */
+@Component
+@Slf4j
+public class AsyncJobManager {
+
+    private final AsyncJobProperties properties;
+    private final SoapProcessingService processingService;
+    private final MemoryBudget memoryBudget;
+    private final ObjectMapper objectMapper;
+    private final PerformanceMetrics performanceMetrics;
+
+    private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger stored = new AtomicInteger(); // jobs 크기 - 적재 전에 예약하여 maxStored 를 넘지 않음
+
+    private final Counter submittedCounter;
+    private final Counter rejectedCounter;
+    private final Counter callbackSuccess;
+    private final Counter callbackFailure;
+
+    private ConnectionProvider callbackConnections;
+    private WebClient callbackClient;
+    private Disposable sweeper;
+
+    public AsyncJobManager(AsyncJobProperties properties, SoapProcessingService processingService,
+            MemoryBudget memoryBudget, ObjectMapper objectMapper, PerformanceMetrics performanceMetrics,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.processingService = processingService;
+        this.memoryBudget = memoryBudget;
+        this.objectMapper = objectMapper;
+        this.performanceMetrics = performanceMetrics;
+
+        this.submittedCounter = Counter.builder("kol.async.jobs.submitted")
+                .description("Async jobs accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("kol.async.jobs.rejected")
+                .description("Async jobs rejected because the pod job capacity was reached")
+                .register(meterRegistry);
+        this.callbackSuccess = Counter.builder("kol.async.callback")
+                .tag("result", "success")
+                .description("Async job result callbacks")
+                .register(meterRegistry);
+        this.callbackFailure = Counter.builder("kol.async.callback")
+                .tag("result", "failure")
+                .description("Async job result callbacks")
+                .register(meterRegistry);
+        Gauge.builder("kol.async.jobs.running", running, AtomicInteger::get)
+                .description("Async jobs currently calling the upstream")
+                .register(meterRegistry);
+        Gauge.builder("kol.async.jobs.stored", stored, AtomicInteger::get)
+                .description("Async jobs stored (running or awaiting result retrieval)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        callbackConnections = ConnectionProvider.builder("async-callback")
+                .maxConnections(50)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true, performanceMetrics::poolRegistrar)
+                .build();
+        callbackClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(performanceMetrics
+                        .instrumentPool(HttpClient.create(callbackConnections), "async-callback")
+                        .responseTimeout(properties.getCallbackTimeout())))
+                .build();
+        long interval = properties.getSweepInterval().toMillis();
+        sweeper = Schedulers.parallel().schedulePeriodically(this::sweepExpired, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+        if (callbackConnections != null) {
+            callbackConnections.disposeLater().subscribe();
+        }
+    }
+
+    /**
+     * Prefer 헤더에 respond-async 가 포함되었는지 확인 (비활성 시 항상 false)
+     */
+    public boolean isAsyncRequested(ServerWebExchange exchange) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        for (String prefer : exchange.getRequest().getHeaders().getOrEmpty(HeaderConstants.PREFER)) {
+            for (String token : StringUtils.commaDelimitedListToStringArray(prefer)) {
+                if (HeaderConstants.PREFER_RESPOND_ASYNC.equalsIgnoreCase(token.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 본문을 읽기 전 빠른 용량 확인 (확정 판단은 submit)
+     */
+    public boolean hasCapacity() {
+        return running.get() < properties.getMaxRunning() && stored.get() < properties.getMaxStored();
+    }
+
+    /**
+     * 작업 접수 - 백그라운드 호출 시작 후 PENDING 상태 반환
+     *
+     * @param sample 요청 처리 시간 측정 - 접수(202)가 아니라 작업 완료 시점에 성공/실패로 기록
+     * @throws InvalidRequestException     허용되지 않은 콜백 URL
+     * @throws ServiceOverloadedException 작업 용량 초과
+     */
+    public AsyncJobStatus submit(ServerWebExchange exchange, RequestStdVO request, Timer.Sample sample) {
+        URI callback = resolveCallback(exchange.getRequest().getHeaders().getFirst(HeaderConstants.CALLBACK_URL));
+
+        if (!tryAcquire(stored, properties.getMaxStored())) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Async job capacity exceeded");
+        }
+        if (!tryAcquire(running, properties.getMaxRunning())) {
+            stored.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Async job capacity exceeded");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), callback);
+        jobs.put(job.id, job);
+        submittedCounter.increment();
+
+        // 클라이언트 요청과 분리된 작업 단위 메모리 예약
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+        processingService.processSoapRequest(exchange, request)
+                .contextWrite(reservation::bindTo)
+                .doFinally(signal -> {
+                    reservation.close();
+                    running.decrementAndGet();
+                })
+                .subscribe(
+                        response -> {
+                            performanceMetrics.recordSoapSuccess(sample);
+                            complete(job, AsyncJobStatus.completed(job.id, response));
+                        },
+                        error -> {
+                            performanceMetrics.recordSoapError(sample, error.getClass().getSimpleName());
+                            HttpStatus status = ErrorResponseWriter.statusOf(error);
+                            ErrorResponseWriter.logFailure(StageTimings.from(exchange), status, error);
+                            complete(job, AsyncJobStatus.failed(job.id, status.value(), error));
+                        });
+
+        log.debug("[AsyncJob] 접수 - jobId: {}, callback: {}", job.id, callback);
+        return job.status;
+    }
+
+    /**
+     * 작업 상태 조회 - 없거나 만료되었으면 null
+     */
+    public AsyncJobStatus find(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return job.status;
+    }
+
+    private static boolean tryAcquire(AtomicInteger count, int max) {
+        while (true) {
+            int current = count.get();
+            if (current >= max) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void complete(Job job, AsyncJobStatus status) {
+        job.expiresAtNanos = System.nanoTime() + properties.getResultTtl().toNanos();
+        job.status = status;
+        if (job.callback != null) {
+            sendCallback(job.callback, status);
+        }
+    }
+
+    private void sendCallback(URI callback, AsyncJobStatus status) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(status);
+        } catch (Exception e) {
+            callbackFailure.increment();
+            log.warn("[AsyncJob] 콜백 직렬화 실패 - jobId: {}", status.jobId(), e);
+            return;
+        }
+        callbackClient.post()
+                .uri(callback)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(properties.getCallbackTimeout())
+                .subscribe(
+                        entity -> callbackSuccess.increment(),
+                        error -> {
+                            callbackFailure.increment();
+                            log.warn("[AsyncJob] 콜백 실패 - jobId: {}, url: {}, error: {}",
+                                    status.jobId(), callback, error.getMessage());
+                        });
+    }
+
+    /**
+     * 콜백 URL 검증 - http/https 이고 허용 호스트 목록에 있어야 함 (SSRF 방지)
+     */
+    private URI resolveCallback(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        URI uri;
+        try {
+            uri = URI.create(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid callback URL");
+        }
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : null;
+        boolean allowed = host != null && ("http".equals(scheme) || "https".equals(scheme))
+                && properties.getCallbackAllowedHosts().stream().anyMatch(host::equalsIgnoreCase);
+        if (!allowed) {
+            throw new InvalidRequestException("Callback host not allowed: " + host);
+        }
+        return uri;
+    }
+
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        jobs.forEach((id, job) -> {
+            if (job.isExpired(now) && jobs.remove(id, job)) {
+                stored.decrementAndGet();
+            }
+        });
+    }
+
+    private static final class Job {
+        final String id;
+        final URI callback;
+        volatile AsyncJobStatus status;
+        volatile long expiresAtNanos; // 완료 전에는 의미 없음
+
+        Job(String id, URI callback) {
+            this.id = id;
+            this.callback = callback;
+            this.status = AsyncJobStatus.pending(id);
+        }
+
+        boolean isExpired(long now) {
+            return status.status() != AsyncJobStatus.State.PENDING && now - expiresAtNanos > 0;
+        }
+    }
+}
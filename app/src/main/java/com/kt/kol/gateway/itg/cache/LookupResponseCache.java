@@ -0,0 +1,286 @@
+package com.kt.kol.gateway.itg.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.CacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 조회성 SOAP 응답 로컬 캐시
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>lookup 접두어 fnName의 정상(I) 응답을 엔티티 키(oderId) 단위로 캐싱</li>
+ * <li>업스트림 결과를 바꾸는 입력(해결된 엔드포인트, KOL-Cmpn-Cd/KOL-User-Id/KOL-Src-Id)은 캐시 키에 포함하고,
+ * options(lock/token/businessKey)가 있는 요청은 호출자 세션에 묶이므로 캐싱하지 않음</li>
+ * <li>mutation 접두어 fnName 처리 시 해당 엔티티 캐시를 로컬에서 제거하고 peer로 전파
+ * (fire-and-forget 요청은 적재 시점과 업스트림 전달 성공 시점에 {@link #invalidateOrder})</li>
+ * <li>peer로부터 받은 무효화 키를 로컬 캐시에 반영</li>
+ * </ul>
+ *
+ * 무효화가 Pod 간 전파되므로 TTL을 길게 가져가도 변경 이후 stale 응답을 반환하지 않는다.
+ * 무효화마다 세대(generation)를 올리고 엔티티별 마지막 무효화 세대를 기록해 두어, 무효화 이전에 시작된 조회가
+ * 무효화 이후에 끝나더라도 그 응답은 캐시에 다시 넣지 않는다.
+ *
+ * @see PeerInvalidationChannel
+ */
+@Component
+@Slf4j
+public class LookupResponseCache {
+
+    private static final String ENTITY_KEY_PREFIX = "orderId:";
+
+    private final CacheProperties cacheProperties;
+    private final PeerInvalidationChannel invalidationChannel;
+
+    // cacheKey -> 응답, entityKey -> cacheKey 목록
+    private final ConcurrentMap<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> entityIndex = new ConcurrentHashMap<>();
+
+    // entityKey -> 마지막 무효화 (sweepInterval 이 지나면 정리하고 그 세대는 sweptGeneration 으로 보수적으로 반영)
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentMap<String, Eviction> evictions = new ConcurrentHashMap<>();
+    private volatile long sweptGeneration;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Counter discardCounter;
+
+    private Disposable sweeper;
+
+    public LookupResponseCache(CacheProperties cacheProperties, PeerInvalidationChannel invalidationChannel,
+            MeterRegistry meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        this.invalidationChannel = invalidationChannel;
+        this.hitCounter = Counter.builder("kol.cache.lookup.hit")
+                .description("Lookup cache hits")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("kol.cache.lookup.miss")
+                .description("Lookup cache misses")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("kol.cache.invalidations")
+                .description("Entity invalidations applied to the local cache")
+                .register(meterRegistry);
+        this.discardCounter = Counter.builder("kol.cache.lookup.discarded")
+                .description("Lookup responses not cached because the entity was invalidated in flight")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("kol.cache.lookup.size", List.of(), entries);
+    }
+
+    @PostConstruct
+    public void init() {
+        invalidationChannel.onInvalidation(this::evictEntity);
+        if (cacheProperties.isEnabled()) {
+            long interval = cacheProperties.getSweepInterval().toMillis();
+            sweeper = Schedulers.parallel().schedulePeriodically(this::sweepExpired, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    /**
+     * 캐시 조회 - 캐시 대상이면 키와 조회 시작 시점의 세대를 담아 반환 (대상이 아니면 {@link Lookup#NONE})
+     *
+     * @param endpoint 호출자가 결정한 업스트림 엔드포인트 (결정하지 못했으면 null - 캐시 대상 아님)
+     */
+    public Lookup lookup(RequestStdVO request, HttpHeaders headers, String endpoint) {
+        if (endpoint == null || !isLookup(request)) {
+            return Lookup.NONE;
+        }
+        String cacheKey = cacheKey(request, headers, endpoint);
+        if (cacheKey == null) {
+            return Lookup.NONE;
+        }
+        long startGeneration = generation.get();
+        String entityKey = entityKey(request.svcRequestInfoDTO());
+        CacheEntry entry = entries.get(cacheKey);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            missCounter.increment();
+            return new Lookup(cacheKey, entityKey, startGeneration, null);
+        }
+        hitCounter.increment();
+        return new Lookup(cacheKey, entityKey, startGeneration, entry.response());
+    }
+
+    /**
+     * 백엔드 응답 반영 - 조회는 캐싱, 변경은 엔티티 무효화 및 전파
+     *
+     * @param lookup 요청 처리 전 {@link #lookup} 결과
+     */
+    public void onResponse(Lookup lookup, RequestStdVO request, ResponseStdVO response) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+        if (isMutation(request)) {
+            invalidateOrder(request.svcRequestInfoDTO().oderId());
+        } else if (lookup.cacheKey() != null && response.responseType() == ResponseStdVO.ResponseType.I
+                && entries.size() < cacheProperties.getMaxEntries()) {
+            put(lookup, response);
+        }
+    }
+
+    private void put(Lookup lookup, ResponseStdVO response) {
+        if (invalidatedSince(lookup)) {
+            discardCounter.increment();
+            return;
+        }
+        String cacheKey = lookup.cacheKey();
+        long expiresAt = System.nanoTime() + cacheProperties.getTtl().toNanos();
+        CacheEntry entry = new CacheEntry(response, expiresAt, lookup.entityKey());
+        entries.put(cacheKey, entry);
+        entityIndex.compute(lookup.entityKey(), (k, keys) -> {
+            Set<String> target = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            target.add(cacheKey);
+            return target;
+        });
+        // evictEntity 는 세대 기록 후 인덱스를 비우므로, 적재 도중 무효화되면 여기서 보이거나 그쪽에서 제거된다
+        if (invalidatedSince(lookup) && entries.remove(cacheKey, entry)) {
+            discardCounter.increment();
+        }
+    }
+
+    /**
+     * 조회 시작 이후 해당 엔티티가 무효화되었는지 (정리된 기록보다 오래된 조회는 무효화된 것으로 간주)
+     */
+    private boolean invalidatedSince(Lookup lookup) {
+        if (sweptGeneration > lookup.generation()) {
+            return true;
+        }
+        Eviction eviction = evictions.get(lookup.entityKey());
+        return eviction != null && eviction.generation() > lookup.generation();
+    }
+
+    /**
+     * 주문(oderId) 엔티티 캐시를 로컬에서 제거하고 peer 로 전파
+     */
+    public void invalidateOrder(String oderId) {
+        if (!cacheProperties.isEnabled() || !StringUtils.hasText(oderId)) {
+            return;
+        }
+        String entityKey = ENTITY_KEY_PREFIX + oderId;
+        evictEntity(entityKey);
+        invalidationChannel.publish(entityKey);
+    }
+
+    /**
+     * 엔티티 키에 해당하는 캐시 제거 (로컬 전용)
+     */
+    public void evictEntity(String entityKey) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+        evictions.merge(entityKey, new Eviction(generation.incrementAndGet(), System.nanoTime()),
+                (previous, current) -> previous.generation() > current.generation() ? previous : current);
+        Set<String> cacheKeys = entityIndex.remove(entityKey);
+        if (cacheKeys != null) {
+            cacheKeys.forEach(entries::remove);
+            invalidationCounter.increment();
+            log.debug("[LookupCache] 무효화 - entity: {}, entries: {}", entityKey, cacheKeys.size());
+        }
+    }
+
+    private boolean isLookup(RequestStdVO request) {
+        return cacheProperties.isEnabled()
+                && entityKey(request.svcRequestInfoDTO()) != null
+                && startsWithAny(request.svcRequestInfoDTO().fnName(), cacheProperties.getLookupFnPrefixes());
+    }
+
+    private boolean isMutation(RequestStdVO request) {
+        return startsWithAny(request.svcRequestInfoDTO().fnName(), cacheProperties.getMutationFnPrefixes());
+    }
+
+    private static boolean startsWithAny(String fnName, List<String> prefixes) {
+        if (fnName == null) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (fnName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String entityKey(SvcRequestInfoDTO info) {
+        return StringUtils.hasText(info.oderId()) ? ENTITY_KEY_PREFIX + info.oderId() : null;
+    }
+
+    /**
+     * 캐시 키 - options 가 있으면 캐싱 대상 아님 (null)
+     */
+    private static String cacheKey(RequestStdVO request, HttpHeaders headers, String endpoint) {
+        SvcRequestInfoDTO info = request.svcRequestInfoDTO();
+        if (info.options() != null && !info.options().isEmpty()) {
+            return null;
+        }
+        return endpoint + '|' + headers.getFirst(HeaderConstants.CMPN_CD) + '|'
+                + headers.getFirst(HeaderConstants.USER_ID) + '|' + headers.getFirst(HeaderConstants.SOURCE_ID) + '|'
+                + info.appName() + '|' + info.svcName() + '|' + info.fnName() + '|' + info.oderId() + '|'
+                + request.data();
+    }
+
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        entries.forEach((cacheKey, entry) -> {
+            if (entry.isExpired(now) && entries.remove(cacheKey, entry)) {
+                Set<String> keys = entityIndex.get(entry.entityKey());
+                if (keys != null) {
+                    keys.remove(cacheKey);
+                }
+            }
+        });
+        entityIndex.keySet().forEach(entityKey -> entityIndex.computeIfPresent(entityKey,
+                (k, keys) -> keys.isEmpty() ? null : keys));
+        long horizon = now - cacheProperties.getSweepInterval().toNanos();
+        evictions.forEach((entityKey, eviction) -> {
+            if (horizon - eviction.atNanos() > 0) {
+                sweptGeneration = Math.max(sweptGeneration, eviction.generation());
+                evictions.remove(entityKey, eviction);
+            }
+        });
+    }
+
+    /**
+     * {@link #lookup} 결과 - cacheKey 가 null 이면 캐시 대상 아님, cached 가 null 이 아니면 캐시 적중
+     */
+    public record Lookup(String cacheKey, String entityKey, long generation, ResponseStdVO cached) {
+        public static final Lookup NONE = new Lookup(null, null, 0, null);
+    }
+
+    private record Eviction(long generation, long atNanos) {
+    }
+
+    private record CacheEntry(ResponseStdVO response, long expiresAtNanos, String entityKey) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
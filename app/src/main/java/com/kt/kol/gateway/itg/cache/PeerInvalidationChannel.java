@@ -0,0 +1,234 @@
+package com.kt.kol.gateway.itg.cache;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.kt.kol.gateway.itg.properties.CacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gateway Pod 간 캐시 무효화 키 전파 채널 (UDP, 브로커 불필요)
+ *
+ * <p>
+ * 설정된 peer 목록으로 무효화 키를 datagram 한 건으로 전송하고, 수신한 키는 등록된 리스너에 전달한다.
+ * 전송 실패/유실은 TTL로 보완되므로 재전송하지 않는다.
+ *
+ * <pre>
+ * 패킷 구조: magic(2) | version(1) | originId(8) | seq(8) | keyLength(2) | key(UTF-8)
+ * </pre>
+ *
+ * 한 머신에서 여러 JVM을 띄울 때는 인스턴스마다 port만 다르게 주고 peers에 localhost:port 목록을 준다.
+ *
+ * <p>
+ * 인증이 없는 채널이므로 bindAddress 를 주지 않으면 peer 로 나가는 인터페이스 주소에만 바인딩하고,
+ * 송신 주소가 설정된 peer(host:port)가 아닌 패킷은 버린다.
+ */
+@Component
+@Slf4j
+public class PeerInvalidationChannel {
+
+    private static final short MAGIC = (short) 0x4B49; // "KI"
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 2 + 1 + 8 + 8 + 2;
+    private static final int MAX_KEY_BYTES = 1024;
+
+    private final CacheProperties cacheProperties;
+    private final long originId = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<InetSocketAddress> peers = new ArrayList<>();
+    private final Set<InetSocketAddress> allowedSources = new HashSet<>();
+
+    private final Counter sentCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    private volatile Consumer<String> listener = key -> {
+    };
+    private DatagramChannel channel;
+    private Thread receiver;
+
+    public PeerInvalidationChannel(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        this.sentCounter = Counter.builder("kol.cache.invalidation.sent")
+                .description("Invalidation messages sent to peers")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("kol.cache.invalidation.received")
+                .description("Invalidation messages received from peers")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("kol.cache.invalidation.failed")
+                .description("Invalidation messages failed to send or decode")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("kol.cache.invalidation.dropped")
+                .description("Invalidation messages dropped because the sender is not a configured peer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        CacheProperties.Peer peer = cacheProperties.getPeer();
+        if (!cacheProperties.isEnabled() || peer.getPort() <= 0) {
+            log.info("[PeerInvalidation] 비활성 - enabled: {}, port: {}", cacheProperties.isEnabled(), peer.getPort());
+            return;
+        }
+
+        for (String address : peer.getPeers()) {
+            int idx = address.lastIndexOf(':');
+            if (idx <= 0) {
+                throw new IllegalStateException("Invalid peer address (host:port expected): " + address);
+            }
+            InetSocketAddress target = new InetSocketAddress(address.substring(0, idx),
+                    Integer.parseInt(address.substring(idx + 1)));
+            if (target.isUnresolved()) {
+                log.warn("[PeerInvalidation] peer 주소 해석 실패 - {}", address);
+                continue;
+            }
+            peers.add(target);
+            allowedSources.add(target);
+        }
+
+        InetAddress bindAddress = resolveBindAddress(peer.getBindAddress());
+        channel = DatagramChannel.open();
+        channel.bind(new InetSocketAddress(bindAddress, peer.getPort()));
+
+        receiver = new Thread(this::receiveLoop, "cache-invalidation-rx");
+        receiver.setDaemon(true);
+        receiver.start();
+
+        log.info("[PeerInvalidation] 시작 - bind: {}, peers: {}", channel.getLocalAddress(), peers);
+    }
+
+    /**
+     * 바인딩 주소 - 지정하지 않으면 loopback 이 아닌 첫 peer 로 향하는 로컬 인터페이스 (peer 가 모두 loopback 이면 loopback)
+     */
+    private InetAddress resolveBindAddress(String configured) throws IOException {
+        if (StringUtils.hasText(configured)) {
+            return InetAddress.getByName(configured);
+        }
+        for (InetSocketAddress target : peers) {
+            if (target.getAddress().isLoopbackAddress()) {
+                continue;
+            }
+            try (DatagramChannel probe = DatagramChannel.open()) {
+                probe.connect(target); // UDP connect 는 경로만 결정하고 패킷을 보내지 않음
+                return ((InetSocketAddress) probe.getLocalAddress()).getAddress();
+            }
+        }
+        return InetAddress.getLoopbackAddress();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * 수신한 무효화 키를 처리할 리스너 등록
+     */
+    public void onInvalidation(Consumer<String> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 모든 peer로 무효화 키 전송 (best-effort)
+     */
+    public void publish(String key) {
+        if (channel == null || peers.isEmpty()) {
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > MAX_KEY_BYTES) {
+            failedCounter.increment();
+            log.warn("[PeerInvalidation] 키 길이 초과로 전송 생략 - length: {}", keyBytes.length);
+            return;
+        }
+
+        ByteBuffer packet = ByteBuffer.allocate(HEADER_SIZE + keyBytes.length)
+                .putShort(MAGIC)
+                .put(VERSION)
+                .putLong(originId)
+                .putLong(sequence.incrementAndGet())
+                .putShort((short) keyBytes.length)
+                .put(keyBytes);
+
+        for (InetSocketAddress target : peers) {
+            try {
+                packet.rewind();
+                channel.send(packet, target);
+                sentCounter.increment();
+            } catch (IOException e) {
+                failedCounter.increment();
+                log.debug("[PeerInvalidation] 전송 실패 - target: {}, error: {}", target, e.getMessage());
+            }
+        }
+    }
+
+    private void receiveLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + MAX_KEY_BYTES);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                SocketAddress source = channel.receive(buffer);
+                if (!allowedSources.contains(source)) {
+                    droppedCounter.increment();
+                    log.debug("[PeerInvalidation] 설정되지 않은 송신자 패킷 폐기 - source: {}", source);
+                    continue;
+                }
+                buffer.flip();
+                String key = decode(buffer);
+                if (key != null) {
+                    receivedCounter.increment();
+                    listener.accept(key);
+                }
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.debug("[PeerInvalidation] 수신 처리 실패 - error: {}", e.getMessage());
+            }
+        }
+        log.info("[PeerInvalidation] 수신 종료");
+    }
+
+    /**
+     * 패킷 디코딩 - 형식이 맞지 않거나 자기 자신이 보낸 메시지면 null
+     */
+    private String decode(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getShort() != MAGIC || buffer.get() != VERSION) {
+            failedCounter.increment();
+            return null;
+        }
+        long origin = buffer.getLong();
+        buffer.getLong(); // seq - 현재는 진단용
+        int length = buffer.getShort() & 0xFFFF;
+        if (origin == originId || length > buffer.remaining()) {
+            return null;
+        }
+        byte[] keyBytes = new byte[length];
+        buffer.get(keyBytes);
+        return new String(keyBytes, StandardCharsets.UTF_8);
+    }
+}
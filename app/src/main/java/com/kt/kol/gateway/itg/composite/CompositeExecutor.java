@@ -0,0 +1,317 @@
+package com.kt.kol.gateway.itg.composite;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.handler.ErrorResponseWriter;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.model.CompositeRequest;
+import com.kt.kol.gateway.itg.model.CompositeResponse;
+import com.kt.kol.gateway.itg.model.CompositeResponse.NodeResult;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.CompositeProperties;
+import com.kt.kol.gateway.itg.service.RequestValidationService;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 복합 요청(DAG) 실행기
+ *
+ * <p>
+ * 노드 그래프를 검증(중복 id, 미정의 참조, 순환)한 뒤 위상 순서로 노드별 Mono 를 구성한다.
+ * 각 노드는 선행 노드 결과가 모두 도착하면 bindings 를 적용해 SoapProcessingService 로 호출되므로,
+ * 서로 의존하지 않는 노드는 병렬로 실행된다.
+ * <ul>
+ * <li>노드 오류/타임아웃(504)과 업스트림 오류 응답(responseType E/S)은 해당 노드 결과로만 기록 (partial)</li>
+ * <li>선행 노드가 실패한 노드는 호출하지 않고 424(FAILED_DEPENDENCY)로 기록</li>
+ * <li>원본 값이 없는 binding 은 422 로 기록</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class CompositeExecutor {
+
+    private static final char SOURCE_SEPARATOR = ':';
+
+    private final ObjectMapper objectMapper;
+    private final RequestValidationService validationService;
+    private final SoapProcessingService processingService;
+    private final CompositeProperties properties;
+
+    private final Counter nodeSuccess;
+    private final Counter nodeError;
+    private final Counter nodeSkipped;
+
+    public CompositeExecutor(ObjectMapper objectMapper, RequestValidationService validationService,
+            SoapProcessingService processingService, CompositeProperties properties,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.validationService = validationService;
+        this.processingService = processingService;
+        this.properties = properties;
+        this.nodeSuccess = nodeCounter(meterRegistry, "success");
+        this.nodeError = nodeCounter(meterRegistry, "error");
+        this.nodeSkipped = nodeCounter(meterRegistry, "skipped");
+    }
+
+    /**
+     * 복합 요청 실행 - 그래프 검증 실패 시 InvalidRequestException
+     */
+    public Mono<CompositeResponse> execute(ServerWebExchange exchange, CompositeRequest request) {
+        List<PlannedNode> plan;
+        try {
+            plan = plan(request);
+        } catch (InvalidRequestException e) {
+            return Mono.error(e);
+        }
+
+        // 클라이언트 취소 시 아직 실행 중인 노드도 중단 (cache 는 구독 취소를 원본에 전파하지 않음)
+        Sinks.Empty<Void> cancelled = Sinks.empty();
+        Map<String, Mono<NodeResult>> results = new HashMap<>();
+        for (PlannedNode node : plan) {
+            Mono<Map<String, NodeResult>> upstream = node.dependsOn().isEmpty()
+                    ? Mono.just(Map.of())
+                    : Flux.fromIterable(node.dependsOn())
+                            .flatMap(id -> results.get(id).map(result -> Map.entry(id, result)))
+                            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+            results.put(node.id(), upstream
+                    .flatMap(dependencies -> runNode(exchange, node, dependencies))
+                    .takeUntilOther(cancelled.asMono())
+                    .cache());
+        }
+
+        return Flux.fromIterable(plan)
+                .flatMap(node -> results.get(node.id()).map(result -> Map.entry(node.id(), result)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(completed -> {
+                    // 응답 results 는 요청 노드 순서 유지
+                    Map<String, NodeResult> ordered = new LinkedHashMap<>();
+                    boolean partial = false;
+                    for (CompositeRequest.Node node : request.nodes()) {
+                        NodeResult result = completed.get(node.id());
+                        ordered.put(node.id(), result);
+                        partial |= !result.isSuccess();
+                    }
+                    return new CompositeResponse(partial, ordered);
+                })
+                .doOnCancel(cancelled::tryEmitEmpty);
+    }
+
+    private Mono<NodeResult> runNode(ServerWebExchange exchange, PlannedNode node,
+            Map<String, NodeResult> dependencies) {
+        for (String dependency : node.dependsOn()) {
+            NodeResult result = dependencies.get(dependency);
+            if (result == null || !result.isSuccess()) {
+                nodeSkipped.increment();
+                return Mono.just(NodeResult.failure(HttpStatus.FAILED_DEPENDENCY.value(), "DependencyFailed",
+                        "Dependency failed: " + dependency));
+            }
+        }
+        return Mono.fromCallable(() -> bind(node, dependencies))
+                .flatMap(request -> processingService.processSoapRequest(exchange, request))
+                .timeout(node.timeout())
+                .map(response -> response.responseType() == ResponseStdVO.ResponseType.I
+                        ? NodeResult.success(response)
+                        : NodeResult.errorResponse(response))
+                .doOnNext(result -> (result.isSuccess() ? nodeSuccess : nodeError).increment())
+                .onErrorResume(error -> {
+                    nodeError.increment();
+                    log.debug("[Composite] 노드 실패 - id: {}, error: {}", node.id(), error.getMessage());
+                    int status = statusOf(error);
+                    ErrorResponseWriter.logFailure(StageTimings.from(exchange), HttpStatus.valueOf(status), error);
+                    return Mono.just(NodeResult.failure(status, error.getClass().getSimpleName(),
+                            error.getMessage()));
+                });
+    }
+
+    /**
+     * bindings 적용 후 RequestStdVO 변환 및 필수 필드 검증
+     */
+    private RequestStdVO bind(PlannedNode node, Map<String, NodeResult> dependencies) {
+        if (node.request() == null || !node.request().isObject()) {
+            throw new InvalidRequestException("Node request must be a JSON object: " + node.id());
+        }
+        ObjectNode tree = ((ObjectNode) node.request()).deepCopy();
+        Map<String, JsonNode> sources = new HashMap<>();
+        for (Binding binding : node.bindings()) {
+            JsonNode source = sources.computeIfAbsent(binding.sourceId(),
+                    id -> objectMapper.valueToTree(dependencies.get(id).response()));
+            JsonNode value = source.at(binding.sourcePointer());
+            if (value.isMissingNode()) {
+                throw new UnresolvedBindingException("Unresolved binding " + binding.sourceId()
+                        + SOURCE_SEPARATOR + binding.sourcePointer() + " for node " + node.id());
+            }
+            JsonPointer parent = binding.target().head();
+            ObjectNode container = parent == null || parent.matches() ? tree : tree.withObject(parent);
+            container.set(binding.target().last().getMatchingProperty(), value.deepCopy());
+        }
+
+        RequestStdVO request;
+        try {
+            request = objectMapper.treeToValue(tree, RequestStdVO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Invalid node request " + node.id() + ": " + e.getOriginalMessage());
+        }
+        validationService.validate(request);
+        return request;
+    }
+
+    /**
+     * 그래프 검증 및 위상 정렬 (Kahn)
+     */
+    private List<PlannedNode> plan(CompositeRequest request) {
+        if (request == null || request.nodes() == null || request.nodes().isEmpty()) {
+            throw new InvalidRequestException("Composite request must contain nodes");
+        }
+        if (request.nodes().size() > properties.getMaxNodes()) {
+            throw new InvalidRequestException(
+                    "Composite size " + request.nodes().size() + " exceeds limit " + properties.getMaxNodes());
+        }
+
+        Map<String, PlannedNode> nodes = new LinkedHashMap<>();
+        for (CompositeRequest.Node node : request.nodes()) {
+            if (node == null || !StringUtils.hasText(node.id())) {
+                throw new InvalidRequestException("Composite node id is required");
+            }
+            if (nodes.containsKey(node.id())) {
+                throw new InvalidRequestException("Duplicate composite node id: " + node.id());
+            }
+            nodes.put(node.id(), toPlannedNode(node));
+        }
+
+        Map<String, Integer> inDegree = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (PlannedNode node : nodes.values()) {
+            for (String dependency : node.dependsOn()) {
+                if (!nodes.containsKey(dependency)) {
+                    throw new InvalidRequestException("Unknown dependency " + dependency + " in node " + node.id());
+                }
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(node.id());
+            }
+            inDegree.put(node.id(), node.dependsOn().size());
+        }
+
+        ArrayDeque<String> ready = new ArrayDeque<>();
+        inDegree.forEach((id, degree) -> {
+            if (degree == 0) {
+                ready.add(id);
+            }
+        });
+        List<PlannedNode> ordered = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            String id = ready.poll();
+            ordered.add(nodes.get(id));
+            for (String dependent : dependents.getOrDefault(id, List.of())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ordered.size() < nodes.size()) {
+            List<String> cyclic = new ArrayList<>();
+            inDegree.forEach((id, degree) -> {
+                if (degree > 0) {
+                    cyclic.add(id);
+                }
+            });
+            throw new InvalidRequestException("Cycle detected among composite nodes: " + cyclic);
+        }
+        return ordered;
+    }
+
+    private PlannedNode toPlannedNode(CompositeRequest.Node node) {
+        Set<String> dependsOn = new LinkedHashSet<>();
+        if (node.dependsOn() != null) {
+            dependsOn.addAll(node.dependsOn());
+        }
+        List<Binding> bindings = new ArrayList<>();
+        if (node.bindings() != null) {
+            node.bindings().forEach((target, source) -> {
+                Binding binding = parseBinding(node.id(), target, source);
+                dependsOn.add(binding.sourceId());
+                bindings.add(binding);
+            });
+        }
+
+        Duration timeout = node.timeoutMs() != null && node.timeoutMs() > 0
+                ? Duration.ofMillis(node.timeoutMs())
+                : properties.getDefaultNodeTimeout();
+        if (timeout.compareTo(properties.getMaxNodeTimeout()) > 0) {
+            timeout = properties.getMaxNodeTimeout();
+        }
+        return new PlannedNode(node.id(), node.request(), List.copyOf(dependsOn), bindings, timeout);
+    }
+
+    private static Binding parseBinding(String nodeId, String target, String source) {
+        int separator = source != null ? source.indexOf(SOURCE_SEPARATOR) : -1;
+        if (separator <= 0) {
+            throw new InvalidRequestException("Binding source must be 'nodeId:/pointer' in node " + nodeId);
+        }
+        try {
+            JsonPointer targetPointer = JsonPointer.compile(target);
+            if (targetPointer.matches()) {
+                throw new InvalidRequestException("Binding target must not be empty in node " + nodeId);
+            }
+            return new Binding(targetPointer, source.substring(0, separator),
+                    JsonPointer.compile(source.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid binding pointer in node " + nodeId + ": " + e.getMessage());
+        }
+    }
+
+    private static int statusOf(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return HttpStatus.GATEWAY_TIMEOUT.value();
+        }
+        if (error instanceof UnresolvedBindingException) {
+            return HttpStatus.UNPROCESSABLE_ENTITY.value();
+        }
+        return ErrorResponseWriter.statusOf(error).value();
+    }
+
+    private static Counter nodeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("kol.composite.nodes")
+                .tag("result", result)
+                .description("Composite request nodes by outcome")
+                .register(meterRegistry);
+    }
+
+    private record PlannedNode(String id, JsonNode request, List<String> dependsOn, List<Binding> bindings,
+            Duration timeout) {
+    }
+
+    private record Binding(JsonPointer target, String sourceId, JsonPointer sourcePointer) {
+    }
+
+    private static final class UnresolvedBindingException extends RuntimeException {
+        UnresolvedBindingException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
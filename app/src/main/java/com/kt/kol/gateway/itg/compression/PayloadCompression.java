@@ -0,0 +1,443 @@
+package com.kt.kol.gateway.itg.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.common.util.RouteIds;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.properties.CompressionProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트 응답 압축 및 압축 요청 본문 해제
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>Accept-Encoding 협상(gzip, deflate) 후 minResponseSize 이상 응답은 직렬화 출력을 바로 압축하여 chunkSize 단위 풀 버퍼로 전송</li>
+ * <li>Deflater 는 코덱별 풀에서 재사용 - 네이티브 zlib 스트림 생성/해제 비용 제거</li>
+ * <li>Content-Encoding: gzip/deflate 요청 본문은 청크가 도착하는 대로 해제 (전체 버퍼링 없음)</li>
+ * <li>라우트/코덱/방향별 압축 CPU 시간(kol.compression.duration)과 압축률(kol.compression.ratio) 기록</li>
+ * </ul>
+ */
+@Component
+public class PayloadCompression {
+
+    /**
+     * 지원 코덱 (HTTP content-coding 토큰)
+     */
+    public enum Codec {
+        GZIP("gzip"), DEFLATE("deflate");
+
+        private final String token;
+
+        Codec(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        static Codec fromToken(String token) {
+            return switch (token.toLowerCase(Locale.ROOT)) {
+                case "gzip", "x-gzip" -> GZIP;
+                case "deflate" -> DEFLATE;
+                default -> null;
+            };
+        }
+    }
+
+    private static final String RESPONSE = "response";
+    private static final String REQUEST = "request";
+
+    // gzip 고정 헤더: magic, CM=deflate, FLG=0, MTIME=0, XFL=0, OS=unknown
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final CompressionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final DeflaterPool gzipPool;
+    private final DeflaterPool deflatePool;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public PayloadCompression(CompressionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.gzipPool = new DeflaterPool(properties.getGzipLevel(), true, properties.getPoolSize());
+        this.deflatePool = new DeflaterPool(properties.getDeflateLevel(), false, properties.getPoolSize());
+    }
+
+    /**
+     * 직렬화된 응답 - 전송할 버퍼(압축 시 압축 결과)와 압축 전 직렬화 바이트 수
+     */
+    public record Encoded(List<DataBuffer> buffers, long bytes) {
+    }
+
+    /**
+     * 응답 본문 직렬화 - 협상된 코덱이 있고 minResponseSize 이상이면 직렬화 출력을 바로 Deflater 에 넣어
+     * chunkSize 단위 풀 버퍼에 압축 결과만 남긴다 (압축 전 전체 바이트 배열을 만들지 않음)
+     *
+     * @throws IOException 직렬화 실패 (이미 할당한 버퍼와 Deflater 는 반환)
+     */
+    public Encoded encode(ServerWebExchange exchange, ObjectMapper mapper, Object body) throws IOException {
+        ServerHttpResponse response = exchange.getResponse();
+        Codec codec = null;
+        if (properties.isEnabled()) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            codec = negotiate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+        }
+        EncodingStream stream = new EncodingStream(response.bufferFactory(), codec);
+        List<DataBuffer> buffers;
+        try {
+            mapper.writeValue(stream, body);
+            buffers = stream.finish();
+        } catch (IOException | RuntimeException e) {
+            stream.discard();
+            throw e;
+        }
+        if (stream.deflated) {
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, codec.token());
+            meters(RouteIds.fromPath(exchange.getRequest().getPath().value()), codec, RESPONSE)
+                    .record(stream.nanos, stream.inputBytes, stream.outputBytes);
+        }
+        response.getHeaders().setContentLength(stream.outputBytes);
+        return new Encoded(buffers, stream.inputBytes);
+    }
+
+    /**
+     * 직렬화된 응답 전송 (취소 시 남은 버퍼 반환)
+     */
+    public Mono<Void> write(ServerWebExchange exchange, Encoded encoded) {
+        return exchange.getResponse().writeWith(Flux.fromIterable(encoded.buffers())
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release));
+    }
+
+    /**
+     * 요청 본문 - Content-Encoding 이 gzip/deflate 면 스트리밍 해제, 없으면 원본
+     *
+     * @throws InvalidRequestException 지원하지 않는 Content-Encoding (구독 시점)
+     */
+    public Flux<DataBuffer> decodeRequest(ServerWebExchange exchange) {
+        Flux<DataBuffer> body = exchange.getRequest().getBody();
+        String encoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (!StringUtils.hasText(encoding) || "identity".equalsIgnoreCase(encoding.trim())) {
+            return body;
+        }
+        Codec codec = properties.isDecodeRequests() ? Codec.fromToken(encoding.trim()) : null;
+        if (codec == null) {
+            return Flux.error(new InvalidRequestException("Unsupported Content-Encoding: " + encoding));
+        }
+        String route = RouteIds.fromPath(exchange.getRequest().getPath().value());
+        return inflate(body, codec, exchange.getResponse().bufferFactory(), meters(route, codec, REQUEST));
+    }
+
+    /**
+     * Accept-Encoding 에서 q 값이 가장 높은 지원 코덱 (동일하면 preferred, 없으면 null)
+     */
+    Codec negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        Codec preferred = Codec.fromToken(properties.getPreferred());
+        Codec best = null;
+        double bestQuality = 0;
+        for (String part : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] params = StringUtils.tokenizeToStringArray(part, ";");
+            if (params.length == 0) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                if (params[i].startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(params[i].substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            Codec codec = "*".equals(params[0]) ? (preferred != null ? preferred : Codec.GZIP)
+                    : Codec.fromToken(params[0]);
+            if (codec == null || quality <= 0) {
+                continue;
+            }
+            if (quality > bestQuality || (quality == bestQuality && codec == preferred)) {
+                best = codec;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 스트리밍 해제 - 입력 청크마다 해제된 바이트를 즉시 내보내고, 종료 시 스트림 완결성 확인
+     */
+    private Flux<DataBuffer> inflate(Flux<DataBuffer> body, Codec codec, DataBufferFactory bufferFactory,
+            Meters meter) {
+        long maxBytes = properties.getMaxInflatedRequestSize().toBytes();
+        return Flux.defer(() -> {
+            StreamingInflater inflater = new StreamingInflater(codec == Codec.GZIP, maxBytes);
+            long[] nanos = new long[1];
+            Flux<DataBuffer> inflated = body.handle((buffer, sink) -> {
+                long start = System.nanoTime();
+                try {
+                    byte[] input = new byte[buffer.readableByteCount()];
+                    buffer.read(input);
+                    byte[] output = inflater.feed(input);
+                    if (output.length > 0) {
+                        sink.next(bufferFactory.wrap(ByteBuffer.wrap(output)));
+                    }
+                } catch (InvalidRequestException e) {
+                    sink.error(e);
+                } finally {
+                    nanos[0] += System.nanoTime() - start;
+                    DataBufferUtils.release(buffer);
+                }
+            });
+            return inflated
+                    .concatWith(Mono.defer(() -> {
+                        if (!inflater.isFinished()) {
+                            return Mono.error(new InvalidRequestException(
+                                    "Truncated " + codec.token() + " request body"));
+                        }
+                        meter.record(nanos[0], inflater.outputBytes(), inflater.inputBytes());
+                        return Mono.empty();
+                    }))
+                    .doFinally(signal -> inflater.end());
+        });
+    }
+
+    private DeflaterPool pool(Codec codec) {
+        return codec == Codec.GZIP ? gzipPool : deflatePool;
+    }
+
+    private Meters meters(String route, Codec codec, String direction) {
+        return meters.computeIfAbsent(route + '|' + codec.token() + '|' + direction, key -> new Meters(
+                Timer.builder("kol.compression.duration")
+                        .tag("route", route)
+                        .tag("codec", codec.token())
+                        .tag("direction", direction)
+                        .description("CPU time spent compressing responses or decompressing requests")
+                        .register(meterRegistry),
+                DistributionSummary.builder("kol.compression.ratio")
+                        .tag("route", route)
+                        .tag("codec", codec.token())
+                        .tag("direction", direction)
+                        .description("Uncompressed bytes divided by compressed bytes")
+                        .register(meterRegistry)));
+    }
+
+    private record Meters(Timer duration, DistributionSummary ratio) {
+
+        void record(long nanos, long uncompressed, long compressed) {
+            duration.record(nanos, TimeUnit.NANOSECONDS);
+            if (compressed > 0) {
+                ratio.record((double) uncompressed / compressed);
+            }
+        }
+    }
+
+    /**
+     * 응답 1건의 직렬화 출력 스트림 - minResponseSize 까지는 모아 두고, 넘으면 Deflater 를 빌려 압축하며
+     * 결과를 chunkSize 단위 버퍼에 쌓는다 (gzip 은 헤더/CRC/길이 trailer 를 직접 기록)
+     *
+     * <p>
+     * 직렬화 실패 시 Jackson 이 close 를 호출하므로 close 는 아무것도 하지 않고 finish/discard 로 종료한다.
+     */
+    private final class EncodingStream extends OutputStream {
+        private final DataBufferFactory bufferFactory;
+        private final Codec codec;
+        private final int chunkSize;
+        private final byte[] head; // 압축 여부 결정 전 출력 (임계치 미만이면 그대로 전송)
+        private final List<DataBuffer> buffers = new ArrayList<>();
+        private final CRC32 crc = new CRC32();
+        private int headLength;
+        private DataBuffer current;
+        private Deflater deflater;
+        private byte[] window;
+        boolean deflated;
+        long inputBytes;
+        long outputBytes;
+        long nanos;
+
+        EncodingStream(DataBufferFactory bufferFactory, Codec codec) {
+            this.bufferFactory = bufferFactory;
+            this.codec = codec;
+            this.chunkSize = (int) Math.max(512, properties.getChunkSize().toBytes());
+            this.head = codec != null ? new byte[(int) properties.getMinResponseSize().toBytes()] : null;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            inputBytes += len;
+            if (deflater != null) {
+                deflate(b, off, len);
+            } else if (codec == null) {
+                emit(b, off, len);
+            } else if (headLength + len < head.length) {
+                System.arraycopy(b, off, head, headLength, len);
+                headLength += len;
+            } else {
+                deflater = pool(codec).borrow();
+                deflated = true;
+                window = new byte[chunkSize];
+                if (codec == Codec.GZIP) {
+                    emit(GZIP_HEADER, 0, GZIP_HEADER.length);
+                }
+                deflate(head, 0, headLength);
+                deflate(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() {
+            // finish/discard 에서 처리
+        }
+
+        /**
+         * 남은 출력을 마무리하고 전송할 버퍼 반환 (Deflater 는 풀에 반납)
+         */
+        List<DataBuffer> finish() {
+            if (deflater != null) {
+                long start = System.nanoTime();
+                deflater.finish();
+                while (!deflater.finished()) {
+                    emit(window, 0, deflater.deflate(window));
+                }
+                if (codec == Codec.GZIP) {
+                    byte[] trailer = new byte[8];
+                    writeIntLE(trailer, 0, (int) crc.getValue());
+                    writeIntLE(trailer, 4, (int) inputBytes);
+                    emit(trailer, 0, trailer.length);
+                }
+                nanos += System.nanoTime() - start;
+                pool(codec).release(deflater);
+                deflater = null;
+            } else if (headLength > 0) {
+                emit(head, 0, headLength);
+            }
+            if (current != null) {
+                buffers.add(current);
+                current = null;
+            }
+            return buffers;
+        }
+
+        void discard() {
+            buffers.forEach(DataBufferUtils::release);
+            buffers.clear();
+            if (current != null) {
+                DataBufferUtils.release(current);
+                current = null;
+            }
+            if (deflater != null) {
+                pool(codec).release(deflater);
+                deflater = null;
+            }
+        }
+
+        private void deflate(byte[] b, int off, int len) {
+            long start = System.nanoTime();
+            if (codec == Codec.GZIP) {
+                crc.update(b, off, len);
+            }
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                emit(window, 0, deflater.deflate(window));
+            }
+            nanos += System.nanoTime() - start;
+        }
+
+        private void emit(byte[] b, int off, int len) {
+            outputBytes += len;
+            while (len > 0) {
+                if (current == null) {
+                    current = bufferFactory.allocateBuffer(chunkSize);
+                }
+                int n = Math.min(len, chunkSize - current.readableByteCount());
+                current.write(b, off, n);
+                off += n;
+                len -= n;
+                if (current.readableByteCount() == chunkSize) {
+                    buffers.add(current);
+                    current = null;
+                }
+            }
+        }
+
+        private static void writeIntLE(byte[] target, int offset, int value) {
+            target[offset] = (byte) value;
+            target[offset + 1] = (byte) (value >>> 8);
+            target[offset + 2] = (byte) (value >>> 16);
+            target[offset + 3] = (byte) (value >>> 24);
+        }
+    }
+
+    /**
+     * 재사용 Deflater 풀 - 반납 시 reset, 상한 초과분은 즉시 end 로 네이티브 메모리 해제
+     */
+    private static final class DeflaterPool {
+        private final int level;
+        private final boolean nowrap;
+        private final int maxSize;
+        private final Queue<Deflater> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        DeflaterPool(int level, boolean nowrap, int maxSize) {
+            this.level = level;
+            this.nowrap = nowrap;
+            this.maxSize = maxSize;
+        }
+
+        Deflater borrow() {
+            Deflater deflater = idle.poll();
+            if (deflater != null) {
+                idleCount.decrementAndGet();
+                return deflater;
+            }
+            return new Deflater(level, nowrap);
+        }
+
+        void release(Deflater deflater) {
+            deflater.reset();
+            if (idleCount.incrementAndGet() <= maxSize) {
+                idle.offer(deflater);
+            } else {
+                idleCount.decrementAndGet();
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.kt.kol.gateway.itg.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+
+/**
+ * 청크 단위 gzip/zlib 해제기 (요청 1건 전용, 스레드 비안전)
+ *
+ * <p>
+ * gzip 헤더(FEXTRA/FNAME/FCOMMENT/FHCRC 포함)와 8바이트 trailer 가 청크 경계에 걸쳐도 처리하며,
+ * trailer 의 CRC32/원본 길이를 검증한다. 해제 결과가 maxBytes 를 넘으면 즉시 중단한다.
+ */
+final class StreamingInflater {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int TRAILER_BYTES = 8;
+
+    private enum State {
+        HEADER, BODY, TRAILER, DONE
+    }
+
+    private final boolean gzip;
+    private final long maxBytes;
+    private final Inflater inflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] window = new byte[8192];
+
+    private State state;
+    private byte[] pending = new byte[0]; // 헤더/trailer 조립용 잔여 바이트
+    private long inputBytes;
+    private long outputBytes;
+
+    StreamingInflater(boolean gzip, long maxBytes) {
+        this.gzip = gzip;
+        this.maxBytes = maxBytes;
+        this.inflater = new Inflater(gzip); // gzip 은 raw deflate + 직접 헤더 처리, deflate 는 zlib 래퍼
+        this.state = gzip ? State.HEADER : State.BODY;
+    }
+
+    /**
+     * 입력 청크를 처리하고 이번에 해제된 바이트 반환 (없으면 빈 배열)
+     */
+    byte[] feed(byte[] input) {
+        inputBytes += input.length;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] data = input;
+        while (data.length > 0 && state != State.DONE) {
+            data = switch (state) {
+                case HEADER -> consumeHeader(data);
+                case BODY -> consumeBody(data, output);
+                case TRAILER -> consumeTrailer(data);
+                case DONE -> new byte[0];
+            };
+        }
+        return output.toByteArray();
+    }
+
+    boolean isFinished() {
+        return state == State.DONE;
+    }
+
+    long inputBytes() {
+        return inputBytes;
+    }
+
+    long outputBytes() {
+        return outputBytes;
+    }
+
+    void end() {
+        inflater.end();
+    }
+
+    private byte[] consumeHeader(byte[] data) {
+        byte[] buffer = concat(pending, data);
+        int length = gzipHeaderLength(buffer);
+        if (length < 0) {
+            pending = buffer;
+            return new byte[0];
+        }
+        pending = new byte[0];
+        state = State.BODY;
+        return Arrays.copyOfRange(buffer, length, buffer.length);
+    }
+
+    private byte[] consumeBody(byte[] data, ByteArrayOutputStream output) {
+        inflater.setInput(data);
+        try {
+            while (!inflater.finished()) {
+                int n = inflater.inflate(window);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        throw new InvalidRequestException("Unsupported preset dictionary in request body");
+                    }
+                    if (inflater.needsInput() && !inflater.finished()) { // 마지막 바이트만 들어오면 둘 다 참
+                        return new byte[0];
+                    }
+                    continue;
+                }
+                outputBytes += n;
+                if (outputBytes > maxBytes) {
+                    throw new InvalidRequestException("Decompressed request body exceeds " + maxBytes + " bytes");
+                }
+                if (gzip) {
+                    crc.update(window, 0, n);
+                }
+                output.write(window, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new InvalidRequestException("Invalid compressed request body: " + e.getMessage());
+        }
+        int remaining = inflater.getRemaining();
+        state = gzip ? State.TRAILER : State.DONE;
+        return Arrays.copyOfRange(data, data.length - remaining, data.length);
+    }
+
+    private byte[] consumeTrailer(byte[] data) {
+        byte[] buffer = concat(pending, data);
+        if (buffer.length < TRAILER_BYTES) {
+            pending = buffer;
+            return new byte[0];
+        }
+        if (readIntLE(buffer, 0) != (int) crc.getValue() || readIntLE(buffer, 4) != (int) outputBytes) {
+            throw new InvalidRequestException("Corrupted gzip request body (CRC or length mismatch)");
+        }
+        pending = new byte[0];
+        state = State.DONE; // 이어지는 gzip member 는 무시
+        return new byte[0];
+    }
+
+    /**
+     * 완성된 gzip 헤더 길이 (아직 부족하면 -1)
+     */
+    private static int gzipHeaderLength(byte[] buffer) {
+        if (buffer.length < 10) {
+            return -1;
+        }
+        if ((buffer[0] & 0xff) != 0x1f || (buffer[1] & 0xff) != 0x8b || buffer[2] != 8) {
+            throw new InvalidRequestException("Invalid gzip request body header");
+        }
+        int flags = buffer[3] & 0xff;
+        int position = 10;
+        if ((flags & FEXTRA) != 0) {
+            if (buffer.length < position + 2) {
+                return -1;
+            }
+            position += 2 + ((buffer[position] & 0xff) | (buffer[position + 1] & 0xff) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(buffer, position);
+        }
+        if (position >= 0 && (flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(buffer, position);
+        }
+        if (position >= 0 && (flags & FHCRC) != 0) {
+            position += 2;
+        }
+        return position >= 0 && position <= buffer.length ? position : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] buffer, int position) {
+        for (int i = position; i < buffer.length; i++) {
+            if (buffer[i] == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int readIntLE(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8
+                | (buffer[offset + 2] & 0xff) << 16 | (buffer[offset + 3] & 0xff) << 24;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
@@ -0,0 +1,47 @@
+package com.kt.kol.gateway.itg.config;
+
+import java.util.Map;
+
+import org.springframework.boot.rsocket.messaging.RSocketStrategiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.kt.kol.common.constant.MediaTypes;
+
+/**
+ * RSocket 코덱/메타데이터 설정
+ *
+ * <p>
+ * 프레임 본문은 HTTP 진입점과 동일한 JSON/CBOR 매퍼로 (역)직렬화하고, 요청 헤더는
+ * {@link MediaTypes#RSOCKET_HEADERS} 메타데이터(헤더명 → 값 JSON)로 받아 "headers" 로 추출한다.
+ */
+@Configuration
+public class RSocketConfig {
+
+    public static final String HEADERS_METADATA = "headers";
+
+    @Bean
+    public RSocketStrategiesCustomizer gatewayRSocketStrategies(ObjectMapper objectMapper, CBORMapper cborMapper) {
+        MimeType headersMimeType = MimeType.valueOf(MediaTypes.RSOCKET_HEADERS);
+        return strategies -> strategies
+                .decoders(decoders -> {
+                    decoders.add(0, new Jackson2CborDecoder(cborMapper));
+                    decoders.add(0, new Jackson2JsonDecoder(objectMapper));
+                })
+                .encoders(encoders -> {
+                    encoders.add(0, new Jackson2CborEncoder(cborMapper));
+                    encoders.add(0, new Jackson2JsonEncoder(objectMapper));
+                })
+                .metadataExtractorRegistry(registry -> registry.metadataToExtract(headersMimeType,
+                        new ParameterizedTypeReference<Map<String, String>>() {
+                        }, HEADERS_METADATA));
+    }
+}
@@ -15,7 +15,11 @@ import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
 import com.kt.kol.gateway.itg.properties.WebClientProperties;
+import com.kt.kol.gateway.itg.tracing.TraceContext;
 
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
@@ -53,23 +57,29 @@ public class WebClientConfig {
 	@Bean
 	public WebClient webClient(
 			WebClientProperties props,
-			SslContext sslContext) {
+			SslContext sslContext,
+			PerformanceMetrics performanceMetrics) {
 
-		ConnectionProvider provider = ConnectionProvider.builder("soap-client")
+		ConnectionProvider provider = ConnectionProvider.builder(PerformanceMetrics.SOAP_CLIENT_POOL)
 				.maxConnections(Math.min(100, Runtime.getRuntime().availableProcessors() * 10))
 				.pendingAcquireMaxCount(100)
 				.maxIdleTime(Duration.ofSeconds(30))
 				.maxLifeTime(Duration.ofMinutes(5))
-				.metrics(true)
+				.metrics(true, performanceMetrics::poolRegistrar) // kol.connection.pool.* 게이지
 				.evictInBackground(Duration.ofSeconds(60))
 				.build();
 
-		HttpClient httpClient = HttpClient.create(provider)
+		HttpClient httpClient = performanceMetrics.instrumentPool(HttpClient.create(provider),
+				PerformanceMetrics.SOAP_CLIENT_POOL)
 				.option(ChannelOption.SO_KEEPALIVE, true)
 				.option(ChannelOption.TCP_NODELAY, true)
 				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectionTimeout())
 				.responseTimeout(Duration.ofMillis(props.getReadTimeout()))
 				.secure(ssl -> ssl.sslContext(sslContext))
+				// 요청 단계 측정: 커넥션 획득 / 요청 전송 / 응답 헤더 수신 시각
+				.doOnRequest((req, conn) -> StageTimings.UpstreamCall.from(req.currentContextView()).onRequest())
+				.doAfterRequest((req, conn) -> StageTimings.UpstreamCall.from(req.currentContextView()).onRequestSent())
+				.doOnResponse((res, conn) -> StageTimings.UpstreamCall.from(res.currentContextView()).onResponse())
 				.compress(true)
 				.httpResponseDecoder(decoder -> decoder
 						.maxInitialLineLength(8192)
@@ -78,17 +88,14 @@ public class WebClientConfig {
 
 		return WebClient.builder()
 				.clientConnector(new ReactorClientHttpConnector(httpClient))
-				.defaultHeaders(h -> {
-					// 공통 헤더(추적용). Content-Type은 요청 빌드 시 넣기
-					h.add("X-Correlation-Id", java.util.UUID.randomUUID().toString());
-					h.set(HttpHeaders.ACCEPT, MediaType.TEXT_XML_VALUE);
-				})
+				// 공통 헤더. Content-Type은 요청 빌드 시 넣기 (추적 헤더는 요청마다 traceContextPropagator)
+				.defaultHeaders(h -> h.set(HttpHeaders.ACCEPT, MediaType.TEXT_XML_VALUE))
 				.codecs(c -> {
-					c.defaultCodecs().maxInMemorySize(10 * 1024 * 1024); // 10MB
+					c.defaultCodecs().maxInMemorySize(props.getMaxInMemorySize()); // 10MB
 					c.defaultCodecs().enableLoggingRequestDetails(false);
 				})
 				.filter(loggingFilter()) // 개선된 로깅 필터
-				.filter(correlationIdPropagator()) // MDC/헤더 전파
+				.filter(traceContextPropagator()) // traceparent/X-Correlation-Id 전파
 				.build();
 	}
 
@@ -106,16 +113,24 @@ public class WebClientConfig {
 		}));
 	}
 
-	private ExchangeFilterFunction correlationIdPropagator() {
-		return ExchangeFilterFunction.ofRequestProcessor(req -> {
-			String cid = req.headers().getFirst("X-Correlation-Id");
-			if (cid == null) {
-				cid = java.util.UUID.randomUUID().toString();
-				return Mono.just(ClientRequest.from(req)
-						.header("X-Correlation-Id", cid)
-						.build());
+	/**
+	 * 요청 단위 추적 헤더 - Context 의 업스트림 호출(trace + 호출 span)로 traceparent, X-Correlation-Id 설정.
+	 * 업스트림 호출이 바인딩되지 않은 요청(콜백 등)은 새 trace id 를 발급한다 (UUID 대신 ThreadLocalRandom).
+	 */
+	private ExchangeFilterFunction traceContextPropagator() {
+		return (req, next) -> Mono.deferContextual(ctx -> {
+			StageTimings.UpstreamCall call = StageTimings.UpstreamCall.from(ctx);
+			TraceContext trace = call.trace();
+			String traceparent = call.traceparent();
+			if (traceparent == null) {
+				trace = TraceContext.root(false, null);
+				traceparent = trace.traceparent(TraceContext.nextSpanId());
 			}
-			return Mono.just(req);
+			ClientRequest.Builder request = ClientRequest.from(req).header(HeaderConstants.TRACEPARENT, traceparent);
+			if (!req.headers().containsKey(HeaderConstants.CORRELATION_ID)) {
+				request.header(HeaderConstants.CORRELATION_ID, trace.correlationId());
+			}
+			return next.exchange(request.build());
 		});
 	}
 }
@@ -0,0 +1,483 @@
+package com.kt.kol.gateway.itg.delivery;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.gateway.itg.cache.LookupResponseCache;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.exception.SoapServiceException;
+import com.kt.kol.gateway.itg.properties.WalProperties;
+import com.kt.kol.gateway.itg.storage.MappedSegmentLog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * trFlag=T 요청의 fire-and-forget 전달 (write-ahead log 기반)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>X-Transaction-Flag: T 요청은 변환된 SOAP 전문을 로컬 {@link MappedSegmentLog} 에 기록한 뒤 즉시 202 응답</li>
+ * <li>전달 스레드가 로그를 읽어 최대 windowSize 건을 전달 중 상태로 유지 - 같은 키(oderId)는 순서대로, 다른 키는 병렬이며
+ * 한 키가 재시도 중이어도 다른 키는 계속 전달</li>
+ * <li>5xx/408/429/연결 오류는 적재 시각 기준 retryTtl 까지 횟수 제한 없이 지수 백오프로 재시도</li>
+ * <li>그 외 거부 응답(3xx/4xx), retryTtl 초과, 디코딩할 수 없는 레코드는 폐기하지 않고 dead-letter 로그에 보관</li>
+ * <li>전달 성공(2xx) 시 해당 키(oderId)의 조회 캐시를 다시 무효화 - 적재 후 전달 전에 캐시된 변경 이전 응답 제거</li>
+ * <li>checkpoint 는 전달 또는 dead-letter 로 끝난 연속 구간까지만 기록 - 재시작 시 그 이후부터 다시 전달 (at-least-once)</li>
+ * </ul>
+ *
+ * <pre>
+ * dead-letter 레코드: [version:byte][failedAt:long][reason:UTF][status:int][error:UTF][원본 WAL 레코드]
+ * </pre>
+ *
+ * dead-letter 로그는 {directory}/dead-letter 에 있으며 {@link MappedSegmentLog#scan} 으로 조회한다.
+ */
+@Component
+@Slf4j
+public class FireAndForgetDelivery {
+
+    private static final byte RECORD_VERSION = 1;
+    private static final byte DEAD_LETTER_VERSION = 1;
+    private static final String DEAD_LETTER_DIRECTORY = "dead-letter";
+
+    private final WalProperties properties;
+    private final WebClient webClient;
+    private final LookupResponseCache lookupResponseCache;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter appendedCounter;
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Map<DeadLetterReason, Counter> deadLetterCounters = new EnumMap<>(DeadLetterReason.class);
+    private final Timer appendTimer;
+
+    // 전달 완료 통지 (reactor 스레드 -> 전달 스레드)
+    private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+    private final Sinks.Empty<Void> shutdown = Sinks.empty();
+
+    // 전달 스레드 전용 상태 - sequence 순 미완료 레코드, 키별 대기열(첫 항목이 전달 중), 시작 가능한 레코드
+    private final TreeMap<Long, Pending> window = new TreeMap<>();
+    private final Map<String, ArrayDeque<Pending>> lanes = new HashMap<>();
+    private final ArrayDeque<Pending> runnable = new ArrayDeque<>();
+    private int active;
+
+    private MappedSegmentLog wal;
+    private MappedSegmentLog deadLetters;
+    private Thread worker;
+    private Disposable forcer;
+    private volatile boolean running;
+    private volatile long headEnqueuedAtMillis; // 전달 대기 중 가장 오래된 레코드 적재 시각 (0: 없음)
+
+    public FireAndForgetDelivery(WalProperties properties, WebClient webClient,
+            LookupResponseCache lookupResponseCache, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.webClient = webClient;
+        this.lookupResponseCache = lookupResponseCache;
+        this.meterRegistry = meterRegistry;
+
+        this.appendedCounter = Counter.builder("kol.wal.appended")
+                .description("Fire-and-forget requests written to the write-ahead log")
+                .register(meterRegistry);
+        this.deliveredCounter = deliveryCounter("delivered");
+        this.retriedCounter = deliveryCounter("retried");
+        for (DeadLetterReason reason : DeadLetterReason.values()) {
+            deadLetterCounters.put(reason, deliveryCounter(reason.tag));
+        }
+        this.appendTimer = Timer.builder("kol.wal.append.duration")
+                .description("Write-ahead log append latency")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path directory = Path.of(properties.getDirectory());
+        int segmentBytes = (int) properties.getSegmentSize().toBytes();
+        wal = MappedSegmentLog.open(directory, segmentBytes);
+        deadLetters = MappedSegmentLog.open(directory.resolve(DEAD_LETTER_DIRECTORY), segmentBytes);
+
+        Gauge.builder("kol.wal.backlog", this, d -> d.backlog())
+                .description("Records written but not yet delivered")
+                .register(meterRegistry);
+        Gauge.builder("kol.wal.drain.lag", this, d -> d.drainLagSeconds())
+                .description("Age of the oldest undelivered record")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        long interval = properties.getForceInterval().toMillis();
+        forcer = Schedulers.single().schedulePeriodically(() -> {
+            wal.force();
+            deadLetters.force();
+        }, interval, interval, TimeUnit.MILLISECONDS);
+
+        running = true;
+        worker = new Thread(this::deliveryLoop, "soap-wal-delivery");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[WAL] 시작 - dir: {}, backlog: {}", properties.getDirectory(), backlog());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        shutdown.tryEmitEmpty(); // 전달/백오프 중인 레코드 취소 - checkpoint 전이므로 재시작 후 재전달
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (forcer != null) {
+            forcer.dispose();
+        }
+        if (wal != null) {
+            wal.close();
+        }
+        if (deadLetters != null) {
+            deadLetters.close();
+        }
+    }
+
+    /**
+     * fire-and-forget 대상 여부 - WAL 활성 상태에서 X-Transaction-Flag: T 를 명시한 요청
+     */
+    public boolean isFireAndForget(ServerWebExchange exchange) {
+        return running && HeaderConstants.COMM_TR_FLAG_THROW.equalsIgnoreCase(
+                exchange.getRequest().getHeaders().getFirst(HeaderConstants.TRANSACTION_FLAG));
+    }
+
+    public boolean hasCapacity() {
+        return backlog() < properties.getMaxBacklog();
+    }
+
+    /**
+     * 변환된 SOAP 전문을 로그에 기록 (블로킹 - boundedElastic 에서 호출)
+     *
+     * @param key 순서 보장 키 (null 이면 순서 무관)
+     * @return 로그 sequence
+     */
+    public long append(String key, String endpoint, String cmpnCd, String soapRequest) {
+        if (!hasCapacity()) {
+            throw new ServiceOverloadedException("Write-ahead log backlog full");
+        }
+        long start = System.nanoTime();
+        try {
+            long sequence = wal.append(encode(new DeliveryRecord(System.currentTimeMillis(), key, endpoint,
+                    cmpnCd, soapRequest)));
+            appendedCounter.increment();
+            LockSupport.unpark(worker);
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Write-ahead log append failed", e);
+        } finally {
+            appendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void deliveryLoop() {
+        long cursor = wal.checkpointSequence() + 1;
+        while (running) {
+            try {
+                boolean progressed = applyCompletions();
+                int room = properties.getWindowSize() - window.size();
+                if (room > 0) {
+                    List<MappedSegmentLog.Entry> batch = wal.read(cursor,
+                            Math.min(room, Math.max(1, properties.getBatchSize())));
+                    for (MappedSegmentLog.Entry entry : batch) {
+                        admit(entry);
+                        cursor = entry.sequence() + 1;
+                    }
+                    progressed |= !batch.isEmpty();
+                }
+                dispatch();
+                advanceCheckpoint();
+                headEnqueuedAtMillis = window.isEmpty() ? 0 : window.firstEntry().getValue().enqueuedAtMillis();
+                if (!progressed) {
+                    LockSupport.parkNanos(properties.getIdlePollInterval().toNanos());
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break; // 종료 중 - 미완료 레코드는 재시작 후 재전달
+                }
+                log.error("[WAL] 전달 루프 오류 - cursor: {}", cursor, e);
+                LockSupport.parkNanos(properties.getMaxBackoff().toNanos());
+            }
+        }
+    }
+
+    /**
+     * 읽은 레코드를 window 에 추가 - 디코딩할 수 없는 레코드는 바로 dead-letter 로 보내고 완료 처리
+     */
+    private void admit(MappedSegmentLog.Entry entry) throws IOException {
+        DeliveryRecord record;
+        try {
+            record = decode(entry.payload());
+        } catch (IOException e) {
+            deadLetter(entry.payload(), DeadLetterReason.UNDECODABLE, 0, e.getMessage());
+            log.error("[WAL] 디코딩 불가 레코드를 dead-letter 로 이동 - sequence: {}, error: {}",
+                    entry.sequence(), e.getMessage());
+            Pending poison = new Pending(null);
+            poison.done = true;
+            window.put(entry.sequence(), poison);
+            return;
+        }
+        Pending pending = new Pending(record);
+        window.put(entry.sequence(), pending);
+        if (record.key() == null) {
+            runnable.add(pending);
+            return;
+        }
+        ArrayDeque<Pending> lane = lanes.get(record.key());
+        if (lane == null) {
+            lane = new ArrayDeque<>();
+            lanes.put(record.key(), lane);
+            runnable.add(pending);
+        }
+        lane.add(pending);
+    }
+
+    /**
+     * 동시 전달 상한까지 시작 가능한 레코드 전달 시작
+     */
+    private void dispatch() {
+        int maxConcurrency = Math.max(1, properties.getMaxConcurrency());
+        while (active < maxConcurrency && !runnable.isEmpty()) {
+            Pending pending = runnable.poll();
+            active++;
+            deliver(pending.record).subscribe(completion -> {
+                completions.add(new Completion(pending, completion));
+                LockSupport.unpark(worker);
+            });
+        }
+    }
+
+    /**
+     * 전달 결과 반영 - 거부/만료는 dead-letter 기록 후 완료 처리하고 같은 키의 다음 레코드를 시작 가능으로 전환
+     */
+    private boolean applyCompletions() throws IOException {
+        boolean applied = false;
+        Completion completion;
+        while ((completion = completions.peek()) != null) {
+            Pending pending = completion.pending();
+            Outcome outcome = completion.outcome();
+            if (outcome.reason() == null) {
+                deliveredCounter.increment();
+                lookupResponseCache.invalidateOrder(pending.record.key());
+            } else {
+                // dead-letter 기록 실패 시 큐에 남겨 다음 루프에서 다시 시도
+                deadLetter(encode(pending.record), outcome.reason(), outcome.status(), outcome.error());
+                log.error("[WAL] 전달 실패로 dead-letter 로 이동 - key: {}, reason: {}, status: {}, error: {}",
+                        pending.record.key(), outcome.reason().tag, outcome.status(), outcome.error());
+            }
+            completions.poll();
+            pending.done = true;
+            active--;
+            applied = true;
+
+            String key = pending.record.key();
+            if (key != null) {
+                ArrayDeque<Pending> lane = lanes.get(key);
+                lane.poll();
+                if (lane.isEmpty()) {
+                    lanes.remove(key);
+                } else {
+                    runnable.add(lane.peek());
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * window 앞쪽의 연속된 완료 구간까지 checkpoint - 미완료 레코드 이후로는 진행하지 않음
+     */
+    private void advanceCheckpoint() throws IOException {
+        long last = 0;
+        while (!window.isEmpty() && window.firstEntry().getValue().done) {
+            last = window.pollFirstEntry().getKey();
+        }
+        if (last > 0) {
+            wal.checkpoint(last);
+        }
+    }
+
+    private Mono<Outcome> deliver(DeliveryRecord record) {
+        long deadline = record.enqueuedAtMillis() + properties.getRetryTtl().toMillis();
+        WebClient.RequestBodySpec spec = webClient.post().uri(record.endpoint());
+        if (record.cmpnCd() != null) {
+            spec = spec.header(HeaderConstants.CMPN_CD, record.cmpnCd());
+        }
+        return spec.bodyValue(record.soapRequest())
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .flatMap(status -> isRetryable(status)
+                        ? Mono.<HttpStatusCode>error(new SoapServiceException(
+                                "SOAP service error: " + status, null, status.value()))
+                        : Mono.just(status))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getInitialBackoff())
+                        .maxBackoff(properties.getMaxBackoff())
+                        .filter(error -> System.currentTimeMillis() < deadline)
+                        .doBeforeRetry(signal -> retriedCounter.increment()))
+                .map(status -> status.is2xxSuccessful()
+                        ? Outcome.DELIVERED
+                        : new Outcome(DeadLetterReason.REJECTED, status.value(), null))
+                .onErrorResume(error -> Mono.just(new Outcome(DeadLetterReason.EXPIRED,
+                        error instanceof SoapServiceException se ? se.getStatusCode() : 0, error.getMessage())))
+                .takeUntilOther(shutdown.asMono());
+    }
+
+    /**
+     * 일시적 실패로 보고 재시도할 응답 (5xx, 408, 429)
+     */
+    private static boolean isRetryable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 408 || status.value() == 429;
+    }
+
+    private void deadLetter(byte[] original, DeadLetterReason reason, int status, String error) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(original.length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(DEAD_LETTER_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(reason.tag);
+            out.writeInt(status);
+            out.writeUTF(error != null ? truncate(error, 512) : "");
+            out.write(original);
+        }
+        deadLetters.append(bytes.toByteArray());
+        deadLetterCounters.get(reason).increment();
+        if (properties.getDeadLetterMaxSegments() > 0) {
+            deadLetters.trimTo(properties.getDeadLetterMaxSegments());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private long backlog() {
+        return wal != null ? wal.lastSequence() - wal.checkpointSequence() : 0;
+    }
+
+    private double drainLagSeconds() {
+        long head = headEnqueuedAtMillis;
+        return head == 0 ? 0 : (System.currentTimeMillis() - head) / 1000.0;
+    }
+
+    private Counter deliveryCounter(String result) {
+        return Counter.builder("kol.wal.delivery")
+                .tag("result", result)
+                .description("Fire-and-forget delivery attempts by outcome")
+                .register(meterRegistry);
+    }
+
+    private static byte[] encode(DeliveryRecord record) throws IOException {
+        byte[] soap = record.soapRequest().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(soap.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_VERSION);
+            out.writeLong(record.enqueuedAtMillis());
+            out.writeUTF(record.key() != null ? record.key() : "");
+            out.writeUTF(record.endpoint());
+            out.writeUTF(record.cmpnCd() != null ? record.cmpnCd() : "");
+            out.writeInt(soap.length);
+            out.write(soap);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static DeliveryRecord decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != RECORD_VERSION) {
+                throw new IOException("Unsupported record version: " + version);
+            }
+            long enqueuedAt = in.readLong();
+            String key = in.readUTF();
+            String endpoint = in.readUTF();
+            String cmpnCd = in.readUTF();
+            byte[] soap = new byte[in.readInt()];
+            in.readFully(soap);
+            return new DeliveryRecord(enqueuedAt, StringUtils.hasText(key) ? key : null, endpoint,
+                    StringUtils.hasText(cmpnCd) ? cmpnCd : null, new String(soap, StandardCharsets.UTF_8));
+        }
+    }
+
+    private record DeliveryRecord(long enqueuedAtMillis, String key, String endpoint, String cmpnCd,
+            String soapRequest) {
+    }
+
+    /**
+     * window 의 레코드 (record 가 null 이면 디코딩 불가로 이미 dead-letter 처리됨)
+     */
+    private static final class Pending {
+        final DeliveryRecord record;
+        boolean done;
+
+        Pending(DeliveryRecord record) {
+            this.record = record;
+        }
+
+        long enqueuedAtMillis() {
+            return record != null ? record.enqueuedAtMillis() : 0;
+        }
+    }
+
+    /**
+     * 전달 결과 (reason 이 null 이면 전달 성공)
+     */
+    private record Outcome(DeadLetterReason reason, int status, String error) {
+        static final Outcome DELIVERED = new Outcome(null, 0, null);
+    }
+
+    private record Completion(Pending pending, Outcome outcome) {
+    }
+
+    private enum DeadLetterReason {
+        REJECTED("rejected"),       // 재시도 대상이 아닌 응답 (3xx/4xx)
+        EXPIRED("expired"),         // retryTtl 초과
+        UNDECODABLE("undecodable"); // 버전 불일치/잘린 레코드
+
+        final String tag;
+
+        DeadLetterReason(String tag) {
+            this.tag = tag;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.kt.kol.gateway.itg.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitedException extends RuntimeException {
+    public RateLimitedException(String message) {
+        super(message, null, false, false); // 빠른 거절 경로 - stack trace 생략
+    }
+}
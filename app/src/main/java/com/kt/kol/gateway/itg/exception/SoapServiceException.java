@@ -6,9 +6,29 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @ResponseStatus(HttpStatus.BAD_GATEWAY)
 public class SoapServiceException extends RuntimeException {
     private final String soapError;
+    private final int statusCode;
 
     public SoapServiceException(String message, String soapError) {
+        this(message, soapError, 0);
+    }
+
+    public SoapServiceException(String message, String soapError, int statusCode) {
         super(message);
         this.soapError = soapError;
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * 백엔드 오류 응답 본문 (없으면 null)
+     */
+    public String getSoapError() {
+        return soapError;
+    }
+
+    /**
+     * 백엔드 HTTP 상태 코드 (알 수 없으면 0)
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
-}
\ No newline at end of file
+}
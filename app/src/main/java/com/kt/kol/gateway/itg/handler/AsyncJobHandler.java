@@ -0,0 +1,53 @@
+package com.kt.kol.gateway.itg.handler;
+
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.gateway.itg.async.AsyncJobManager;
+import com.kt.kol.gateway.itg.model.AsyncJobStatus;
+import com.kt.kol.gateway.itg.service.ResponseWriterService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 비동기 작업 결과 조회 (GET /SoapJobs/{jobId})
+ *
+ * <p>
+ * 진행 중이면 status=PENDING 과 Retry-After, 완료면 결과 포함, 없거나 만료면 404.
+ */
+@Service
+@RequiredArgsConstructor
+public class AsyncJobHandler {
+
+    private static final String POLL_RETRY_AFTER_SECONDS = "1";
+
+    private final AsyncJobManager asyncJobManager;
+    private final ResponseWriterService writerService;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public Mono<Void> handleRequest(ServerWebExchange exchange) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            exchange.getResponse().setStatusCode(HttpStatus.METHOD_NOT_ALLOWED);
+            return exchange.getResponse().setComplete();
+        }
+        String path = exchange.getRequest().getPath().value();
+        String jobId = path.substring(path.lastIndexOf('/') + 1);
+
+        AsyncJobStatus status = asyncJobManager.find(jobId);
+        if (status == null) {
+            return writerService.writeJson(exchange, HttpStatus.NOT_FOUND,
+                    Map.of("error", "NotFound", "message", "Unknown or expired job: " + jobId));
+        }
+        if (status.status() == AsyncJobStatus.State.PENDING) {
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, POLL_RETRY_AFTER_SECONDS);
+        }
+        return writerService.writeJson(exchange, HttpStatus.OK, status)
+                .onErrorResume(error -> errorResponseWriter.write(exchange, error));
+    }
+}
@@ -0,0 +1,110 @@
+package com.kt.kol.gateway.itg.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.common.constant.MediaTypes;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.exception.RateLimitedException;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.exception.SoapServiceException;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.tracing.TraceContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 예외 → HTTP 상태/JSON 에러 응답 변환 (단건/배치 핸들러 공통)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorResponseWriter {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 에러 응답 작성
+     */
+    public Mono<Void> write(ServerWebExchange exchange, Throwable error) {
+        HttpStatus httpStatus = statusOf(error);
+        logFailure(StageTimings.from(exchange), httpStatus, error);
+
+        // HTTP 상태 코드 설정
+        exchange.getResponse().setStatusCode(httpStatus);
+        exchange.getResponse().getHeaders().add(MediaTypes.HEADER_CONTENT_TYPE, MediaTypes.APPLICATION_JSON_UTF8);
+
+        // 에러 응답 생성
+        try {
+            String errorJson = objectMapper.writeValueAsString(body(error));
+            DataBuffer buffer = exchange.getResponse().bufferFactory()
+                    .wrap(errorJson.getBytes(StandardCharsets.UTF_8));
+            return exchange.getResponse().writeWith(Mono.just(buffer));
+        } catch (Exception e) {
+            log.error("Failed to create error response", e);
+            return exchange.getResponse().setComplete();
+        }
+    }
+
+    /**
+     * 실패 1건 로그 - 응답/결과로 변환되는 지점에서 한 번만 호출 (처리 서비스는 다시 기록하지 않음)
+     *
+     * <p>
+     * 분류되지 않은 5xx 만 stack trace 를 남긴다. 업스트림 실패/지연(502, 504)은 원인 한 줄, 4xx/429/503 은
+     * access log 의 status/error 로 충분하므로 기록하지 않는다.
+     */
+    public static void logFailure(StageTimings timings, HttpStatus status, Throwable error) {
+        if (!status.is5xxServerError() || status == HttpStatus.SERVICE_UNAVAILABLE) {
+            return;
+        }
+        try (TraceContext.Scope scope = timings.trace().mdc()) {
+            if (status == HttpStatus.BAD_GATEWAY || status == HttpStatus.GATEWAY_TIMEOUT) {
+                log.warn("[ErrorResponse] 업스트림 실패 - status: {}, {}: {}", status.value(),
+                        error.getClass().getSimpleName(), error.getMessage());
+            } else {
+                log.error("[ErrorResponse] 예기치 못한 오류 - status: {}", status.value(), error);
+            }
+        }
+    }
+
+    public static HttpStatus statusOf(Throwable error) {
+        if (error instanceof InvalidRequestException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (error instanceof SoapServiceException) {
+            return HttpStatus.BAD_GATEWAY;
+        } else if (error instanceof ConversionException) {
+            return HttpStatus.UNPROCESSABLE_ENTITY;
+        } else if (error instanceof ServiceOverloadedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (error instanceof RateLimitedException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        } else if (error instanceof ResponseStatusException statusException) {
+            HttpStatus status = HttpStatus.resolve(statusException.getStatusCode().value());
+            return status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    public static Map<String, Object> body(Throwable error) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", error.getClass().getSimpleName());
+        errorResponse.put("message", error.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMAT));
+        return errorResponse;
+    }
+}
@@ -0,0 +1,52 @@
+package com.kt.kol.gateway.itg.handler;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.common.constant.MediaTypes;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 본문을 읽기 전 단계의 빠른 거절 응답
+ *
+ * <p>
+ * 과부하 상황에서 호출되므로 응답 본문은 미리 인코딩해 두고 직렬화/할당 없이 그대로 쓴다.
+ */
+public final class FastRejection {
+
+    public static final byte[] TOO_MANY_REQUESTS = encode("TooManyRequests", "Rate limit exceeded");
+    public static final byte[] SERVICE_UNAVAILABLE = encode("ServiceUnavailable", "Gateway overloaded, retry later");
+    public static final long OVERLOAD_RETRY_AFTER_NANOS = 1_000_000_000L;
+
+    private FastRejection() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 거절 응답 작성
+     *
+     * @param retryAfterNanos Retry-After 헤더로 보낼 대기 시간 (0 이하면 생략)
+     */
+    public static Mono<Void> write(ServerWebExchange exchange, HttpStatus status, byte[] body, long retryAfterNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(MediaTypes.HEADER_CONTENT_TYPE, MediaTypes.APPLICATION_JSON_UTF8);
+        if (retryAfterNanos > 0) {
+            // 초 단위 올림 (최소 1초)
+            long seconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    private static byte[] encode(String error, String message) {
+        return ("{\"error\":\"" + error + "\",\"message\":\"" + message + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,54 @@
+package com.kt.kol.gateway.itg.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.gateway.itg.admission.AdmissionController;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.ratelimit.TokenBucketRateLimiter;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 본문을 읽기 전 헤더만으로 수행하는 진입 제어 (처리율 제한 → 과부하 차단 → 메모리 예산 선예약)
+ *
+ * <p>
+ * 단건/배치 핸들러가 공통으로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngressGuard {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdmissionController admissionController;
+    private final MemoryBudget memoryBudget;
+
+    /**
+     * 진입 제어 수행
+     *
+     * @return 거절 응답을 쓰는 Mono, 수용이면 null
+     */
+    public Mono<Void> check(ServerWebExchange exchange, MemoryBudget.Reservation reservation) {
+        // 처리율 제한: 본문 파싱 전에 헤더만으로 판단
+        long retryAfterNanos = rateLimiter.tryAcquire(exchange);
+        if (retryAfterNanos > 0) {
+            return FastRejection.write(exchange, HttpStatus.TOO_MANY_REQUESTS,
+                    FastRejection.TOO_MANY_REQUESTS, retryAfterNanos);
+        }
+
+        // 과부하 차단: 처리 중 요청/업스트림 풀 대기/이벤트 루프 지연 기준
+        if (admissionController.tryAdmit() != null) {
+            return FastRejection.write(exchange, HttpStatus.SERVICE_UNAVAILABLE,
+                    FastRejection.SERVICE_UNAVAILABLE, FastRejection.OVERLOAD_RETRY_AFTER_NANOS);
+        }
+
+        // 페이로드 메모리 예산: Content-Length 가 있으면 본문을 읽기 전에 선예약
+        if (!memoryBudget.prepay(reservation, exchange.getRequest().getHeaders().getContentLength())) {
+            return FastRejection.write(exchange, HttpStatus.SERVICE_UNAVAILABLE,
+                    FastRejection.SERVICE_UNAVAILABLE, FastRejection.OVERLOAD_RETRY_AFTER_NANOS);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,188 @@
+package com.kt.kol.gateway.itg.handler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.StageMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.model.BatchResultLine;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.properties.BatchProperties;
+import com.kt.kol.gateway.itg.service.RequestValidationService;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 배치 요청 핸들러 (/SoapBatchGateway)
+ *
+ * <p>
+ * RequestStdVO JSON 배열을 받아 각 원소를 단건과 동일한 변환/라우팅/업스트림 파이프라인으로 처리하고,
+ * 완료되는 순서대로 원소 index 를 붙인 NDJSON 한 줄씩 즉시 flush 한다.
+ * <ul>
+ * <li>배치당 동시 처리 수는 maxConcurrency, 원소 수는 maxItems 로 제한</li>
+ * <li>원소 단위 오류는 오류 줄로 기록하고 배치는 계속 진행 (HTTP 상태는 200)</li>
+ * <li>본문 파싱/크기 초과 등 스트리밍 시작 전 오류는 단건과 같은 JSON 에러 응답</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class SoapBatchHandler {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final PerformanceMetrics performanceMetrics;
+    private final RequestValidationService validationService;
+    private final SoapProcessingService processingService;
+    private final IngressGuard ingressGuard;
+    private final MemoryBudget memoryBudget;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final BatchProperties batchProperties;
+    private final StageMetrics stageMetrics;
+
+    private final DistributionSummary batchSize;
+    private final Counter itemSuccess;
+    private final Counter itemError;
+
+    public SoapBatchHandler(ObjectMapper objectMapper, PerformanceMetrics performanceMetrics,
+            RequestValidationService validationService, SoapProcessingService processingService,
+            IngressGuard ingressGuard, MemoryBudget memoryBudget, ErrorResponseWriter errorResponseWriter,
+            BatchProperties batchProperties, StageMetrics stageMetrics, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.performanceMetrics = performanceMetrics;
+        this.validationService = validationService;
+        this.processingService = processingService;
+        this.ingressGuard = ingressGuard;
+        this.memoryBudget = memoryBudget;
+        this.errorResponseWriter = errorResponseWriter;
+        this.batchProperties = batchProperties;
+        this.stageMetrics = stageMetrics;
+
+        this.batchSize = DistributionSummary.builder("kol.batch.size")
+                .description("Number of requests per batch")
+                .register(meterRegistry);
+        this.itemSuccess = Counter.builder("kol.batch.items")
+                .tag("result", "success")
+                .description("Batch items processed")
+                .register(meterRegistry);
+        this.itemError = Counter.builder("kol.batch.items")
+                .tag("result", "error")
+                .description("Batch items processed")
+                .register(meterRegistry);
+    }
+
+    public Mono<Void> handleRequest(ServerWebExchange exchange) {
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+        Mono<Void> rejection = ingressGuard.check(exchange, reservation);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        // 원소별 단계 시간은 배치 전체로 합산
+        StageTimings timings = stageMetrics.open(exchange);
+        return validationService.extractBatchRequest(exchange, batchProperties.getMaxItems())
+                .flatMap(items -> streamResults(exchange, items))
+                .onErrorResume(error -> {
+                    timings.error(error);
+                    return exchange.getResponse().isCommitted()
+                            ? Mono.error(error)
+                            : errorResponseWriter.write(exchange, error);
+                })
+                .doFinally(signal -> {
+                    reservation.close();
+                    stageMetrics.record(timings, exchange);
+                })
+                .contextWrite(timings::bindTo)
+                .contextWrite(reservation::bindTo);
+    }
+
+    private Mono<Void> streamResults(ServerWebExchange exchange, List<JsonNode> items) {
+        batchSize.record(items.size());
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+
+        DataBufferFactory bufferFactory = response.bufferFactory();
+        Flux<Mono<DataBuffer>> lines = Flux.range(0, items.size())
+                .flatMap(index -> processItem(exchange, index, items.get(index)),
+                        Math.max(1, batchProperties.getMaxConcurrency()))
+                .map(line -> Mono.just(encode(bufferFactory, line)));
+        return response.writeAndFlushWith(lines);
+    }
+
+    /**
+     * 원소 1건 처리 - 오류는 오류 줄로 변환, 응답 버퍼 예산은 원소 단위로 반환
+     */
+    private Mono<BatchResultLine> processItem(ServerWebExchange exchange, int index, JsonNode item) {
+        Timer.Sample sample = performanceMetrics.startSoapRequest();
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+
+        return Mono.fromCallable(() -> toRequest(item))
+                .flatMap(request -> processingService.processSoapRequest(exchange, request))
+                .map(response -> BatchResultLine.success(index, response))
+                .doOnNext(line -> {
+                    itemSuccess.increment();
+                    performanceMetrics.recordSoapSuccess(sample);
+                })
+                .onErrorResume(error -> {
+                    itemError.increment();
+                    performanceMetrics.recordSoapError(sample, error.getClass().getSimpleName());
+                    log.debug("[SoapBatch] 원소 처리 실패 - index: {}, error: {}", index, error.getMessage());
+                    HttpStatus status = ErrorResponseWriter.statusOf(error);
+                    ErrorResponseWriter.logFailure(StageTimings.from(exchange), status, error);
+                    return Mono.just(BatchResultLine.failure(index, status.value(), error));
+                })
+                .doOnCancel(() -> performanceMetrics.recordSoapError(sample, "Cancelled"))
+                .doFinally(signal -> reservation.close())
+                .contextWrite(reservation::bindTo);
+    }
+
+    private RequestStdVO toRequest(JsonNode item) {
+        RequestStdVO request;
+        try {
+            request = objectMapper.treeToValue(item, RequestStdVO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (request == null) {
+            throw new InvalidRequestException("Empty batch item");
+        }
+        validationService.validate(request);
+        return request;
+    }
+
+    private DataBuffer encode(DataBufferFactory bufferFactory, BatchResultLine line) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(line);
+        } catch (JsonProcessingException e) {
+            log.error("[SoapBatch] 결과 직렬화 실패 - index: {}", line.index(), e);
+            bytes = ("{\"index\":" + line.index() + ",\"status\":500,\"error\":\"SerializationFailed\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        return bufferFactory.allocateBuffer(bytes.length + 1)
+                .write(bytes)
+                .write(NEWLINE);
+    }
+}
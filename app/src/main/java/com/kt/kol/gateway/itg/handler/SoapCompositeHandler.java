@@ -0,0 +1,76 @@
+package com.kt.kol.gateway.itg.handler;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.composite.CompositeExecutor;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.StageMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.model.CompositeRequest;
+import com.kt.kol.gateway.itg.service.RequestValidationService;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 복합 요청 핸들러 (/SoapCompositeGateway)
+ *
+ * <p>
+ * DAG 형태의 SOAP 호출 묶음을 한 번의 왕복으로 처리하고 노드별 결과를 하나의 JSON 으로 반환한다.
+ * 그래프 오류는 400, 노드 단위 오류는 partial 응답(200)으로 처리한다.
+ *
+ * @see CompositeExecutor
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SoapCompositeHandler {
+
+    private final ObjectMapper objectMapper;
+    private final PerformanceMetrics performanceMetrics;
+    private final RequestValidationService validationService;
+    private final CompositeExecutor compositeExecutor;
+    private final IngressGuard ingressGuard;
+    private final MemoryBudget memoryBudget;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final StageMetrics stageMetrics;
+
+    public Mono<Void> handleRequest(ServerWebExchange exchange) {
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+        Mono<Void> rejection = ingressGuard.check(exchange, reservation);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        Timer.Sample sample = performanceMetrics.startSoapRequest();
+        StageTimings timings = stageMetrics.open(exchange);
+
+        return validationService.extractJson(exchange, CompositeRequest.class)
+                .flatMap(request -> compositeExecutor.execute(exchange, request))
+                .flatMap(response -> Mono.fromCallable(() -> objectMapper.writeValueAsBytes(response)))
+                .flatMap(bytes -> {
+                    exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(bytes);
+                    return exchange.getResponse().writeWith(Mono.just(buffer));
+                })
+                .doOnSuccess(result -> performanceMetrics.recordSoapSuccess(sample))
+                .onErrorResume(error -> {
+                    performanceMetrics.recordSoapError(sample, error.getClass().getSimpleName());
+                    timings.error(error);
+                    return errorResponseWriter.write(exchange, error);
+                })
+                .doFinally(signal -> {
+                    reservation.close();
+                    stageMetrics.record(timings, exchange);
+                })
+                .contextWrite(timings::bindTo)
+                .contextWrite(reservation::bindTo);
+    }
+}
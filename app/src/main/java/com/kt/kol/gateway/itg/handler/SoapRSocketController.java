@@ -0,0 +1,182 @@
+package com.kt.kol.gateway.itg.handler;
+
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import com.kt.kol.common.constant.RouteConstants;
+import com.kt.kol.gateway.itg.admission.AdmissionController;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.config.RSocketConfig;
+import com.kt.kol.gateway.itg.exception.RateLimitedException;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.StageMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.model.BatchResultLine;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.RSocketIngressProperties;
+import com.kt.kol.gateway.itg.ratelimit.TokenBucketRateLimiter;
+import com.kt.kol.gateway.itg.service.RequestValidationService;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.rsocket.exceptions.ApplicationErrorException;
+import io.rsocket.exceptions.RejectedException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RSocket 진입점 (내부 고빈도 호출자용 지속 연결/다중화 채널)
+ *
+ * <p>
+ * HTTP 진입점과 동일한 검증/변환/라우팅 서비스를 사용하며, 요청 헤더(KOL-Cmpn-Cd 등)는
+ * {@code application/vnd.kol.headers+json} 메타데이터로 전달한다.
+ * <ul>
+ * <li>soap.request (request-response): RequestStdVO → ResponseStdVO, 오류는 ERROR 프레임
+ * ("상태코드 오류유형: 메시지", 과부하는 REJECTED)</li>
+ * <li>soap.channel (request-channel): RequestStdVO 스트림 → 스트림 내 순번(index)을 붙인 BatchResultLine 스트림.
+ * 동시 처리 수는 maxConcurrency 로 제한되고 초과분은 requestN 역압으로 호출자에서 대기</li>
+ * </ul>
+ * 처리율 제한(라우트 ID = RSocket 라우트명, 키는 메타데이터 헤더), 과부하 차단, 메모리 예산은 요청 단위로 적용한다.
+ * 채널 스트림은 원소마다 판단하므로 초과 원소는 429 결과 줄로 돌려준다.
+ *
+ * <p>
+ * RSocket 진입점 자체에는 인증이 없으므로 spring.rsocket.server.port 는 내부망 전용 포트로만 지정한다.
+ */
+@Controller
+@Slf4j
+public class SoapRSocketController {
+
+    private final RequestValidationService validationService;
+    private final SoapProcessingService processingService;
+    private final AdmissionController admissionController;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final MemoryBudget memoryBudget;
+    private final PerformanceMetrics performanceMetrics;
+    private final RSocketIngressProperties properties;
+    private final StageMetrics stageMetrics;
+
+    private static final String RSOCKET_INGRESS = "rsocket";
+
+    private final Counter requestSuccess;
+    private final Counter requestError;
+    private final Counter channelSuccess;
+    private final Counter channelError;
+
+    public SoapRSocketController(RequestValidationService validationService,
+            SoapProcessingService processingService, AdmissionController admissionController,
+            TokenBucketRateLimiter rateLimiter, MemoryBudget memoryBudget, PerformanceMetrics performanceMetrics, RSocketIngressProperties properties,
+            StageMetrics stageMetrics, MeterRegistry meterRegistry) {
+        this.validationService = validationService;
+        this.processingService = processingService;
+        this.admissionController = admissionController;
+        this.rateLimiter = rateLimiter;
+        this.memoryBudget = memoryBudget;
+        this.performanceMetrics = performanceMetrics;
+        this.properties = properties;
+        this.stageMetrics = stageMetrics;
+
+        this.requestSuccess = counter(meterRegistry, "request", "success");
+        this.requestError = counter(meterRegistry, "request", "error");
+        this.channelSuccess = counter(meterRegistry, "channel", "success");
+        this.channelError = counter(meterRegistry, "channel", "error");
+    }
+
+    @MessageMapping(RouteConstants.RSOCKET_SOAP_REQUEST_ROUTE)
+    public Mono<ResponseStdVO> request(RequestStdVO request,
+            @Header(name = RSocketConfig.HEADERS_METADATA, required = false) Map<String, String> metadata) {
+        return process(RouteConstants.RSOCKET_SOAP_REQUEST_ROUTE, toHeaders(metadata), request)
+                .doOnSuccess(response -> requestSuccess.increment())
+                .doOnError(error -> requestError.increment())
+                .onErrorMap(SoapRSocketController::toRSocketError);
+    }
+
+    @MessageMapping(RouteConstants.RSOCKET_SOAP_CHANNEL_ROUTE)
+    public Flux<BatchResultLine> channel(Flux<RequestStdVO> requests,
+            @Header(name = RSocketConfig.HEADERS_METADATA, required = false) Map<String, String> metadata) {
+        HttpHeaders headers = toHeaders(metadata);
+        return requests.index()
+                .flatMap(item -> {
+                    int index = item.getT1().intValue();
+                    return process(RouteConstants.RSOCKET_SOAP_CHANNEL_ROUTE, headers, item.getT2())
+                            .map(response -> BatchResultLine.success(index, response))
+                            .doOnNext(line -> channelSuccess.increment())
+                            .onErrorResume(error -> {
+                                channelError.increment();
+                                log.debug("[RSocket] 채널 원소 처리 실패 - index: {}, error: {}", index,
+                                        error.getMessage());
+                                return Mono.just(BatchResultLine.failure(index,
+                                        ErrorResponseWriter.statusOf(error).value(), error));
+                            });
+                }, Math.max(1, properties.getMaxConcurrency()));
+    }
+
+    /**
+     * 요청 1건 처리 - 처리율 제한, 과부하 차단, 필수 필드 검증, 요청 단위 메모리 예산/처리 메트릭
+     */
+    private Mono<ResponseStdVO> process(String route, HttpHeaders headers, RequestStdVO request) {
+        if (rateLimiter.tryAcquire(route, headers, null) > 0) {
+            return Mono.error(new RateLimitedException("Rate limit exceeded"));
+        }
+        if (admissionController.tryAdmit() != null) {
+            return Mono.error(new ServiceOverloadedException("Gateway overloaded"));
+        }
+        Timer.Sample sample = performanceMetrics.startSoapRequest();
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+        StageTimings timings = stageMetrics.open(RSOCKET_INGRESS);
+        return Mono.fromCallable(() -> {
+            validationService.validate(request);
+            return request;
+        })
+                .flatMap(validated -> processingService.processSoapRequest(headers, validated))
+                .doOnSuccess(response -> performanceMetrics.recordSoapSuccess(sample))
+                .doOnError(error -> {
+                    performanceMetrics.recordSoapError(sample, error.getClass().getSimpleName());
+                    timings.error(error);
+                    ErrorResponseWriter.logFailure(timings, ErrorResponseWriter.statusOf(error), error);
+                })
+                .doOnCancel(() -> performanceMetrics.recordSoapError(sample, "Cancelled"))
+                .doFinally(signal -> {
+                    reservation.close();
+                    stageMetrics.record(timings);
+                })
+                .contextWrite(timings::bindTo)
+                .contextWrite(reservation::bindTo);
+    }
+
+    private static HttpHeaders toHeaders(Map<String, String> metadata) {
+        HttpHeaders headers = new HttpHeaders();
+        if (metadata != null) {
+            metadata.forEach((name, value) -> {
+                if (value != null) {
+                    headers.set(name, value);
+                }
+            });
+        }
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    private static Throwable toRSocketError(Throwable error) {
+        if (error instanceof ServiceOverloadedException || error instanceof RateLimitedException) {
+            return new RejectedException(error.getMessage());
+        }
+        return new ApplicationErrorException(ErrorResponseWriter.statusOf(error).value() + " "
+                + error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String interaction, String result) {
+        return Counter.builder("kol.rsocket.requests")
+                .tag("interaction", interaction)
+                .tag("result", result)
+                .description("SOAP requests received over the RSocket ingress")
+                .register(meterRegistry);
+    }
+}
@@ -1,22 +1,20 @@
 package com.kt.kol.gateway.itg.handler;
 
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.springframework.core.convert.ConversionException;
-import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ServerWebExchange;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kt.kol.gateway.itg.exception.InvalidRequestException;
-import com.kt.kol.gateway.itg.exception.SoapServiceException;
+import com.kt.kol.common.constant.RouteConstants;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.async.AsyncJobManager;
+import com.kt.kol.gateway.itg.delivery.FireAndForgetDelivery;
 import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
-import com.kt.kol.common.constant.MediaTypes;
+import com.kt.kol.gateway.itg.metrics.StageMetrics;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
 import com.kt.kol.gateway.itg.service.RequestValidationService;
 import com.kt.kol.gateway.itg.service.ResponseWriterService;
 import com.kt.kol.gateway.itg.service.SoapProcessingService;
@@ -31,74 +29,89 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class SoapRequestHandler {
 
-    private final ObjectMapper objectMapper;
     private final PerformanceMetrics performanceMetrics;
     private final RequestValidationService validationService;
     private final SoapProcessingService processingService;
     private final ResponseWriterService writerService;
+    private final IngressGuard ingressGuard;
+    private final MemoryBudget memoryBudget;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final AsyncJobManager asyncJobManager;
+    private final FireAndForgetDelivery fireAndForgetDelivery;
+    private final StageMetrics stageMetrics;
 
     /**
      * 최적화된 핸들러 - 새로운 서비스 사용
      * SOAP 헤더 정보가 포함된 강화된 Exchange 사용
      */
     public Mono<Void> handleRequest(ServerWebExchange exchange) {
+        // 처리율 제한/과부하 차단/메모리 예산: 본문 파싱 전에 헤더만으로 판단
+        MemoryBudget.Reservation reservation = memoryBudget.open();
+        Mono<Void> rejection = ingressGuard.check(exchange, reservation);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        // 비동기 작업 모드: 작업 용량이 없으면 본문을 읽기 전에 거절
+        boolean async = asyncJobManager.isAsyncRequested(exchange);
+        if (async && !asyncJobManager.hasCapacity()) {
+            return FastRejection.write(exchange, HttpStatus.SERVICE_UNAVAILABLE,
+                    FastRejection.SERVICE_UNAVAILABLE, FastRejection.OVERLOAD_RETRY_AFTER_NANOS);
+        }
+
+        // fire-and-forget (X-Transaction-Flag: T): 로그 적체 한도 초과 시 본문을 읽기 전에 거절
+        boolean fireAndForget = !async && fireAndForgetDelivery.isFireAndForget(exchange);
+        if (fireAndForget && !fireAndForgetDelivery.hasCapacity()) {
+            return FastRejection.write(exchange, HttpStatus.SERVICE_UNAVAILABLE,
+                    FastRejection.SERVICE_UNAVAILABLE, FastRejection.OVERLOAD_RETRY_AFTER_NANOS);
+        }
+
         Timer.Sample sample = performanceMetrics.startSoapRequest();
+        StageTimings timings = stageMetrics.open(exchange);
+        // 비동기 작업은 접수(202)가 아니라 작업 완료 시점에 성공/실패 기록
+        AtomicBoolean recordedByJob = new AtomicBoolean();
 
         return validationService.extractAndValidateRequest(exchange)
                 .flatMap(validatedRequest -> {
+                    if (async) {
+                        // 작업 접수 후 즉시 202 - 업스트림 호출은 백그라운드에서 계속
+                        var status = asyncJobManager.submit(validatedRequest.exchange(), validatedRequest.request(),
+                                sample);
+                        recordedByJob.set(true);
+                        exchange.getResponse().getHeaders().set(HttpHeaders.LOCATION,
+                                RouteConstants.SOAP_JOBS_PATH_PREFIX + status.jobId());
+                        return writerService.writeJson(exchange, HttpStatus.ACCEPTED, status);
+                    }
+                    if (fireAndForget) {
+                        // 로그 기록 후 즉시 202 - 업스트림 전달은 전달 스레드가 재시도 포함 수행
+                        return processingService.enqueueSoapRequest(validatedRequest.exchange(),
+                                validatedRequest.request())
+                                .flatMap(sequence -> writerService.writeJson(exchange, HttpStatus.ACCEPTED,
+                                        Map.of("status", "QUEUED", "sequence", sequence)));
+                    }
                     // 강화된 Exchange를 사용하여 SOAP 처리
                     return processingService.processSoapRequest(
                             validatedRequest.exchange(), // 강화된 Exchange 사용
                             validatedRequest.request())
                             .flatMap(response -> writerService.writeResponse(validatedRequest.exchange(), response));
                 })
-                .doOnSuccess(result -> performanceMetrics.recordSoapSuccess(sample))
+                .doOnSuccess(result -> {
+                    if (!recordedByJob.get()) {
+                        performanceMetrics.recordSoapSuccess(sample);
+                    }
+                })
                 .onErrorResume(error -> {
-                    String errorType = error.getClass().getSimpleName();
-                    performanceMetrics.recordSoapError(sample, errorType);
-                    return handleError(exchange, error);
-                });
-    }
-
-    /**
-     * 에러 처리 메소드
-     */
-    private Mono<Void> handleError(ServerWebExchange exchange, Throwable error) {
-        log.error("Error processing SOAP request", error);
-
-        // HTTP 상태 코드 설정
-        HttpStatus httpStatus = determineHttpStatus(error);
-        exchange.getResponse().setStatusCode(httpStatus);
-        exchange.getResponse().getHeaders().add(MediaTypes.HEADER_CONTENT_TYPE, MediaTypes.APPLICATION_JSON_UTF8);
-
-        // 에러 응답 생성
-        try {
-            String errorJson = createErrorJson(error);
-            DataBuffer buffer = exchange.getResponse().bufferFactory()
-                    .wrap(errorJson.getBytes(StandardCharsets.UTF_8));
-            return exchange.getResponse().writeWith(Mono.just(buffer));
-        } catch (Exception e) {
-            log.error("Failed to create error response", e);
-            return exchange.getResponse().setComplete();
-        }
-    }
-
-    private HttpStatus determineHttpStatus(Throwable error) {
-        if (error instanceof InvalidRequestException) {
-            return HttpStatus.BAD_REQUEST;
-        } else if (error instanceof SoapServiceException) {
-            return HttpStatus.BAD_GATEWAY;
-        } else if (error instanceof ConversionException) {
-            return HttpStatus.UNPROCESSABLE_ENTITY;
-        }
-        return HttpStatus.INTERNAL_SERVER_ERROR;
-    }
-
-    private String createErrorJson(Throwable error) throws Exception {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("error", error.getClass().getSimpleName());
-        errorResponse.put("message", error.getMessage());
-        errorResponse.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        return objectMapper.writeValueAsString(errorResponse);
+                    if (!recordedByJob.get()) {
+                        performanceMetrics.recordSoapError(sample, error.getClass().getSimpleName());
+                    }
+                    timings.error(error);
+                    return errorResponseWriter.write(exchange, error);
+                })
+                .doFinally(signal -> {
+                    reservation.close();
+                    stageMetrics.record(timings, exchange);
+                })
+                .contextWrite(timings::bindTo)
+                .contextWrite(reservation::bindTo);
     }
-}
\ No newline at end of file
+}
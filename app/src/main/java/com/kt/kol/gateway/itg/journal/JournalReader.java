@@ -0,0 +1,134 @@
+package com.kt.kol.gateway.itg.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.kt.kol.gateway.itg.storage.MappedSegmentLog;
+
+/**
+ * 페이로드 저널 오프라인 조회 도구 (Spring 컨텍스트 없이 실행)
+ *
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.kt.kol.gateway.itg.journal.JournalReader \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher &lt;journal-dir&gt; [옵션]
+ *
+ *   --id &lt;correlationId&gt;   상관관계 id 일치
+ *   --op &lt;svcName.fnName&gt;  오퍼레이션 일치
+ *   --app &lt;appName&gt;        appName 일치
+ *   --from / --to &lt;time&gt;   기간 (ISO-8601 instant 또는 epoch millis, to 는 미포함)
+ *   --status &lt;code&gt;       업스트림 상태 일치 (0: 연결 오류 등)
+ *   --dump                 요청/응답 원문 출력
+ *   --limit &lt;n&gt;            최대 출력 건수 (기본 100)
+ * </pre>
+ *
+ * 기록 중인 디렉터리도 읽기 전용으로 조회할 수 있다 ({@link MappedSegmentLog#scan}).
+ */
+public final class JournalReader {
+
+    private String correlationId;
+    private String operation;
+    private String appName;
+    private long fromMillis = Long.MIN_VALUE;
+    private long toMillis = Long.MAX_VALUE;
+    private Integer status;
+    private boolean dump;
+    private int limit = 100;
+
+    private JournalReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println("usage: JournalReader <journal-dir> [--id X] [--op svc.fn] [--app A] "
+                    + "[--from T] [--to T] [--status N] [--dump] [--limit N]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        if (!Files.isDirectory(directory)) {
+            System.err.println("journal directory not found: " + directory);
+            System.exit(2);
+        }
+        JournalReader reader = new JournalReader();
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--id" -> reader.correlationId = args[++i];
+                case "--op" -> reader.operation = args[++i];
+                case "--app" -> reader.appName = args[++i];
+                case "--from" -> reader.fromMillis = parseTime(args[++i]);
+                case "--to" -> reader.toMillis = parseTime(args[++i]);
+                case "--status" -> reader.status = Integer.parseInt(args[++i]);
+                case "--dump" -> reader.dump = true;
+                case "--limit" -> reader.limit = Integer.parseInt(args[++i]);
+                default -> {
+                    System.err.println("unknown option: " + args[i]);
+                    System.exit(2);
+                }
+            }
+        }
+        int matched = reader.run(directory, System.out);
+        System.err.println(matched + " record(s)");
+    }
+
+    private int run(Path directory, PrintStream out) throws IOException {
+        AtomicInteger matched = new AtomicInteger();
+        MappedSegmentLog.scan(directory, entry -> {
+            if (matched.get() >= limit) {
+                return;
+            }
+            JournalRecord record;
+            try {
+                record = JournalRecord.decode(entry.payload());
+            } catch (IOException e) {
+                out.printf("#%d <unreadable: %s>%n", entry.sequence(), e.getMessage());
+                return;
+            }
+            if (matches(record)) {
+                matched.incrementAndGet();
+                print(entry.sequence(), record, out);
+            }
+        });
+        return matched.get();
+    }
+
+    private boolean matches(JournalRecord record) {
+        return (correlationId == null || correlationId.equals(record.correlationId()))
+                && (operation == null || operation.equals(record.operation()))
+                && (appName == null || appName.equals(record.appName()))
+                && (status == null || status == record.status())
+                && record.timestampMillis() >= fromMillis && record.timestampMillis() < toMillis;
+    }
+
+    private void print(long sequence, JournalRecord record, PrintStream out) {
+        out.printf("#%d %s id=%s app=%s op=%s endpoint=%s status=%d elapsedMs=%.3f req=%d%s res=%s%s%n",
+                sequence, Instant.ofEpochMilli(record.timestampMillis()), record.correlationId(),
+                record.appName(), record.operation(), record.endpoint(), record.status(),
+                record.elapsedMicros() / 1_000.0,
+                record.request().length, record.requestTruncated() ? "(truncated)" : "",
+                record.response() != null ? String.valueOf(record.response().length) : "-",
+                record.responseTruncated() ? "(truncated)" : "");
+        if (dump) {
+            out.println("--- request");
+            out.println(record.requestText());
+            out.println("--- response");
+            out.println(record.response() != null ? record.responseText() : "<none>");
+            out.println();
+        }
+    }
+
+    private static long parseTime(String value) {
+        try {
+            return Instant.parse(value).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException nfe) {
+                throw new IllegalArgumentException("Invalid time: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.kt.kol.gateway.itg.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 저널 레코드 1건과 바이너리 형식
+ *
+ * <pre>
+ * [version:byte][flags:byte][timestamp:long][elapsedMicros:int][status:short]
+ * [correlationId:UTF][appName:UTF][svcName:UTF][fnName:UTF][endpoint:UTF]
+ * [requestLength:int][compressedLength:int][request deflate bytes]
+ * [responseLength:int][compressedLength:int][response deflate bytes]   (응답 없음: responseLength -1)
+ * </pre>
+ *
+ * flags 는 잘림 표시 (bit0 요청, bit1 응답), length 는 압축 전 UTF-8 바이트 수다.
+ *
+ * @param status 업스트림 HTTP 상태 (연결 오류 등은 0)
+ */
+public record JournalRecord(long timestampMillis, String correlationId, String appName, String svcName,
+        String fnName, String endpoint, int status, int elapsedMicros, byte[] request, byte[] response,
+        boolean requestTruncated, boolean responseTruncated) {
+
+    private static final byte VERSION = 1;
+    private static final int REQUEST_TRUNCATED = 1;
+    private static final int RESPONSE_TRUNCATED = 1 << 1;
+
+    public String operation() {
+        return svcName + "." + fnName;
+    }
+
+    /**
+     * 직렬화 - deflater 는 호출 스레드 전용 (기록 스레드가 재사용)
+     */
+    byte[] encode(Deflater deflater) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + request.length / 4
+                + (response != null ? response.length / 4 : 0));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte((requestTruncated ? REQUEST_TRUNCATED : 0) | (responseTruncated ? RESPONSE_TRUNCATED : 0));
+            out.writeLong(timestampMillis);
+            out.writeInt(elapsedMicros);
+            out.writeShort(status);
+            out.writeUTF(nullToEmpty(correlationId));
+            out.writeUTF(nullToEmpty(appName));
+            out.writeUTF(nullToEmpty(svcName));
+            out.writeUTF(nullToEmpty(fnName));
+            out.writeUTF(nullToEmpty(endpoint));
+            writeCompressed(out, request, deflater);
+            if (response != null) {
+                writeCompressed(out, response, deflater);
+            } else {
+                out.writeInt(-1);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 역직렬화 (원문 압축 해제 포함)
+     */
+    static JournalRecord decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported journal record version: " + version);
+            }
+            int flags = in.readByte();
+            long timestamp = in.readLong();
+            int elapsedMicros = in.readInt();
+            int status = in.readShort();
+            String correlationId = in.readUTF();
+            String appName = in.readUTF();
+            String svcName = in.readUTF();
+            String fnName = in.readUTF();
+            String endpoint = in.readUTF();
+            byte[] request = readCompressed(in);
+            byte[] response = readCompressed(in);
+            return new JournalRecord(timestamp, emptyToNull(correlationId), appName, svcName, fnName, endpoint,
+                    status, elapsedMicros, request, response, (flags & REQUEST_TRUNCATED) != 0,
+                    (flags & RESPONSE_TRUNCATED) != 0);
+        }
+    }
+
+    public String requestText() {
+        return request != null ? new String(request, StandardCharsets.UTF_8) : null;
+    }
+
+    public String responseText() {
+        return response != null ? new String(response, StandardCharsets.UTF_8) : null;
+    }
+
+    private static void writeCompressed(DataOutputStream out, byte[] raw, Deflater deflater) throws IOException {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(chunk);
+            compressed.write(chunk, 0, n);
+        }
+        out.writeInt(raw.length);
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+    }
+
+    /**
+     * 압축 원문 읽기 (응답 없음은 null)
+     */
+    private static byte[] readCompressed(DataInputStream in) throws IOException {
+        int rawLength = in.readInt();
+        if (rawLength < 0) {
+            return null;
+        }
+        byte[] compressed = new byte[in.readInt()];
+        in.readFully(compressed);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int offset = 0;
+            while (offset < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, offset, rawLength - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated journal payload");
+                }
+                offset += n;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted journal payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
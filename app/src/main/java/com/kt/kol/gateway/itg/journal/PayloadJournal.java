@@ -0,0 +1,219 @@
+package com.kt.kol.gateway.itg.journal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.properties.JournalProperties;
+import com.kt.kol.gateway.itg.storage.MappedSegmentLog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * SOAP 요청/응답 원문 감사 저널
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>업스트림 호출이 끝나면 원문 문자열 참조만 bounded queue 에 넣고 즉시 반환 - 건수/크기 상한 초과 시 drop</li>
+ * <li>전용 기록 스레드가 UTF-8 인코딩, deflate 압축 후 {@link MappedSegmentLog} 세그먼트에 추가</li>
+ * <li>세그먼트 수가 maxSegments 를 넘으면 오래된 세그먼트부터 삭제 (크기 기반 순환)</li>
+ * <li>조회는 오프라인 도구 {@link JournalReader} 로 세그먼트 디렉터리를 직접 읽음</li>
+ * </ul>
+ * 요청 경로 비용은 샘플링 판단과 queue offer 뿐이므로 DEBUG 로그로 원문을 남기는 것보다 훨씬 싸다.
+ */
+@Component
+@Slf4j
+public class PayloadJournal {
+
+
+    private final JournalProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter compressedBytes;
+    private final Timer writeTimer;
+
+    private final AtomicLong queuedChars = new AtomicLong();
+    private BlockingQueue<Capture> queue;
+    private MappedSegmentLog journal;
+    private Thread writer;
+    private Disposable forcer;
+    private volatile boolean running;
+
+    /**
+     * 기록 대기 항목 - 원문은 문자열 참조로 보관 (인코딩/압축은 기록 스레드)
+     */
+    private record Capture(long timestampMillis, String correlationId, SvcRequestInfoDTO info, String endpoint,
+            int status, long elapsedNanos, String request, String response) {
+
+        long chars() {
+            return request.length() + (response != null ? response.length() : 0);
+        }
+    }
+
+    public PayloadJournal(JournalProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.writtenCounter = recordCounter("written");
+        this.droppedCounter = recordCounter("dropped");
+        this.failedCounter = recordCounter("failed");
+        this.compressedBytes = Counter.builder("kol.journal.bytes")
+                .description("Compressed bytes appended to the payload journal")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("kol.journal.write.duration")
+                .description("Payload journal encode + compress + append time per record")
+                .register(meterRegistry);
+    }
+
+    private Counter recordCounter(String result) {
+        return Counter.builder("kol.journal.records")
+                .tag("result", result)
+                .description("Payload journal records by outcome")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        journal = MappedSegmentLog.open(Path.of(properties.getDirectory()),
+                (int) properties.getSegmentSize().toBytes());
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        meterRegistry.gaugeCollectionSize("kol.journal.queue.size", List.of(), queue);
+        Gauge.builder("kol.journal.queue.chars", queuedChars, AtomicLong::get)
+                .description("Payload characters waiting to be journaled")
+                .register(meterRegistry);
+
+        long interval = properties.getForceInterval().toMillis();
+        forcer = Schedulers.single().schedulePeriodically(journal::force, interval, interval, TimeUnit.MILLISECONDS);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "soap-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("[Journal] 시작 - dir: {}, segments: {}, maxSegments: {}", properties.getDirectory(),
+                journal.segmentCount(), properties.getMaxSegments());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (forcer != null) {
+            forcer.dispose();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * 업스트림 호출 결과 제출 - 샘플링 제외 또는 상한 초과 시 즉시 반환 (요청 경로 비차단)
+     *
+     * @param correlationId 업스트림에 보낸 X-Correlation-Id ({@code UpstreamCall#correlationId()})
+     * @param response      업스트림 응답 본문 (연결 오류 등 본문이 없으면 null)
+     * @param status        업스트림 HTTP 상태 (알 수 없으면 0)
+     */
+    public void submit(String correlationId, SvcRequestInfoDTO info, String endpoint, int status,
+            long elapsedNanos, String request, String response) {
+        if (!running || request == null || ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+        Capture capture = new Capture(System.currentTimeMillis(), correlationId, info, endpoint, status,
+                elapsedNanos, request, response);
+        long chars = capture.chars();
+        if (queuedChars.addAndGet(chars) > properties.getMaxQueuedSize().toBytes() || !queue.offer(capture)) {
+            queuedChars.addAndGet(-chars);
+            droppedCounter.increment();
+        }
+    }
+
+    private void writeLoop() {
+        Deflater deflater = new Deflater(properties.getCompressionLevel(), false);
+        try {
+            while (running) {
+                Capture capture;
+                try {
+                    capture = queue.take();
+                } catch (InterruptedException e) {
+                    break;
+                }
+                queuedChars.addAndGet(-capture.chars());
+                write(capture, deflater);
+            }
+            // 종료 시 남은 항목 기록
+            Capture capture;
+            while ((capture = queue.poll()) != null) {
+                write(capture, deflater);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void write(Capture capture, Deflater deflater) {
+        long start = System.nanoTime();
+        try {
+            int maxPayload = (int) properties.getMaxPayloadSize().toBytes();
+            byte[] request = capture.request().getBytes(StandardCharsets.UTF_8);
+            byte[] response = capture.response() != null ? capture.response().getBytes(StandardCharsets.UTF_8) : null;
+            SvcRequestInfoDTO info = capture.info();
+            JournalRecord record = new JournalRecord(capture.timestampMillis(), capture.correlationId(),
+                    info != null ? info.appName() : null, info != null ? info.svcName() : null,
+                    info != null ? info.fnName() : null, capture.endpoint(), capture.status(),
+                    (int) Math.min(Integer.MAX_VALUE, capture.elapsedNanos() / 1_000),
+                    truncate(request, maxPayload), truncate(response, maxPayload),
+                    request.length > maxPayload, response != null && response.length > maxPayload);
+            byte[] encoded = record.encode(deflater);
+            journal.append(encoded);
+            journal.trimTo(properties.getMaxSegments());
+            writtenCounter.increment();
+            compressedBytes.increment(encoded.length);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("[Journal] 기록 실패 - correlationId: {}, error: {}", capture.correlationId(), e.getMessage());
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static byte[] truncate(byte[] payload, int maxBytes) {
+        return payload != null && payload.length > maxBytes ? Arrays.copyOf(payload, maxBytes) : payload;
+    }
+}
@@ -0,0 +1,222 @@
+package com.kt.kol.gateway.itg.logging;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.properties.AccessLogProperties;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청당 1줄 구조화 접근 로그 (JSON)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>요청 종료 시 {@link StageTimings} 의 값으로 한 줄을 만들어 kol.access 로거로 기록 - 요청 경로의 INFO 로그를 대체</li>
+ * <li>오류(예외 또는 4xx/5xx)와 slowThreshold 이상 요청은 항상, 그 외는 오퍼레이션별 비율로 샘플링</li>
+ * <li>로그 줄은 스레드별로 재사용하는 StringBuilder 에 직접 조립 (포맷 파싱/가변 인자 배열/박싱 없음)</li>
+ * <li>logback 비동기 appender(ACCESS) 큐가 가득 차면 기록하지 않고 kol.accesslog.dropped 증가 - 요청 스레드를 막지 않음</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AccessLogger {
+
+    public static final String LOGGER_NAME = "kol.access";
+    private static final String APPENDER_NAME = "ACCESS";
+
+    private static final Logger ACCESS = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+    private static final int MAX_BUFFER = 8192;
+
+    private final AccessLogProperties properties;
+    private final AsyncAppender appender;
+
+    private final Counter errorRecords;
+    private final Counter slowRecords;
+    private final Counter sampledRecords;
+    private final Counter droppedRecords;
+
+    public AccessLogger(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.appender = findAsyncAppender();
+        if (properties.isEnabled() && appender == null) {
+            log.warn("[AccessLog] 비동기 appender({}) 없음 - kol.access 로거 설정 확인 필요", APPENDER_NAME);
+        }
+
+        this.errorRecords = recordCounter("error", meterRegistry);
+        this.slowRecords = recordCounter("slow", meterRegistry);
+        this.sampledRecords = recordCounter("sampled", meterRegistry);
+        this.droppedRecords = Counter.builder("kol.accesslog.dropped")
+                .description("Access log records dropped because the async appender queue was full")
+                .register(meterRegistry);
+        if (appender != null) {
+            Gauge.builder("kol.accesslog.queue.size", appender, AsyncAppender::getNumberOfElementsInQueue)
+                    .description("Access log records waiting in the async appender queue")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter recordCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("kol.accesslog.records")
+                .tag("reason", reason)
+                .description("Access log records written by selection reason")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 요청 종료 시 기록 여부 판단 후 1줄 기록
+     */
+    public void log(StageTimings timings) {
+        if (!properties.isEnabled() || !timings.isEnabled() || !ACCESS.isInfoEnabled()) {
+            return;
+        }
+        long elapsedNanos = timings.elapsedNanos();
+        String reason;
+        if (timings.error() != null || timings.status() >= 400) {
+            reason = "error";
+        } else if (elapsedNanos >= properties.getSlowThreshold().toNanos()) {
+            reason = "slow";
+        } else if (ThreadLocalRandom.current().nextDouble() < sampleRate(timings.svcRequestInfo())) {
+            reason = "sample";
+        } else {
+            return;
+        }
+        if (appender != null && appender.getRemainingCapacity() == 0) {
+            droppedRecords.increment();
+            return;
+        }
+
+        ACCESS.info(format(timings, elapsedNanos, reason));
+        switch (reason) {
+            case "error" -> errorRecords.increment();
+            case "slow" -> slowRecords.increment();
+            default -> sampledRecords.increment();
+        }
+    }
+
+    private double sampleRate(SvcRequestInfoDTO info) {
+        Map<String, Double> rates = properties.getOperationSampleRates();
+        if (info != null && !rates.isEmpty()) {
+            Double rate = rates.get(info.svcName() + "." + info.fnName());
+            if (rate != null) {
+                return rate;
+            }
+        }
+        return properties.getSampleRate();
+    }
+
+    private String format(StageTimings timings, long elapsedNanos, String reason) {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        sb.append("{\"ts\":").append(timings.startEpochMillis());
+        field(sb, "ingress", timings.ingress());
+        field(sb, "traceId", timings.trace().traceId());
+        SvcRequestInfoDTO info = timings.svcRequestInfo();
+        if (info != null) {
+            field(sb, "app", info.appName());
+            field(sb, "svc", info.svcName());
+            field(sb, "fn", info.fnName());
+            field(sb, "orderId", info.oderId());
+        }
+        field(sb, "endpoint", timings.endpoint());
+        if (timings.status() > 0) {
+            sb.append(",\"status\":").append(timings.status());
+        }
+        field(sb, "error", timings.error());
+        sb.append(",\"ms\":");
+        millis(sb, elapsedNanos);
+        sb.append(",\"reqBytes\":").append(timings.requestBytes());
+        sb.append(",\"resBytes\":").append(timings.responseBytes());
+        field(sb, "reason", reason);
+        if (properties.isIncludeStages()) {
+            sb.append(",\"stages\":{");
+            boolean first = true;
+            for (StageTimings.Stage stage : StageTimings.Stage.values()) {
+                if (timings.count(stage) > 0) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    sb.append('"').append(stage.metricName()).append("\":");
+                    millis(sb, timings.nanos(stage));
+                }
+            }
+            sb.append('}');
+        }
+        sb.append('}');
+        String line = sb.toString();
+        if (sb.capacity() > MAX_BUFFER) {
+            BUFFER.remove(); // 비정상적으로 긴 값으로 커진 버퍼는 보관하지 않음
+        }
+        return line;
+    }
+
+    /**
+     * 문자열 필드 - null 은 생략, JSON 특수문자와 제어문자는 이스케이프
+     */
+    private static void field(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * 밀리초 소수점 3자리 (String.format 없이)
+     */
+    private static void millis(StringBuilder sb, long nanos) {
+        long micros = nanos / 1_000;
+        sb.append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            sb.append('0');
+        }
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    private static AsyncAppender findAsyncAppender() {
+        if (!(LoggerFactory.getLogger(LOGGER_NAME) instanceof ch.qos.logback.classic.Logger logger)) {
+            return null;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof AsyncAppender async) {
+                return async;
+            }
+        }
+        return null;
+    }
+}
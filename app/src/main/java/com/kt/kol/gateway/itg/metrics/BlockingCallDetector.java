@@ -0,0 +1,142 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.properties.EventLoopProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+
+/**
+ * 논블로킹 스레드(Netty 이벤트 루프, Reactor parallel)의 블로킹 호출 탐지 - 테스트/스테이징 opt-in
+ *
+ * <p>
+ * gateway.event-loop.blocking-detection=true 일 때 BlockHound 를 설치한다. 설치 이전부터 대기 중이던 스레드는
+ * 허용 구간 진입이 기록되지 않아 오탐이 나므로, 스레드 풀이 만들어지기 전인 환경 준비 단계에서
+ * {@link Installer} 가 설치한다 ({@link com.kt.kol.gateway.itg.Application} 에서 등록).
+ * 블로킹 호출은 예외로 끊지 않고 호출 위치별로 처음 1회 스택 트레이스를 WARN 으로 남기고
+ * kol.eventloop.blocking.calls{method} 를 증가시킨다.
+ * JDK 13+ 에서는 JVM 옵션 -XX:+AllowRedefinitionToAddDeleteMethods 가 필요하며, 바이트코드 계측 비용이 있으므로
+ * 운영에서는 사용하지 않는다.
+ */
+@Component
+@Slf4j
+public class BlockingCallDetector {
+
+    private static final int MAX_TRACKED_METHODS = 100; // 메서드 태그 카디널리티 상한
+    private static final String ENABLED_PROPERTY = "gateway.event-loop.blocking-detection";
+
+    // BlockHound 콜백은 JVM 전역 - 컨텍스트 기동 전 호출은 로그만 남김
+    private static volatile BlockingCallDetector active;
+
+    private final EventLoopProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Counter> methodCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Boolean> reportedCallSites = new ConcurrentHashMap<>();
+    private final Counter otherMethodCounter;
+
+    public BlockingCallDetector(EventLoopProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.otherMethodCounter = blockingCounter("other");
+    }
+
+    @PostConstruct
+    public void activate() {
+        if (properties.isBlockingDetection()) {
+            active = this;
+        }
+    }
+
+    @PreDestroy
+    public void deactivate() {
+        active = null;
+    }
+
+    /**
+     * 환경 준비 단계 BlockHound 설치 - SpringApplication.addListeners 로 등록
+     */
+    public static class Installer implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            if (!event.getEnvironment().getProperty(ENABLED_PROPERTY, Boolean.class, false)) {
+                return;
+            }
+            try {
+                // ServiceLoader 통합(Reactor, Netty 등)이 논블로킹 스레드와 허용 호출을 등록
+                BlockHound.install(builder -> builder.blockingMethodCallback(BlockingCallDetector::onBlockingCall));
+                log.warn("[BlockingCall] BlockHound 설치 - 논블로킹 스레드의 블로킹 호출을 보고합니다 (운영 사용 금지)");
+            } catch (Throwable e) {
+                log.error("[BlockingCall] BlockHound 설치 실패 - JVM 옵션 -XX:+AllowRedefinitionToAddDeleteMethods 확인", e);
+            }
+        }
+    }
+
+    /**
+     * 블로킹 호출 발생 스레드에서 호출됨 - 예외를 던지지 않고 기록만 한다
+     */
+    private static void onBlockingCall(BlockingMethod method) {
+        BlockingCallDetector detector = active;
+        Exception trace = new Exception("Blocking call " + method + " on " + Thread.currentThread().getName());
+        if (detector != null) {
+            detector.report(method, trace);
+        } else {
+            log.warn("[BlockingCall] 논블로킹 스레드에서 블로킹 호출 (기동 중)", trace);
+        }
+    }
+
+    private void report(BlockingMethod method, Exception trace) {
+        String methodName = method.getClassName() + "." + method.getName();
+        counterFor(methodName).increment();
+
+        String callSite = methodName + " <- " + firstApplicationFrame(trace.getStackTrace());
+        if (reportedCallSites.size() < properties.getMaxReportedStacks()
+                && reportedCallSites.putIfAbsent(callSite, Boolean.TRUE) == null) {
+            log.warn("[BlockingCall] 논블로킹 스레드에서 블로킹 호출 - {}", callSite, trace);
+        }
+    }
+
+    private Counter counterFor(String methodName) {
+        Counter counter = methodCounters.get(methodName);
+        if (counter != null) {
+            return counter;
+        }
+        if (methodCounters.size() >= MAX_TRACKED_METHODS) {
+            return otherMethodCounter;
+        }
+        return methodCounters.computeIfAbsent(methodName, this::blockingCounter);
+    }
+
+    private Counter blockingCounter(String methodName) {
+        return Counter.builder("kol.eventloop.blocking.calls")
+                .description("Blocking calls detected on non-blocking threads")
+                .tag("method", methodName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 위치 식별용 - JDK/BlockHound/Reactor/Netty 프레임을 건너뛴 첫 프레임
+     */
+    private static String firstApplicationFrame(StackTraceElement[] frames) {
+        for (StackTraceElement frame : frames) {
+            String cls = frame.getClassName();
+            if (cls.startsWith("java.") || cls.startsWith("jdk.") || cls.startsWith("sun.")
+                    || cls.startsWith("reactor.") || cls.startsWith("io.netty.")
+                    || cls.equals(BlockingCallDetector.class.getName())) {
+                continue;
+            }
+            return frame.toString();
+        }
+        return frames.length > 0 ? frames[frames.length - 1].toString() : "unknown";
+    }
+}
@@ -0,0 +1,115 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.properties.EventLoopProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpResources;
+
+/**
+ * Netty 서버 이벤트 루프 스케줄링 지연(lag) 측정
+ *
+ * <p>
+ * 각 이벤트 루프에 주기적으로 probe 태스크를 예약하고, 예정 시각 대비 실제 실행 시각의 차이를 기록한다.
+ * 이벤트 루프 태스크 큐에서의 대기 시간(sojourn time)에 해당하며 처리량 붕괴의 가장 이른 신호다.
+ *
+ * <p>
+ * 루프별 지연은 kol.eventloop.lag{loop} 히스토그램으로, 최근 최대값은 kol.eventloop.lag.max 게이지로 발행한다.
+ * probe 는 루프당 주기마다 태스크 1개이므로 운영에서 상시 사용할 수 있다.
+ */
+@Component
+@Slf4j
+public class EventLoopLagMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final EventLoopProperties properties;
+    private final long probeIntervalNanos;
+    private final List<EventExecutor> loops = new ArrayList<>();
+    private AtomicLongArray lastLagNanos = new AtomicLongArray(0);
+    private Timer[] lagTimers = new Timer[0];
+    private volatile boolean running;
+
+    public EventLoopLagMonitor(MeterRegistry meterRegistry, EventLoopProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.probeIntervalNanos = properties.getProbeInterval().toNanos();
+    }
+
+    @PostConstruct
+    public void start() {
+        // Reactor Netty 서버와 동일한 전역 이벤트 루프 (HttpResources)
+        EventLoopGroup group = HttpResources.get().onServer(true);
+        group.forEach(loops::add);
+        lastLagNanos = new AtomicLongArray(loops.size());
+        lagTimers = new Timer[loops.size()];
+        if (properties.isLagHistogram()) {
+            for (int i = 0; i < loops.size(); i++) {
+                lagTimers[i] = Timer.builder("kol.eventloop.lag")
+                        .description("Scheduling lag of a server event loop probe task")
+                        .tag("loop", String.valueOf(i))
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry);
+            }
+        }
+        running = true;
+        for (int i = 0; i < loops.size(); i++) {
+            scheduleProbe(i);
+        }
+
+        Gauge.builder("kol.eventloop.lag.max", this, m -> m.maxLagNanos() / 1_000_000.0)
+                .description("Maximum scheduling lag across server event loops (last probe)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        log.info("[EventLoopLag] probe 시작 - loops: {}, interval: {}ms", loops.size(),
+                TimeUnit.NANOSECONDS.toMillis(probeIntervalNanos));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * 최근 probe 기준 최대 이벤트 루프 지연
+     */
+    public long maxLagNanos() {
+        long max = 0;
+        for (int i = 0; i < lastLagNanos.length(); i++) {
+            max = Math.max(max, lastLagNanos.get(i));
+        }
+        return max;
+    }
+
+    private void scheduleProbe(int index) {
+        EventExecutor loop = loops.get(index);
+        if (!running || loop.isShuttingDown()) {
+            return;
+        }
+        long expected = System.nanoTime() + probeIntervalNanos;
+        loop.schedule(() -> {
+            long lag = Math.max(0, System.nanoTime() - expected);
+            lastLagNanos.set(index, lag);
+            Timer timer = lagTimers[index];
+            if (timer != null) {
+                timer.record(lag, TimeUnit.NANOSECONDS);
+            }
+            scheduleProbe(index);
+        }, probeIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+}
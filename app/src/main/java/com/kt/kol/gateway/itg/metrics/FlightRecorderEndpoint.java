@@ -0,0 +1,35 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 처리 중 요청 및 최근 느린 요청 조회 (/actuator/inflight?limit=100)
+ */
+@Component
+@Endpoint(id = "inflight")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final InFlightRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> report(@Nullable Integer limit) {
+        List<InFlightRegistry.InFlightRequest> inFlight = registry.inFlight(limit != null ? limit : DEFAULT_LIMIT);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", registry.isEnabled());
+        report.put("inFlight", inFlight);
+        report.put("slow", registry.slowRequests());
+        return report;
+    }
+}
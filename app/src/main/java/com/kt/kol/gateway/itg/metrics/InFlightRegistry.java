@@ -0,0 +1,190 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.properties.FlightRecorderProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 처리 중 요청 레지스트리와 느린 요청 링 버퍼 (flight recorder)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>처리 중 요청은 고정 크기 슬롯 배열에 CAS 로 등록/해제 - 임의 위치에서 최대 {@value #MAX_PROBES} 칸만 탐색하고
+ * 빈 칸이 없으면 추적하지 않는다 (kol.inflight.untracked)</li>
+ * <li>slowThreshold 이상 걸린 요청은 단계별 시간 스냅샷을 고정 크기 링 버퍼에 덮어쓰며 기록</li>
+ * <li>조회({@link FlightRecorderEndpoint})는 슬롯을 순회하며 스냅샷을 만들므로 요청 경로에는 잠금이 없다</li>
+ * </ul>
+ * 메모리는 슬롯 수 + 링 버퍼 크기로 고정된다.
+ */
+@Component
+public class InFlightRegistry {
+
+    private static final int MAX_PROBES = 8;
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<StageTimings> slots;
+    private final int slotMask;
+    private final AtomicReferenceArray<SlowRequest> slowRequests;
+    private final int slowMask;
+    private final AtomicLong slowSequence = new AtomicLong();
+    private final long slowThresholdNanos;
+
+    private final Counter untrackedCounter;
+    private final Counter slowCounter;
+
+    /**
+     * 처리 중 요청 스냅샷
+     */
+    public record InFlightRequest(Instant startedAt, String traceId, String ingress, String operation, String endpoint,
+            String stage, double elapsedMs, long requestBytes, long responseBytes) {
+    }
+
+    /**
+     * 느린 요청 스냅샷 - stagesMs 는 단계별 합산 시간(ms)
+     */
+    public record SlowRequest(Instant startedAt, String traceId, String ingress, String operation, String endpoint,
+            String lastStage, double elapsedMs, long requestBytes, long responseBytes, Map<String, Double> stagesMs) {
+    }
+
+    public InFlightRegistry(FlightRecorderProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        int slotCount = enabled ? powerOfTwo(properties.getMaxInFlight()) : 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.slotMask = slotCount - 1;
+        int slowCount = enabled ? powerOfTwo(properties.getSlowCapacity()) : 1;
+        this.slowRequests = new AtomicReferenceArray<>(slowCount);
+        this.slowMask = slowCount - 1;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+
+        this.untrackedCounter = Counter.builder("kol.inflight.untracked")
+                .description("Requests not tracked because no in-flight slot was free")
+                .register(meterRegistry);
+        this.slowCounter = Counter.builder("kol.inflight.slow")
+                .description("Requests recorded into the slow-request ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("kol.inflight.tracked", this, InFlightRegistry::trackedCount)
+                .description("In-flight requests currently tracked by the registry")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 등록 - 빈 슬롯을 찾지 못하면 추적하지 않음
+     */
+    void register(StageTimings timings) {
+        if (!enabled || !timings.isEnabled()) {
+            return;
+        }
+        int start = ThreadLocalRandom.current().nextInt();
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int index = (start + i) & slotMask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, timings)) {
+                timings.slot = index;
+                return;
+            }
+        }
+        untrackedCounter.increment();
+    }
+
+    /**
+     * 요청 종료 - 슬롯 해제 및 느린 요청 기록
+     */
+    void complete(StageTimings timings) {
+        if (!enabled || !timings.isEnabled()) {
+            return;
+        }
+        if (timings.slot >= 0) {
+            slots.lazySet(timings.slot, null);
+            timings.slot = -1;
+        }
+        long elapsed = timings.elapsedNanos();
+        if (elapsed >= slowThresholdNanos) {
+            slowRequests.set((int) (slowSequence.getAndIncrement() & slowMask), slowSnapshot(timings, elapsed));
+            slowCounter.increment();
+        }
+    }
+
+    /**
+     * 처리 중 요청 목록 - 경과 시간 내림차순
+     */
+    public List<InFlightRequest> inFlight(int limit) {
+        List<InFlightRequest> result = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            StageTimings timings = slots.get(i);
+            if (timings != null) {
+                StageTimings.Stage stage = timings.currentStage();
+                result.add(new InFlightRequest(Instant.ofEpochMilli(timings.startEpochMillis()),
+                        timings.trace().traceId(), timings.ingress(), timings.operation(), timings.endpoint(),
+                        stage != null ? stage.metricName() : null,
+                        toMillis(timings.elapsedNanos()), timings.requestBytes(), timings.responseBytes()));
+            }
+        }
+        result.sort(Comparator.comparingDouble(InFlightRequest::elapsedMs).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * 최근 느린 요청 - 최신순
+     */
+    public List<SlowRequest> slowRequests() {
+        List<SlowRequest> result = new ArrayList<>();
+        long last = slowSequence.get();
+        for (long seq = last - 1; seq >= 0 && seq >= last - slowRequests.length(); seq--) {
+            SlowRequest request = slowRequests.get((int) (seq & slowMask));
+            if (request != null) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    private int trackedCount() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static SlowRequest slowSnapshot(StageTimings timings, long elapsedNanos) {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        for (StageTimings.Stage stage : StageTimings.Stage.values()) {
+            if (timings.count(stage) > 0) {
+                stages.put(stage.metricName(), toMillis(timings.nanos(stage)));
+            }
+        }
+        StageTimings.Stage last = timings.currentStage();
+        return new SlowRequest(Instant.ofEpochMilli(timings.startEpochMillis()), timings.trace().traceId(),
+                timings.ingress(), timings.operation(), timings.endpoint(), last != null ? last.metricName() : null,
+                toMillis(elapsedNanos), timings.requestBytes(), timings.responseBytes(), stages);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static int powerOfTwo(int value) {
+        int size = Integer.highestOneBit(Math.max(1, value - 1)) << 1;
+        return Math.max(2, Math.min(size, 1 << 20));
+    }
+}
@@ -0,0 +1,29 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오퍼레이션별 게이트웨이 자원 사용량 조회 (/actuator/operationcost)
+ */
+@Component
+@Endpoint(id = "operationcost")
+@RequiredArgsConstructor
+public class OperationCostEndpoint {
+
+    private final ResourceAccounting resourceAccounting;
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", resourceAccounting.isEnabled());
+        report.put("operations", resourceAccounting.costs());
+        return report;
+    }
+}
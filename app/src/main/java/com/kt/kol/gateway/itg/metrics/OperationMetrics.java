@@ -0,0 +1,276 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.constant.DomainConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.properties.OperationMetricsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 오퍼레이션별 업스트림 처리 시간 타이머 (kol.soap.operation.duration)
+ *
+ * <p>
+ * 태그: domain(appName 도메인 그룹), operation(svcName.fnName), endpoint(해석된 엔드포인트 host:port),
+ * outcome(success | error | cancelled). 요청 값이 그대로 태그가 되므로 카디널리티를 제한한다.
+ * <ul>
+ * <li>비어 있거나 길거나 허용 문자 외 값은 other</li>
+ * <li>오퍼레이션은 설정 allowlist(operations)와 업스트림 호출이 성공한 값만 상한까지 허용 - 클라이언트가 임의의
+ * svcName/fnName 으로 슬롯을 먼저 채우지 못하도록 실패한 요청의 새 값은 other</li>
+ * <li>엔드포인트(설정 기반)는 먼저 관측된 순서로 상한까지만 허용하고 이후 새 값은 other</li>
+ * </ul>
+ * 태그 조합별 Timer 는 최초 1회만 등록하고 캐시하여 요청 경로에서 레지스트리 조회를 하지 않는다.
+ */
+@Component
+@Slf4j
+public class OperationMetrics {
+
+    static final String OTHER = "other";
+    private static final String METER_NAME = "kol.soap.operation.duration";
+
+    private static final Observation NOOP = new Observation(null, null, null, 0) {
+        @Override
+        public void endpoint(String endpoint) {
+        }
+
+        @Override
+        public void stop(SignalType signal) {
+        }
+    };
+
+    private final OperationMetricsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> operations = ConcurrentHashMap.newKeySet();
+    private final Set<String> endpoints = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, String> endpointTags = new ConcurrentHashMap<>(); // 원본 URL -> 태그 값
+
+    private final Counter operationOverflow;
+    private final Counter endpointOverflow;
+
+    public OperationMetrics(OperationMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.operationOverflow = Counter.builder("kol.soap.operation.tag.overflow")
+                .tag("dimension", "operation")
+                .description("Operation tag values folded into 'other' by the cardinality guard")
+                .register(meterRegistry);
+        this.endpointOverflow = Counter.builder("kol.soap.operation.tag.overflow")
+                .tag("dimension", "endpoint")
+                .description("Operation tag values folded into 'other' by the cardinality guard")
+                .register(meterRegistry);
+
+        for (String operation : properties.getOperations()) {
+            if (isSafe(operation)) {
+                operations.add(operation);
+            } else {
+                log.warn("[OperationMetrics] 허용 문자 외 오퍼레이션 무시 - {}", operation);
+            }
+        }
+    }
+
+    /**
+     * 측정 시작 (비활성 시 아무것도 기록하지 않는 인스턴스)
+     */
+    public Observation start(SvcRequestInfoDTO svcRequestInfo) {
+        if (!properties.isEnabled() || svcRequestInfo == null) {
+            return NOOP;
+        }
+        String operation = svcRequestInfo.svcName() != null && svcRequestInfo.fnName() != null
+                ? svcRequestInfo.svcName() + "." + svcRequestInfo.fnName()
+                : null;
+        return new Observation(this, domainOf(svcRequestInfo.appName()), operation, System.nanoTime());
+    }
+
+    /**
+     * 등록된 태그 조합 수
+     */
+    public int timerCount() {
+        return timers.size();
+    }
+
+    private void record(String domain, String operation, String endpoint, String outcome, long nanos) {
+        TimerKey key = new TimerKey(domain, operation, endpoint, outcome);
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, this::register);
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        Timer.Builder builder = Timer.builder(METER_NAME)
+                .description("SOAP upstream processing time per operation")
+                .tag("domain", key.domain())
+                .tag("operation", key.operation())
+                .tag("endpoint", key.endpoint())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .serviceLevelObjectives(properties.getSlo().toArray(Duration[]::new));
+        if (!properties.getPercentiles().isEmpty()) {
+            builder.publishPercentiles(properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray());
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private static String domainOf(String appName) {
+        if (appName == null || appName.isEmpty()) {
+            return OTHER;
+        }
+        // 엔드포인트 전략과 동일한 도메인 그룹 판정
+        if (DomainConstants.CRM_DOMAIN_GROUP.contains(appName)) {
+            return "crm";
+        }
+        if (DomainConstants.ORD_DOMAIN_GROUP.contains(appName)) {
+            return "ord";
+        }
+        return OTHER;
+    }
+
+    /**
+     * 이미 허용된 오퍼레이션 태그 값 (허용 전이면 other - 새 값은 여기서 등록하지 않음)
+     */
+    String operationOf(String svcName, String fnName) {
+        if (svcName == null || fnName == null) {
+            return OTHER;
+        }
+        String operation = svcName + "." + fnName;
+        return operations.contains(operation) ? operation : OTHER;
+    }
+
+    /**
+     * 기록할 오퍼레이션 태그 - 성공한 호출만 새 값을 상한 내에서 등록
+     */
+    private String operationTag(String operation, boolean success) {
+        if (operation != null && operations.contains(operation)) {
+            return operation;
+        }
+        if (!success) {
+            operationOverflow.increment();
+            return OTHER;
+        }
+        return guard(operation, operations, properties.getMaxOperations(), operationOverflow);
+    }
+
+    private String endpointOf(String endpoint) {
+        if (endpoint == null) {
+            return OTHER;
+        }
+        String tag = endpointTags.get(endpoint);
+        if (tag != null) {
+            return tag;
+        }
+        tag = guard(hostOf(endpoint), endpoints, properties.getMaxEndpoints(), endpointOverflow);
+        // 설정 기반 URL 이므로 보통 수 개 - 비정상적으로 많으면 캐시하지 않음
+        if (endpointTags.size() < properties.getMaxEndpoints() * 4) {
+            endpointTags.put(endpoint, tag);
+        }
+        return tag;
+    }
+
+    private static String hostOf(String endpoint) {
+        try {
+            URI uri = URI.create(endpoint);
+            if (uri.getHost() == null) {
+                return null;
+            }
+            return uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 카디널리티 가드 - 허용된 값이면 그대로, 아니면 상한 내에서 새로 허용하거나 other
+     */
+    private String guard(String value, Set<String> admitted, int limit, Counter overflow) {
+        if (value != null && admitted.contains(value)) {
+            return value;
+        }
+        if (!isSafe(value)) {
+            overflow.increment();
+            return OTHER;
+        }
+        synchronized (admitted) {
+            if (admitted.contains(value)) {
+                return value;
+            }
+            if (admitted.size() >= limit) {
+                overflow.increment();
+                return OTHER;
+            }
+            admitted.add(value);
+        }
+        log.debug("[OperationMetrics] 태그 값 등록 - {} ({}/{})", value, admitted.size(), limit);
+        return value;
+    }
+
+    private boolean isSafe(String value) {
+        if (value == null || value.isEmpty() || value.length() > properties.getMaxTagLength()
+                || OTHER.equals(value)) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '_' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 요청 1건의 측정 - 엔드포인트 해석 후 {@link #endpoint(String)}, 종료 시 {@link #stop(SignalType)}
+     */
+    public static class Observation {
+        private final OperationMetrics owner;
+        private final String domain;
+        private final String operation; // 요청 값 (태그 변환 전)
+        private final long startNanos;
+        private String endpoint = OTHER;
+
+        private Observation(OperationMetrics owner, String domain, String operation, long startNanos) {
+            this.owner = owner;
+            this.domain = domain;
+            this.operation = operation;
+            this.startNanos = startNanos;
+        }
+
+        public void endpoint(String endpoint) {
+            this.endpoint = owner.endpointOf(endpoint);
+        }
+
+        /**
+         * doFinally 신호로 결과 기록
+         */
+        public void stop(SignalType signal) {
+            String outcome = switch (signal) {
+                case ON_COMPLETE -> "success";
+                case ON_ERROR -> "error";
+                default -> "cancelled";
+            };
+            owner.record(domain, owner.operationTag(operation, signal == SignalType.ON_COMPLETE), endpoint, outcome,
+                    System.nanoTime() - startNanos);
+        }
+    }
+
+    private record TimerKey(String domain, String operation, String endpoint, String outcome) {
+    }
+}
@@ -1,24 +1,49 @@
 package com.kt.kol.gateway.itg.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientState;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 /**
  * 성능 메트릭 수집 및 모니터링
  * - SOAP 요청/응답 시간 측정
- * - 연결 풀 상태 모니터링
+ * - 연결 풀 상태 모니터링 (reactor-netty 풀 MeterRegistrar 브리지, 커넥션 획득/수명 계측)
  * - 에러율 및 처리량 추적
  */
 @Component
 @Slf4j
 public class PerformanceMetrics {
     
+    public static final String SOAP_CLIENT_POOL = "soap-client";
+
+    private static final AttributeKey<ConnectionStats> CONNECTION_STATS = AttributeKey.valueOf("kol.connectionStats");
+
     private final MeterRegistry meterRegistry;
     
     // 카운터 메트릭
@@ -26,6 +51,11 @@ public class PerformanceMetrics {
     private final Counter soapSuccessCounter; 
     private final Counter soapErrorCounter;
     private final Counter connectionPoolExhaustedCounter;
+    private final ConcurrentMap<String, Counter> errorTypeCounters = new ConcurrentHashMap<>(); // 유형별 1회 등록
+
+    // 커넥션 풀 (풀 이름별 - 풀 수는 고정)
+    private final ConcurrentMap<PoolKey, RegisteredPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PoolMeters> poolMeters = new ConcurrentHashMap<>();
     
     // 타이머 메트릭
     private final Timer soapProcessingTimer;
@@ -33,7 +63,6 @@ public class PerformanceMetrics {
     private final Timer templateGenerationTimer;
     
     // 게이지 메트릭 (실시간 값)
-    private final AtomicLong activeConnections = new AtomicLong(0);
     private final AtomicLong pendingRequests = new AtomicLong(0);
     
     public PerformanceMetrics(MeterRegistry meterRegistry) {
@@ -70,7 +99,9 @@ public class PerformanceMetrics {
                 .register(meterRegistry);
         
         // 게이지 등록
-        meterRegistry.gauge("kol.connections.active", activeConnections);
+        Gauge.builder("kol.connections.active", this, m -> m.upstreamActiveConnections())
+                .description("Upstream connections currently acquired from the SOAP client pool")
+                .register(meterRegistry);
         meterRegistry.gauge("kol.requests.pending", pendingRequests);
     }
     
@@ -105,13 +136,13 @@ public class PerformanceMetrics {
         soapErrorCounter.increment();
         decrementPendingRequests();
         
-        Counter.builder("kol.soap.errors")
-                .tag("type", errorType)
-                .register(meterRegistry)
+        errorTypeCounters.computeIfAbsent(errorType, type -> Counter.builder("kol.soap.errors")
+                .tag("type", type)
+                .register(meterRegistry))
                 .increment();
         
-        log.warn("SOAP request failed. Error rate: {:.2f}%, Type: {}", 
-                getErrorRate(), errorType);
+        // 요청 단위 기록은 접근 로그(kol.access)가 담당
+        log.debug("SOAP request failed. Type: {}", errorType);
     }
     
     /**
@@ -137,16 +168,182 @@ public class PerformanceMetrics {
     }
     
     /**
-     * 연결 풀 사용량 업데이트
+     * 현재 처리 중인 요청 수
      */
-    public void updateActiveConnections(long count) {
-        activeConnections.set(count);
+    public long getPendingRequests() {
+        return pendingRequests.get();
     }
     
     public void recordConnectionPoolExhausted() {
         connectionPoolExhaustedCounter.increment();
         log.error("Connection pool exhausted! Current metrics - Active: {}, Pending: {}", 
-                 activeConnections.get(), pendingRequests.get());
+                 upstreamActiveConnections(), pendingRequests.get());
+    }
+
+    /**
+     * reactor-netty 풀 메트릭 브리지 - ConnectionProvider.builder().metrics(true, metrics::poolRegistrar)
+     *
+     * <p>풀(이름, 원격 주소)마다 kol.connection.pool.{active,idle,pending,allocated,max.allocated,max.pending}
+     * 게이지를 등록하고 풀이 폐기되면 제거한다. pending / max.pending 비율로 고갈 전에 경보를 걸 수 있다.
+     */
+    public ConnectionProvider.MeterRegistrar poolRegistrar() {
+        return new ConnectionProvider.MeterRegistrar() {
+            @Override
+            public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+                    ConnectionPoolMetrics metrics) {
+                Tags tags = Tags.of("pool", poolName, "remote", remoteOf(remoteAddress));
+                List<Meter> meters = new ArrayList<>();
+                meters.add(poolGauge("kol.connection.pool.active", "Connections acquired (in use)", tags, metrics,
+                        ConnectionPoolMetrics::acquiredSize));
+                meters.add(poolGauge("kol.connection.pool.idle", "Idle connections", tags, metrics,
+                        ConnectionPoolMetrics::idleSize));
+                meters.add(poolGauge("kol.connection.pool.pending", "Requests waiting to acquire a connection",
+                        tags, metrics, ConnectionPoolMetrics::pendingAcquireSize));
+                meters.add(poolGauge("kol.connection.pool.allocated", "Connections allocated (active + idle)",
+                        tags, metrics, ConnectionPoolMetrics::allocatedSize));
+                meters.add(poolGauge("kol.connection.pool.max.allocated", "Maximum connections", tags, metrics,
+                        ConnectionPoolMetrics::maxAllocatedSize));
+                meters.add(poolGauge("kol.connection.pool.max.pending", "Maximum pending acquire queue size",
+                        tags, metrics, ConnectionPoolMetrics::maxPendingAcquireSize));
+                pools.put(new PoolKey(poolName, id, remoteAddress), new RegisteredPool(poolName, metrics, meters));
+                log.debug("[PoolMetrics] 풀 등록 - pool: {}, remote: {}", poolName, remoteAddress);
+            }
+
+            @Override
+            public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+                RegisteredPool removed = pools.remove(new PoolKey(poolName, id, remoteAddress));
+                if (removed != null) {
+                    removed.meters().forEach(meterRegistry::remove);
+                }
+            }
+        };
+    }
+
+    /**
+     * 커넥션 획득 시간/실패 및 커넥션 수명/요청 수 계측을 HttpClient 에 추가
+     *
+     * <ul>
+     * <li>kol.connection.pool.acquire{pool,result} - 풀에서 커넥션을 얻기까지의 시간 (신규 연결 수립 포함)
+     * - 연결 시작부터 요청 전송 직전(doOnRequest)까지이며, 획득 이후의 업스트림 오류/타임아웃은 포함하지 않는다.
+     * (mapConnect 의 Mono 는 응답 수신 시에 완료되므로 그 완료 시점으로는 재지 않는다)</li>
+     * <li>kol.connection.pool.acquire.timeout{pool} - 획득 대기 시간 초과, 대기열 초과는 kol.connection.pool.exhausted</li>
+     * <li>kol.connection.lifetime{pool}, kol.connection.requests{pool} - 커넥션 종료 시 수명과 처리한 요청 수</li>
+     * </ul>
+     */
+    public HttpClient instrumentPool(HttpClient httpClient, String poolName) {
+        PoolMeters meters = poolMeters.computeIfAbsent(poolName, this::createPoolMeters);
+        return httpClient
+                .mapConnect(connect -> Mono.defer(() -> {
+                    AcquireTiming timing = new AcquireTiming(System.nanoTime());
+                    return connect
+                            .doOnError(error -> {
+                                if (timing.complete()) { // 요청 전송 전 실패만 획득 실패로 기록
+                                    meters.acquireFailure().record(timing.elapsedNanos(), TimeUnit.NANOSECONDS);
+                                    recordAcquireFailure(meters, error);
+                                }
+                            })
+                            .contextWrite(ctx -> ctx.put(AcquireTiming.class, timing));
+                }))
+                .doOnRequest((request, connection) -> {
+                    AcquireTiming timing = request.currentContextView().getOrDefault(AcquireTiming.class, null);
+                    if (timing != null && timing.complete()) {
+                        meters.acquireSuccess().record(timing.elapsedNanos(), TimeUnit.NANOSECONDS);
+                    }
+                })
+                .observe((connection, state) -> {
+                    Channel channel = connection.channel();
+                    if (state == ConnectionObserver.State.CONNECTED) {
+                        ConnectionStats stats = new ConnectionStats(System.nanoTime());
+                        channel.attr(CONNECTION_STATS).set(stats);
+                        channel.closeFuture().addListener(future -> {
+                            meters.lifetime().record(System.nanoTime() - stats.openedNanos, TimeUnit.NANOSECONDS);
+                            meters.requests().record(stats.requests);
+                        });
+                    } else if (state == HttpClientState.REQUEST_PREPARED) {
+                        ConnectionStats stats = channel.attr(CONNECTION_STATS).get();
+                        if (stats != null) {
+                            stats.requests++; // 채널 이벤트 루프에서만 갱신
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 풀의 커넥션 획득 대기 수 합계 (원격 주소별 풀 합산)
+     */
+    public long upstreamPendingAcquire(String poolName) {
+        long sum = 0;
+        for (RegisteredPool pool : pools.values()) {
+            if (pool.name().equals(poolName)) {
+                sum += pool.metrics().pendingAcquireSize();
+            }
+        }
+        return sum;
+    }
+
+    private long upstreamActiveConnections() {
+        long sum = 0;
+        for (RegisteredPool pool : pools.values()) {
+            if (pool.name().equals(SOAP_CLIENT_POOL)) {
+                sum += pool.metrics().acquiredSize();
+            }
+        }
+        return sum;
+    }
+
+    private void recordAcquireFailure(PoolMeters meters, Throwable error) {
+        // reactor-pool 예외는 reactor-netty 내부 shaded 패키지이므로 클래스 이름으로 구분
+        switch (error.getClass().getSimpleName()) {
+            case "PoolAcquireTimeoutException" -> meters.acquireTimeout().increment();
+            case "PoolAcquirePendingLimitException" -> recordConnectionPoolExhausted();
+            default -> {
+                // 연결 수립 실패 등은 acquire{result=failure} 로만 기록
+            }
+        }
+    }
+
+    private Gauge poolGauge(String name, String description, Tags tags, ConnectionPoolMetrics metrics,
+            ToIntFunction<ConnectionPoolMetrics> value) {
+        return Gauge.builder(name, metrics, m -> value.applyAsInt(m))
+                .description(description)
+                .tags(tags)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    private PoolMeters createPoolMeters(String poolName) {
+        return new PoolMeters(
+                acquireTimer(poolName, "success"),
+                acquireTimer(poolName, "failure"),
+                Counter.builder("kol.connection.pool.acquire.timeout")
+                        .tag("pool", poolName)
+                        .description("Connection acquisitions that timed out waiting for the pool")
+                        .register(meterRegistry),
+                Timer.builder("kol.connection.lifetime")
+                        .tag("pool", poolName)
+                        .description("Upstream connection lifetime from connect to close")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("kol.connection.requests")
+                        .tag("pool", poolName)
+                        .description("Requests served per upstream connection")
+                        .register(meterRegistry));
+    }
+
+    private Timer acquireTimer(String poolName, String result) {
+        return Timer.builder("kol.connection.pool.acquire")
+                .tag("pool", poolName)
+                .tag("result", result)
+                .description("Time to acquire a pooled connection (including connection establishment)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String remoteOf(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getHostString() + ":" + inet.getPort();
+        }
+        return String.valueOf(address);
     }
     
     // Private helper methods
@@ -184,8 +381,47 @@ public class PerformanceMetrics {
                 soapRequestCounter.count(),
                 getSuccessRate(),
                 getErrorRate(),
-                activeConnections.get(),
+                upstreamActiveConnections(),
                 pendingRequests.get(),
                 soapProcessingTimer.mean(java.util.concurrent.TimeUnit.MILLISECONDS));
     }
-}
\ No newline at end of file
+
+    private record PoolKey(String name, String id, SocketAddress remoteAddress) {
+    }
+
+    private record RegisteredPool(String name, ConnectionPoolMetrics metrics, List<Meter> meters) {
+    }
+
+    private record PoolMeters(Timer acquireSuccess, Timer acquireFailure, Counter acquireTimeout,
+            Timer lifetime, DistributionSummary requests) {
+    }
+
+    /**
+     * 커넥션 획득 1회의 시작 시각 - 성공(doOnRequest)/실패(doOnError) 중 먼저 도달한 쪽만 기록
+     */
+    private static final class AcquireTiming {
+        final long startNanos;
+        final AtomicBoolean completed = new AtomicBoolean();
+
+        AcquireTiming(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+
+        long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+    }
+
+    private static final class ConnectionStats {
+        final long openedNanos;
+        int requests;
+
+        ConnectionStats(long openedNanos) {
+            this.openedNanos = openedNanos;
+        }
+    }
+}
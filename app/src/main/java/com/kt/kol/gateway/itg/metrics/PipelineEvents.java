@@ -0,0 +1,150 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.JfrEventProperties;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 처리 단계별 JDK Flight Recorder 이벤트
+ *
+ * <p>
+ * 요청 검증(파싱), SOAP 변환, 업스트림 호출, 응답 변환, 응답 작성 구간을 오퍼레이션/엔드포인트/페이로드 크기/응답 유형과
+ * 함께 기록하여 녹화 파일에서 GC, 할당, 스레드 샘플과 오퍼레이션 단위로 대조할 수 있게 한다.
+ *
+ * <p>
+ * 시작 메서드는 JFR 녹화가 없거나 해당 이벤트가 꺼져 있으면 null 을 반환하고 {@link #end} 는 null 을 무시하므로,
+ * 녹화하지 않을 때 요청 경로 비용은 이벤트 타입의 enabled 확인 1회다. threshold 는 JFR 설정으로 이벤트별 지정
+ * (예: {@code jfr configure com.kt.kol.gateway.UpstreamCall#threshold=20ms}).
+ * 비동기 구간(업스트림 호출, 응답 작성)은 종료 신호를 받은 스레드에서 commit 된다.
+ */
+@Component
+public class PipelineEvents {
+
+    private static final String CATEGORY = "KOL Gateway";
+
+    @Name("com.kt.kol.gateway.RequestValidation")
+    @Label("Request Validation")
+    @Description("Request body deserialization into RequestStdVO")
+    public static final class RequestValidation extends StageEvent {
+    }
+
+    @Name("com.kt.kol.gateway.SoapConvert")
+    @Label("SOAP Convert")
+    @Description("RequestStdVO to SOAP envelope (header build + template)")
+    public static final class SoapConvert extends StageEvent {
+    }
+
+    @Name("com.kt.kol.gateway.UpstreamCall")
+    @Label("Upstream Call")
+    @Description("SOAP call from connection acquire until the response body is buffered")
+    public static final class UpstreamCall extends StageEvent {
+    }
+
+    @Name("com.kt.kol.gateway.ResponseConvert")
+    @Label("Response Convert")
+    @Description("SOAP response to ResponseStdVO")
+    public static final class ResponseConvert extends StageEvent {
+    }
+
+    @Name("com.kt.kol.gateway.ResponseWrite")
+    @Label("Response Write")
+    @Description("ResponseStdVO serialization and response transfer")
+    public static final class ResponseWrite extends StageEvent {
+    }
+
+    /**
+     * 공통 필드 - payloadBytes 는 구간이 다루는 페이로드 (요청 본문, SOAP 전문, 업스트림 응답, 응답 본문)
+     */
+    @Category({ CATEGORY, "Pipeline" })
+    @StackTrace(false)
+    public abstract static class StageEvent extends Event {
+        @Label("App Name")
+        String appName;
+
+        @Label("Operation")
+        @Description("svcName.fnName")
+        String operation;
+
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("Payload Size")
+        @DataAmount
+        long payloadBytes;
+
+        @Label("Response Type")
+        String responseType;
+    }
+
+    private final boolean enabled;
+    private final EventType requestValidation = EventType.getEventType(RequestValidation.class);
+    private final EventType soapConvert = EventType.getEventType(SoapConvert.class);
+    private final EventType upstreamCall = EventType.getEventType(UpstreamCall.class);
+    private final EventType responseConvert = EventType.getEventType(ResponseConvert.class);
+    private final EventType responseWrite = EventType.getEventType(ResponseWrite.class);
+
+    public PipelineEvents(JfrEventProperties properties) {
+        this.enabled = properties.isEnabled();
+    }
+
+    public StageEvent requestValidation() {
+        return isRecording(requestValidation) ? begin(new RequestValidation()) : null;
+    }
+
+    public StageEvent soapConvert() {
+        return isRecording(soapConvert) ? begin(new SoapConvert()) : null;
+    }
+
+    public StageEvent upstreamCall() {
+        return isRecording(upstreamCall) ? begin(new UpstreamCall()) : null;
+    }
+
+    public StageEvent responseConvert() {
+        return isRecording(responseConvert) ? begin(new ResponseConvert()) : null;
+    }
+
+    public StageEvent responseWrite() {
+        return isRecording(responseWrite) ? begin(new ResponseWrite()) : null;
+    }
+
+    /**
+     * 구간 종료 - threshold 를 넘은 경우에만 필드를 채워 commit (event 가 null 이면 무시)
+     */
+    public static void end(StageEvent event, SvcRequestInfoDTO info, String endpoint, long payloadBytes,
+            ResponseStdVO.ResponseType responseType) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            if (info != null) {
+                event.appName = info.appName();
+                event.operation = info.svcName() + "." + info.fnName();
+            }
+            event.endpoint = endpoint;
+            event.payloadBytes = payloadBytes;
+            event.responseType = responseType != null ? responseType.name() : null;
+            event.commit();
+        }
+    }
+
+    private boolean isRecording(EventType type) {
+        return enabled && type.isEnabled();
+    }
+
+    private static StageEvent begin(StageEvent event) {
+        event.begin();
+        return event;
+    }
+}
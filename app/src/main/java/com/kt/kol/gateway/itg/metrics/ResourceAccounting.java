@@ -0,0 +1,164 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.constant.DomainConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.properties.ResourceAccountingProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 오퍼레이션별 게이트웨이 자원 사용량
+ *
+ * <p>
+ * 태그: app(appName - 도메인 그룹에 등록된 값만, 그 외 other), operation(svcName.fnName - {@link OperationMetrics} 에
+ * 이미 허용된 값만, 그 외 other)
+ * <ul>
+ * <li>kol.soap.operation.payload{direction=request|response} - 요청 본문(압축 해제 후)/응답 본문(압축 전) 바이트 (전수)</li>
+ * <li>kol.soap.operation.cpu - 파싱/변환/직렬화 구간 스레드 CPU 시간 (sampleRate 비율 요청)</li>
+ * <li>kol.soap.operation.allocated - 같은 구간 할당 바이트 (sampleRate 비율 요청)</li>
+ * </ul>
+ * 요청 종료 시 {@link StageMetrics#record} 에서 {@link StageTimings} 의 누적값으로 기록한다. 오퍼레이션이 정해지기 전에
+ * 끝난 요청(검증 실패, 캐시 적중)은 기록하지 않으며, 배치/복합 요청은 마지막으로 처리된 원소의 오퍼레이션으로 집계된다.
+ */
+@Component
+public class ResourceAccounting {
+
+    private final ResourceAccountingProperties properties;
+    private final OperationMetrics operationMetrics;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<CostKey, Cost> costs = new ConcurrentHashMap<>();
+
+    /**
+     * 오퍼레이션별 누적 자원 사용량 (조회용)
+     */
+    public record OperationCost(String app, String operation, long requests, double requestBytesMean,
+            double requestBytesMax, double responseBytesMean, double responseBytesMax, long sampled,
+            double cpuMicrosMean, double cpuMillisTotal, double allocatedBytesMean) {
+    }
+
+    public ResourceAccounting(ResourceAccountingProperties properties, OperationMetrics operationMetrics,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.operationMetrics = operationMetrics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 새 요청의 CPU/할당 측정 여부
+     */
+    boolean sample() {
+        return properties.isEnabled() && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+    }
+
+    /**
+     * 요청 종료 시 누적값 기록
+     */
+    void record(StageTimings timings) {
+        SvcRequestInfoDTO info = timings.svcRequestInfo();
+        if (!properties.isEnabled() || info == null) {
+            return;
+        }
+        CostKey key = new CostKey(appOf(info.appName()), operationMetrics.operationOf(info.svcName(), info.fnName()));
+        Cost cost = costs.get(key);
+        if (cost == null) {
+            cost = costs.computeIfAbsent(key, this::register);
+        }
+        // 본문 크기를 측정하지 않는 진입점(RSocket 등)은 0 - 분포에서 제외
+        if (timings.requestBytes() > 0) {
+            cost.requestBytes.record(timings.requestBytes());
+        }
+        if (timings.responseBytes() > 0) {
+            cost.responseBytes.record(timings.responseBytes());
+        }
+        if (timings.isResourceSampled()) {
+            cost.cpu.record(timings.cpuNanos(), TimeUnit.NANOSECONDS);
+            cost.allocated.record(timings.allocatedBytes());
+        }
+    }
+
+    /**
+     * 오퍼레이션별 누적 사용량 - CPU 총합 내림차순
+     */
+    public List<OperationCost> costs() {
+        List<OperationCost> result = new ArrayList<>(costs.size());
+        costs.forEach((key, cost) -> result.add(new OperationCost(key.app(), key.operation(),
+                cost.requestBytes.count(), round(cost.requestBytes.mean()), cost.requestBytes.max(),
+                round(cost.responseBytes.mean()), cost.responseBytes.max(), cost.cpu.count(),
+                round(cost.cpu.mean(TimeUnit.MICROSECONDS)), round(cost.cpu.totalTime(TimeUnit.MILLISECONDS)),
+                round(cost.allocated.mean()))));
+        result.sort(Comparator.comparingDouble(OperationCost::cpuMillisTotal).reversed());
+        return result;
+    }
+
+    private Cost register(CostKey key) {
+        return new Cost(
+                payload(key, "request"),
+                payload(key, "response"),
+                Timer.builder("kol.soap.operation.cpu")
+                        .description("Thread CPU time spent in parse/convert/serialize stages per sampled request")
+                        .tag("app", key.app())
+                        .tag("operation", key.operation())
+                        .publishPercentileHistogram(properties.isPercentileHistogram())
+                        .register(meterRegistry),
+                DistributionSummary.builder("kol.soap.operation.allocated")
+                        .description("Bytes allocated in parse/convert/serialize stages per sampled request")
+                        .baseUnit("bytes")
+                        .tag("app", key.app())
+                        .tag("operation", key.operation())
+                        .publishPercentileHistogram(properties.isPercentileHistogram())
+                        .register(meterRegistry));
+    }
+
+    private DistributionSummary payload(CostKey key, String direction) {
+        return DistributionSummary.builder("kol.soap.operation.payload")
+                .description("Request/response body size per operation")
+                .baseUnit("bytes")
+                .tag("app", key.app())
+                .tag("operation", key.operation())
+                .tag("direction", direction)
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 도메인 그룹에 등록된 appName 만 태그로 사용 (그룹 문자열은 '|' 구분)
+     */
+    private static String appOf(String appName) {
+        if (appName == null || appName.isEmpty() || appName.indexOf('|') >= 0) {
+            return OperationMetrics.OTHER;
+        }
+        String token = appName + "|";
+        if (DomainConstants.CRM_DOMAIN_GROUP.contains(token) || DomainConstants.ORD_DOMAIN_GROUP.contains(token)) {
+            return appName;
+        }
+        return OperationMetrics.OTHER;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private record CostKey(String app, String operation) {
+    }
+
+    private record Cost(DistributionSummary requestBytes, DistributionSummary responseBytes, Timer cpu,
+            DistributionSummary allocated) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.gateway.itg.logging.AccessLogger;
+import com.kt.kol.gateway.itg.properties.StageTimingProperties;
+import com.kt.kol.gateway.itg.tracing.Tracer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청 처리 단계별 소요 시간 기록 (kol.soap.stage.duration{stage})
+ *
+ * <p>
+ * 진입점이 요청마다 {@link #open} 으로 {@link StageTimings} 를 만들고 종료 시 {@link #record} 한다.
+ * Server-Timing 헤더를 켜면 응답 커밋 직전까지 기록된 단계와 total 을 헤더로 내보낸다.
+ * 같은 측정 객체를 {@link InFlightRegistry} 에 등록하여 처리 중 요청과 느린 요청을 조회할 수 있고,
+ * 종료 시 {@link ResourceAccounting} 에 오퍼레이션별 자원 사용량을, {@link AccessLogger} 에 접근 로그를 기록한다.
+ * 시작 시 {@link Tracer} 로 trace 를 열어 측정 객체에 담고, 종료 시 샘플된 trace 의 span 을 내보낸다.
+ * (히스토그램, 레지스트리, 자원 측정, 접근 로그, 추적 중 하나라도 켜져 있으면 측정)
+ */
+@Component
+public class StageMetrics {
+
+    private final StageTimingProperties properties;
+    private final InFlightRegistry inFlightRegistry;
+    private final ResourceAccounting resourceAccounting;
+    private final AccessLogger accessLogger;
+    private final Tracer tracer;
+    private final Timer[] stageTimers;
+    private final Timer totalTimer;
+
+    public StageMetrics(StageTimingProperties properties, InFlightRegistry inFlightRegistry,
+            ResourceAccounting resourceAccounting, AccessLogger accessLogger, Tracer tracer,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.inFlightRegistry = inFlightRegistry;
+        this.resourceAccounting = resourceAccounting;
+        this.accessLogger = accessLogger;
+        this.tracer = tracer;
+
+        StageTimings.Stage[] stages = StageTimings.Stage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (StageTimings.Stage stage : stages) {
+            stageTimers[stage.ordinal()] = stageTimer(stage.metricName(), meterRegistry);
+        }
+        this.totalTimer = stageTimer("total", meterRegistry);
+    }
+
+    private Timer stageTimer(String stage, MeterRegistry meterRegistry) {
+        return Timer.builder("kol.soap.stage.duration")
+                .description("Request processing time per pipeline stage (summed per request)")
+                .tag("stage", stage)
+                .publishPercentileHistogram(properties.isPercentileHistogram())
+                .register(meterRegistry);
+    }
+
+    /**
+     * HTTP 요청 측정 시작 - exchange 속성 등록 및 (설정 시) Server-Timing 헤더 예약
+     */
+    public StageTimings open(ServerWebExchange exchange) {
+        if (!isActive()) {
+            return StageTimings.NOOP;
+        }
+        StageTimings timings = new StageTimings(exchange.getRequest().getPath().value(), resourceAccounting.sample(),
+                tracer.start(exchange.getRequest().getHeaders()));
+        exchange.getAttributes().put(StageTimings.ATTRIBUTE, timings);
+        inFlightRegistry.register(timings);
+        if (properties.isServerTimingHeader()) {
+            exchange.getResponse().beforeCommit(() -> {
+                exchange.getResponse().getHeaders().set(HeaderConstants.SERVER_TIMING, timings.toServerTiming());
+                return Mono.empty();
+            });
+        }
+        return timings;
+    }
+
+    /**
+     * exchange 없는 진입점(RSocket 등) 측정 시작 - Server-Timing 없음
+     */
+    public StageTimings open(String ingress) {
+        if (!isActive()) {
+            return StageTimings.NOOP;
+        }
+        StageTimings timings = new StageTimings(ingress, resourceAccounting.sample(), tracer.start());
+        inFlightRegistry.register(timings);
+        return timings;
+    }
+
+    /**
+     * HTTP 요청 종료 - 응답 상태를 함께 기록
+     */
+    public void record(StageTimings timings, ServerWebExchange exchange) {
+        if (timings.isEnabled()) {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            timings.status(status != null ? status.value() : HttpStatus.OK.value());
+        }
+        record(timings);
+    }
+
+    /**
+     * 기록된 단계를 히스토그램, 자원 사용량, 접근 로그, span 에 반영하고 레지스트리에서 해제 (요청 종료 시 1회)
+     */
+    public void record(StageTimings timings) {
+        if (!timings.isEnabled()) {
+            return;
+        }
+        inFlightRegistry.complete(timings);
+        resourceAccounting.record(timings);
+        accessLogger.log(timings);
+        tracer.finish(timings);
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (StageTimings.Stage stage : StageTimings.Stage.values()) {
+            if (timings.count(stage) > 0) {
+                stageTimers[stage.ordinal()].record(timings.nanos(stage), TimeUnit.NANOSECONDS);
+            }
+        }
+        totalTimer.record(timings.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private boolean isActive() {
+        return properties.isEnabled() || inFlightRegistry.isEnabled() || resourceAccounting.isEnabled()
+                || accessLogger.isEnabled() || tracer.isEnabled();
+    }
+}
@@ -0,0 +1,488 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.tracing.TraceContext;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 1건의 처리 단계별 소요 시간 (monotonic nanos) 및 처리 중 상태
+ *
+ * <p>
+ * 진입점에서 {@link StageMetrics#open} 으로 생성하여 exchange 속성과 Reactor Context 로 전달하고,
+ * 각 단계는 {@link #begin(Stage)} / {@link #end(Stage, long)} 로 구간을 기록한다. 배치/복합 요청처럼 같은 단계가
+ * 여러 번(동시에) 실행되면 소요 시간을 합산한다. 비활성 시에는 {@link #NOOP} 이 전달되며 시간도 읽지 않는다.
+ *
+ * <p>
+ * 현재 단계, 오퍼레이션, 엔드포인트, 페이로드 크기는 {@link InFlightRegistry} 가 다른 스레드에서 읽으므로
+ * volatile 필드로 둔다 (요청 경로 비용은 volatile 쓰기 수 회).
+ *
+ * <p>
+ * 자원 측정 샘플로 선택된 요청은 CPU 단계(파싱, 변환, 직렬화)의 스레드 CPU 시간과 할당 바이트를 합산한다
+ * ({@link ResourceAccounting}). CPU 단계는 시작/종료가 같은 스레드에서 동기로 실행되므로 스레드별 시작값으로 차이를 구한다.
+ *
+ * <p>
+ * 요청의 {@link TraceContext} 도 함께 담아 전달한다. span 내보내기 대상(sampled)이면 단계별 최초 시작 시각과
+ * 업스트림 호출 구간을 추가로 기록하여 종료 시 span 으로 변환한다.
+ */
+public final class StageTimings {
+
+    public static final String ATTRIBUTE = StageTimings.class.getName();
+
+    public static final StageTimings NOOP = new StageTimings(false, null, false, TraceContext.NONE);
+
+    /**
+     * 처리 단계 - metricName 은 Server-Timing 이름과 stage 태그 값, cpuBound 는 자원 측정 대상 (동기 실행 구간)
+     */
+    public enum Stage {
+        BODY_READ("read", false),               // 요청 본문 수신 (압축 해제 포함)
+        PARSE("parse", true),                   // JSON/Smile/CBOR 역직렬화
+        ELASTIC_WAIT("elastic-wait", false),    // boundedElastic 큐 대기
+        HEADER_BUILD("header", true),           // SOAP 공통 헤더 생성
+        TEMPLATE("template", true),             // SOAP 전문 생성
+        TENANT_QUEUE("tenant-queue", false),    // cmpnCd 공정 큐 대기
+        POOL_ACQUIRE("pool", false),            // 업스트림 커넥션 획득
+        UPSTREAM_SEND("send", false),           // 업스트림 요청 전송
+        UPSTREAM_TTFB("ttfb", false),           // 전송 완료 ~ 응답 헤더 수신
+        BODY_TRANSFER("transfer", false),       // 응답 본문 수신
+        CONVERT("convert", true),               // SOAP 응답 -> ResponseStdVO
+        SERIALIZE("serialize", true),           // 응답 직렬화
+        WRITE("write", false);                  // 응답 전송 (커밋 이후이므로 Server-Timing 에는 미포함)
+
+        private final String metricName;
+        private final boolean cpuBound;
+
+        Stage(String metricName, boolean cpuBound) {
+            this.metricName = metricName;
+            this.cpuBound = cpuBound;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    // CPU 단계 시작 시점의 현재 스레드 [CPU nanos, 할당 bytes]
+    private static final ThreadLocal<long[]> RESOURCE_MARKS = ThreadLocal.withInitial(() -> new long[2]);
+    private static final int CPU = 0;
+    private static final int ALLOCATED = 1;
+
+    private final boolean enabled;
+    private final String ingress;
+    private final long startNanos;
+    private final long startEpochMillis;
+    private final AtomicLongArray nanos;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray resources; // 샘플링된 요청만 [CPU nanos, 할당 bytes]
+    private final TraceContext trace;
+    private final AtomicLongArray firstBegins; // sampled trace 만 - 단계별 최초 시작 (startNanos 기준 +1, 0 은 미기록)
+    private final Queue<UpstreamCall> upstreamCalls; // sampled trace 만 - 완료된 업스트림 호출
+
+    // 처리 중 상태 (InFlightRegistry 조회용)
+    private volatile Stage currentStage;
+    private volatile SvcRequestInfoDTO svcRequestInfo;
+    private volatile String endpoint;
+    private volatile long requestBytes;
+    private volatile long responseBytes;
+    private volatile int status;        // HTTP 상태 (HTTP 외 진입점은 0)
+    private volatile String error;      // 실패 시 예외 클래스명
+    int slot = -1; // InFlightRegistry 슬롯 (등록/해제 스레드만 접근)
+
+    StageTimings(String ingress, boolean sampleResources, TraceContext trace) {
+        this(true, ingress, sampleResources, trace);
+    }
+
+    private StageTimings(boolean enabled, String ingress, boolean sampleResources, TraceContext trace) {
+        this.enabled = enabled;
+        this.ingress = ingress;
+        this.startNanos = enabled ? System.nanoTime() : 0;
+        this.startEpochMillis = enabled ? System.currentTimeMillis() : 0;
+        this.nanos = new AtomicLongArray(enabled ? STAGES.length : 0);
+        this.counts = new AtomicLongArray(enabled ? STAGES.length : 0);
+        this.resources = sampleResources ? new AtomicLongArray(2) : null;
+        this.trace = trace;
+        this.firstBegins = trace.isSampled() ? new AtomicLongArray(STAGES.length) : null;
+        this.upstreamCalls = trace.isSampled() ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Context 의 측정 객체 (없으면 NOOP)
+     */
+    public static StageTimings from(ContextView context) {
+        return context.getOrDefault(StageTimings.class, NOOP);
+    }
+
+    /**
+     * exchange 속성의 측정 객체 (없으면 NOOP)
+     */
+    public static StageTimings from(ServerWebExchange exchange) {
+        StageTimings timings = exchange.getAttribute(ATTRIBUTE);
+        return timings != null ? timings : NOOP;
+    }
+
+    public Context bindTo(Context context) {
+        return enabled ? context.put(StageTimings.class, this) : context;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 단계 진입 - 현재 단계로 표시하고 구간 시작 시각 반환 (비활성 시 0)
+     */
+    public long begin(Stage stage) {
+        if (!enabled) {
+            return 0;
+        }
+        currentStage = stage;
+        markResources(stage);
+        long now = System.nanoTime();
+        markFirstBegin(stage, now);
+        return now;
+    }
+
+    /**
+     * 구간 종료 기록
+     *
+     * @return 종료 시각 - 바로 이어지는 구간의 시작으로 사용
+     */
+    public long end(Stage stage, long beginNanos) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        add(stage, now - beginNanos);
+        accountResources(stage);
+        return now;
+    }
+
+    /**
+     * 단계 종료 후 바로 다음 단계 진입
+     *
+     * @return 종료 시각 (다음 단계 시작)
+     */
+    public long next(Stage stage, long beginNanos, Stage nextStage) {
+        if (!enabled) {
+            return 0;
+        }
+        currentStage = nextStage;
+        long now = end(stage, beginNanos);
+        markResources(nextStage);
+        markFirstBegin(nextStage, now);
+        return now;
+    }
+
+    public void add(Stage stage, long durationNanos) {
+        if (enabled && durationNanos >= 0) {
+            nanos.addAndGet(stage.ordinal(), durationNanos);
+            counts.incrementAndGet(stage.ordinal());
+        }
+    }
+
+    public long nanos(Stage stage) {
+        return enabled ? nanos.get(stage.ordinal()) : 0;
+    }
+
+    public long count(Stage stage) {
+        return enabled ? counts.get(stage.ordinal()) : 0;
+    }
+
+    /**
+     * 자원 측정 샘플 여부
+     */
+    public boolean isResourceSampled() {
+        return resources != null;
+    }
+
+    /**
+     * CPU 단계 합산 스레드 CPU 시간 (샘플이 아니면 0)
+     */
+    public long cpuNanos() {
+        return resources != null ? resources.get(CPU) : 0;
+    }
+
+    /**
+     * CPU 단계 합산 할당 바이트 (샘플이 아니면 0)
+     */
+    public long allocatedBytes() {
+        return resources != null ? resources.get(ALLOCATED) : 0;
+    }
+
+    private void markFirstBegin(Stage stage, long now) {
+        if (firstBegins != null && firstBegins.get(stage.ordinal()) == 0) {
+            firstBegins.compareAndSet(stage.ordinal(), 0, now - startNanos + 1);
+        }
+    }
+
+    /**
+     * 단계 최초 시작 시각 (요청 시작 기준 nanos, sampled trace 가 아니거나 미실행이면 -1)
+     */
+    public long firstBeginOffsetNanos(Stage stage) {
+        return firstBegins != null ? firstBegins.get(stage.ordinal()) - 1 : -1;
+    }
+
+    public TraceContext trace() {
+        return trace;
+    }
+
+    /**
+     * 완료된 업스트림 호출 (sampled trace 만, 그 외 빈 목록)
+     */
+    public Iterable<UpstreamCall> upstreamCalls() {
+        return upstreamCalls != null ? upstreamCalls : List.of();
+    }
+
+    private void markResources(Stage stage) {
+        if (resources != null && stage.cpuBound) {
+            long[] marks = RESOURCE_MARKS.get();
+            marks[CPU] = THREADS.getCurrentThreadCpuTime();
+            marks[ALLOCATED] = THREADS.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    private void accountResources(Stage stage) {
+        if (resources != null && stage.cpuBound) {
+            long[] marks = RESOURCE_MARKS.get();
+            resources.addAndGet(CPU, Math.max(0, THREADS.getCurrentThreadCpuTime() - marks[CPU]));
+            resources.addAndGet(ALLOCATED, Math.max(0, THREADS.getCurrentThreadAllocatedBytes() - marks[ALLOCATED]));
+        }
+    }
+
+    public long elapsedNanos() {
+        return enabled ? System.nanoTime() - startNanos : 0;
+    }
+
+    public void operation(SvcRequestInfoDTO svcRequestInfo) {
+        if (enabled) {
+            this.svcRequestInfo = svcRequestInfo;
+        }
+    }
+
+    public void endpoint(String endpoint) {
+        if (enabled) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    public void requestBytes(long bytes) {
+        if (enabled) {
+            this.requestBytes = bytes;
+        }
+    }
+
+    public void responseBytes(long bytes) {
+        if (enabled) {
+            this.responseBytes = bytes;
+        }
+    }
+
+    public void status(int status) {
+        if (enabled) {
+            this.status = status;
+        }
+    }
+
+    public void error(Throwable error) {
+        if (enabled) {
+            this.error = error.getClass().getSimpleName();
+        }
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public String ingress() {
+        return ingress;
+    }
+
+    public long startEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public Stage currentStage() {
+        return currentStage;
+    }
+
+    /**
+     * svcName.fnName (아직 모르면 null) - 조회 시점에 조합하여 요청 경로 할당 없음
+     */
+    public String operation() {
+        SvcRequestInfoDTO info = svcRequestInfo;
+        return info != null ? info.svcName() + "." + info.fnName() : null;
+    }
+
+    public SvcRequestInfoDTO svcRequestInfo() {
+        return svcRequestInfo;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public long requestBytes() {
+        return requestBytes;
+    }
+
+    public long responseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Server-Timing 헤더 값 - 기록된 단계만, dur 은 밀리초 (예: read;dur=0.42, parse;dur=0.11, total;dur=12.30)
+     */
+    public String toServerTiming() {
+        StringBuilder sb = new StringBuilder(256);
+        for (Stage stage : STAGES) {
+            if (stage != Stage.WRITE && counts.get(stage.ordinal()) > 0) {
+                appendMetric(sb, stage.metricName(), nanos.get(stage.ordinal()));
+            }
+        }
+        appendMetric(sb, "total", elapsedNanos());
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long durationNanos) {
+        if (sb.length() > 0) {
+            sb.append(", ");
+        }
+        sb.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", durationNanos / 1_000_000.0));
+    }
+
+    /**
+     * 업스트림 호출 1회 - 커넥션 획득/전송/TTFB/본문 수신 시각을 HttpClient 훅에서 기록
+     * (배치 원소처럼 동시 호출이 있으므로 호출 단위로 Context 에 둔다)
+     */
+    public UpstreamCall upstreamCall() {
+        return new UpstreamCall(this);
+    }
+
+    public static final class UpstreamCall {
+        private static final UpstreamCall NOOP_CALL = new UpstreamCall(NOOP, TraceContext.NONE);
+
+        private final StageTimings timings;
+        private final TraceContext trace; // 요청 trace, 없으면 이 호출에만 쓰는 미샘플링 trace
+        private final long spanId; // traceparent 로 업스트림에 전달하는 호출 span (NOOP_CALL 만 0)
+        private final long beginNanos;
+        private long lastNanos;
+        private volatile long endNanos;
+        private volatile String endpoint;
+        private volatile String outcome;
+
+        private UpstreamCall(StageTimings timings) {
+            this(timings, timings.trace.isValid() ? timings.trace : TraceContext.root(false, null));
+        }
+
+        private UpstreamCall(StageTimings timings, TraceContext trace) {
+            this.timings = timings;
+            this.trace = trace;
+            this.spanId = trace.isValid() ? TraceContext.nextSpanId() : 0;
+            this.lastNanos = timings.begin(Stage.POOL_ACQUIRE);
+            this.beginNanos = lastNanos;
+        }
+
+        public static UpstreamCall from(ContextView context) {
+            return context.getOrDefault(UpstreamCall.class, NOOP_CALL);
+        }
+
+        /**
+         * 측정이 꺼져 있어도 바인딩 - 전파 필터가 이 호출의 trace 로 헤더를 만들어야 저널 id 와 일치
+         */
+        public Context bindTo(Context context) {
+            return context.put(UpstreamCall.class, this);
+        }
+
+        /** 커넥션 획득 후 요청 헤더 전송 직전 */
+        public void onRequest() {
+            lastNanos = timings.next(Stage.POOL_ACQUIRE, lastNanos, Stage.UPSTREAM_SEND);
+        }
+
+        /** 요청 전송 완료 */
+        public void onRequestSent() {
+            lastNanos = timings.next(Stage.UPSTREAM_SEND, lastNanos, Stage.UPSTREAM_TTFB);
+        }
+
+        /** 응답 헤더 수신 */
+        public void onResponse() {
+            lastNanos = timings.next(Stage.UPSTREAM_TTFB, lastNanos, Stage.BODY_TRANSFER);
+        }
+
+        /** 응답 본문 수신 완료 */
+        public void onBody() {
+            lastNanos = timings.end(Stage.BODY_TRANSFER, lastNanos);
+        }
+
+        /**
+         * 호출 종료 (성공/실패/취소 모두) - sampled trace 이면 span 용으로 보관
+         *
+         * @param outcome ok, error, cancel
+         */
+        public void finish(String endpoint, String outcome) {
+            if (timings.upstreamCalls == null) {
+                return;
+            }
+            this.endNanos = System.nanoTime();
+            this.endpoint = endpoint;
+            this.outcome = outcome;
+            timings.upstreamCalls.add(this);
+        }
+
+        public TraceContext trace() {
+            return trace;
+        }
+
+        /**
+         * 업스트림 요청 traceparent 헤더 값 (NOOP_CALL 이면 null)
+         */
+        public String traceparent() {
+            return spanId != 0 ? trace.traceparent(spanId) : null;
+        }
+
+        /**
+         * 업스트림에 X-Correlation-Id 로 보내는 값 - 수신 X-Correlation-Id, 없으면 trace id (NOOP_CALL 이면 null)
+         */
+        public String correlationId() {
+            return trace.correlationId();
+        }
+
+        public long spanId() {
+            return spanId;
+        }
+
+        /** 호출 시작 시각 (요청 시작 기준 nanos) */
+        public long beginOffsetNanos() {
+            return beginNanos - timings.startNanos;
+        }
+
+        public long durationNanos() {
+            return endNanos - beginNanos;
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public String outcome() {
+            return outcome;
+        }
+    }
+}
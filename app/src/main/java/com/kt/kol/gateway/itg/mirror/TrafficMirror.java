@@ -0,0 +1,271 @@
+package com.kt.kol.gateway.itg.mirror;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.properties.CacheProperties;
+import com.kt.kol.gateway.itg.properties.MirrorProperties;
+import com.kt.kol.gateway.itg.properties.SoapServiceProperties;
+import com.kt.kol.gateway.itg.properties.WebClientProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 운영 트래픽 비동기 미러링 (fire-and-forget)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>primary 호출이 끝난 SOAP 요청 중 sampleRate 비율만 미러 대상(stub 또는 후보 백엔드)으로 복제</li>
+ * <li>조회 오퍼레이션만 복제 - fnPrefixes (미지정 시 gateway.cache.lookup-fn-prefixes) 와 일치하고
+ * mutation 접두어가 아닌 fnName (변경 요청이 후보 백엔드에서 두 번 실행되지 않도록)</li>
+ * <li>bounded queue가 가득 차면 즉시 drop - primary 경로는 대기하지 않음</li>
+ * <li>미러 전용 커넥션 풀/전송 스레드 사용, 미러 응답 본문은 폐기</li>
+ * <li>지연시간 및 primary 대비 상태 코드 일치 여부만 메트릭으로 기록</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class TrafficMirror {
+
+    private static final String STATUS_ERROR = "error";
+
+    private final MirrorProperties mirrorProperties;
+    private final CacheProperties cacheProperties;
+    private final SoapServiceProperties soapServiceProperties;
+    private final WebClientProperties webClientProperties;
+    private final SslContext sslContext;
+    private final MeterRegistry meterRegistry;
+    private final PerformanceMetrics performanceMetrics;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter statusMatchCounter;
+    private final Counter statusMismatchCounter;
+    private final DistributionSummary latencyDelta;
+    private final ConcurrentMap<String, Timer> durationTimers = new ConcurrentHashMap<>(); // 상태 클래스 -> Timer
+
+    private BlockingQueue<MirrorTask> queue;
+    private Semaphore inFlight;
+    private ConnectionProvider connectionProvider;
+    private WebClient mirrorClient;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    public TrafficMirror(MirrorProperties mirrorProperties, CacheProperties cacheProperties,
+            SoapServiceProperties soapServiceProperties, WebClientProperties webClientProperties,
+            SslContext sslContext, MeterRegistry meterRegistry, PerformanceMetrics performanceMetrics) {
+        this.mirrorProperties = mirrorProperties;
+        this.cacheProperties = cacheProperties;
+        this.soapServiceProperties = soapServiceProperties;
+        this.webClientProperties = webClientProperties;
+        this.sslContext = sslContext;
+        this.meterRegistry = meterRegistry;
+        this.performanceMetrics = performanceMetrics;
+
+        this.enqueuedCounter = Counter.builder("kol.mirror.requests")
+                .tag("result", "enqueued")
+                .description("Mirrored requests accepted into the mirror queue")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("kol.mirror.requests")
+                .tag("result", "dropped")
+                .description("Mirrored requests dropped because the mirror queue was full")
+                .register(meterRegistry);
+        this.statusMatchCounter = statusComparisonCounter(true);
+        this.statusMismatchCounter = statusComparisonCounter(false);
+        this.latencyDelta = DistributionSummary.builder("kol.mirror.latency.delta")
+                .description("Mirror latency minus primary latency")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!mirrorProperties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(mirrorProperties.getQueueCapacity());
+        inFlight = new Semaphore(mirrorProperties.getMaxConcurrency());
+        meterRegistry.gaugeCollectionSize("kol.mirror.queue.size", List.of(), queue);
+
+        connectionProvider = ConnectionProvider.builder("soap-mirror")
+                .maxConnections(mirrorProperties.getMaxConnections())
+                .pendingAcquireMaxCount(mirrorProperties.getMaxConcurrency())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true, performanceMetrics::poolRegistrar)
+                .build();
+
+        HttpClient httpClient = performanceMetrics.instrumentPool(HttpClient.create(connectionProvider), "soap-mirror")
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) webClientProperties.getConnectionTimeout())
+                .responseTimeout(mirrorProperties.getTimeout())
+                .secure(ssl -> ssl.sslContext(sslContext));
+
+        mirrorClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.TEXT_XML_VALUE)
+                .build();
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "soap-mirror-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("[TrafficMirror] 시작 - target: {}, sampleRate: {}, queue: {}",
+                resolveTarget(), mirrorProperties.getSampleRate(), mirrorProperties.getQueueCapacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().subscribe();
+        }
+    }
+
+    /**
+     * primary 호출 결과와 함께 미러 요청 제출 - 조회 오퍼레이션이 아니거나 샘플링 제외, 큐 포화 시 즉시 반환
+     *
+     * @param svcRequestInfo 요청 서비스 정보 (fnName 으로 미러 대상 판단)
+     * @param soapRequest   primary로 전송한 SOAP 요청
+     * @param cmpnCd        회사 코드 헤더 값 (nullable)
+     * @param primaryStatus primary 상태 코드 (알 수 없는 오류는 0)
+     * @param primaryNanos  primary 호출 소요 시간
+     */
+    public void submit(SvcRequestInfoDTO svcRequestInfo, String soapRequest, String cmpnCd, int primaryStatus,
+            long primaryNanos) {
+        if (!running || !isLookup(svcRequestInfo.fnName())
+                || ThreadLocalRandom.current().nextDouble() >= mirrorProperties.getSampleRate()) {
+            return;
+        }
+        if (queue.offer(new MirrorTask(soapRequest, cmpnCd, primaryStatus, primaryNanos))) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                MirrorTask task = queue.take();
+                inFlight.acquire();
+                try {
+                    send(task);
+                } catch (Exception e) {
+                    inFlight.release();
+                    log.debug("[TrafficMirror] 전송 준비 실패 - error: {}", e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void send(MirrorTask task) {
+        String target = resolveTarget();
+        if (!StringUtils.hasText(target)) {
+            inFlight.release();
+            return;
+        }
+        long start = System.nanoTime();
+        WebClient.RequestBodySpec spec = mirrorClient.post().uri(target);
+        if (task.cmpnCd() != null) {
+            spec = spec.header(HeaderConstants.CMPN_CD, task.cmpnCd());
+        }
+        spec.bodyValue(task.soapRequest())
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .timeout(mirrorProperties.getTimeout())
+                .onErrorReturn(0)
+                .doFinally(signal -> inFlight.release())
+                .subscribe(status -> record(task, status, System.nanoTime() - start));
+    }
+
+    private void record(MirrorTask task, int mirrorStatus, long mirrorNanos) {
+        String primaryClass = statusClass(task.primaryStatus());
+        String mirrorClass = statusClass(mirrorStatus);
+        durationTimers.computeIfAbsent(mirrorClass, this::durationTimer).record(mirrorNanos, TimeUnit.NANOSECONDS);
+        if (primaryClass.equals(mirrorClass)) {
+            statusMatchCounter.increment();
+        } else {
+            statusMismatchCounter.increment();
+        }
+        latencyDelta.record((mirrorNanos - task.primaryNanos()) / 1_000_000.0);
+    }
+
+    private Timer durationTimer(String statusClass) {
+        return Timer.builder("kol.mirror.duration")
+                .tag("status", statusClass)
+                .description("Mirror request latency")
+                .register(meterRegistry);
+    }
+
+    private Counter statusComparisonCounter(boolean match) {
+        return Counter.builder("kol.mirror.status.comparison")
+                .tag("match", String.valueOf(match))
+                .description("Mirror status class compared to primary")
+                .register(meterRegistry);
+    }
+
+    private boolean isLookup(String fnName) {
+        if (fnName == null || startsWithAny(fnName, cacheProperties.getMutationFnPrefixes())) {
+            return false;
+        }
+        List<String> allowed = mirrorProperties.getFnPrefixes().isEmpty()
+                ? cacheProperties.getLookupFnPrefixes()
+                : mirrorProperties.getFnPrefixes();
+        return startsWithAny(fnName, allowed);
+    }
+
+    private static boolean startsWithAny(String fnName, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (fnName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveTarget() {
+        return StringUtils.hasText(mirrorProperties.getTarget())
+                ? mirrorProperties.getTarget()
+                : soapServiceProperties.getStubEndPoint();
+    }
+
+    private static String statusClass(int status) {
+        return status <= 0 ? STATUS_ERROR : (status / 100) + "xx";
+    }
+
+    private record MirrorTask(String soapRequest, String cmpnCd, int primaryStatus, long primaryNanos) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.kt.kol.gateway.itg.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 비동기 작업 상태 - 202 응답, 폴링 응답, 콜백 본문 공통
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AsyncJobStatus(
+        String jobId,
+        State status,
+        Integer httpStatus,
+        ResponseStdVO response,
+        String error,
+        String message) {
+
+    public enum State {
+        PENDING, COMPLETED, FAILED
+    }
+
+    public static AsyncJobStatus pending(String jobId) {
+        return new AsyncJobStatus(jobId, State.PENDING, null, null, null, null);
+    }
+
+    public static AsyncJobStatus completed(String jobId, ResponseStdVO response) {
+        return new AsyncJobStatus(jobId, State.COMPLETED, 200, response, null, null);
+    }
+
+    public static AsyncJobStatus failed(String jobId, int httpStatus, Throwable error) {
+        return new AsyncJobStatus(jobId, State.FAILED, httpStatus, null, error.getClass().getSimpleName(),
+                error.getMessage());
+    }
+}
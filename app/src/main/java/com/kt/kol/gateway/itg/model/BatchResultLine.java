@@ -0,0 +1,23 @@
+package com.kt.kol.gateway.itg.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 배치 응답(NDJSON) 한 줄 - 요청 배열의 index 와 처리 결과
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResultLine(
+        int index,
+        int status,
+        ResponseStdVO response,
+        String error,
+        String message) {
+
+    public static BatchResultLine success(int index, ResponseStdVO response) {
+        return new BatchResultLine(index, 200, response, null, null);
+    }
+
+    public static BatchResultLine failure(int index, int status, Throwable error) {
+        return new BatchResultLine(index, status, null, error.getClass().getSimpleName(), error.getMessage());
+    }
+}
@@ -0,0 +1,36 @@
+package com.kt.kol.gateway.itg.model;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 복합 요청 - SOAP 호출 노드로 이루어진 DAG
+ *
+ * <pre>
+ * {"nodes": [
+ *   {"id": "order", "request": {RequestStdVO}},
+ *   {"id": "customer", "request": {RequestStdVO},
+ *    "bindings": {"/data/customerId": "order:/data/orderResponse/customerId"},
+ *    "timeoutMs": 3000}
+ * ]}
+ * </pre>
+ */
+public record CompositeRequest(List<Node> nodes) {
+
+    /**
+     * @param id        응답 results 의 키, 다른 노드의 dependsOn/bindings 에서 참조
+     * @param request   RequestStdVO 형태의 요청 (bindings 적용 전)
+     * @param dependsOn 선행 노드 id - bindings 의 원본 노드는 자동으로 포함
+     * @param bindings  요청 내 JSON Pointer → "노드id:/응답 JSON Pointer"
+     * @param timeoutMs 노드 타임아웃 (미지정 시 기본값)
+     */
+    public record Node(
+            String id,
+            JsonNode request,
+            List<String> dependsOn,
+            Map<String, String> bindings,
+            Long timeoutMs) {
+    }
+}
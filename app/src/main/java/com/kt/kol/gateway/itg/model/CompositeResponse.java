@@ -0,0 +1,44 @@
+package com.kt.kol.gateway.itg.model;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 복합 요청 응답 - 노드 id 별 결과, 하나라도 실패하면 partial=true
+ */
+public record CompositeResponse(boolean partial, Map<String, NodeResult> results) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record NodeResult(
+            int status,
+            ResponseStdVO response,
+            String error,
+            String message) {
+
+        public static NodeResult success(ResponseStdVO response) {
+            return new NodeResult(200, response, null, null);
+        }
+
+        public static NodeResult failure(int status, String error, String message) {
+            return new NodeResult(status, null, error, message);
+        }
+
+        /**
+         * 업스트림이 오류 응답(E/S)을 준 노드 - 응답 본문은 그대로 담고 실패로 취급
+         */
+        public static NodeResult errorResponse(ResponseStdVO response) {
+            String error = response.responseType() == ResponseStdVO.ResponseType.E ? "BusinessError" : "SystemError";
+            return new NodeResult(200, response, error, response.responseTitle());
+        }
+
+        /**
+         * 정상(I) 응답을 받은 노드만 성공 - 실패 노드에 의존하는 노드는 호출하지 않음
+         */
+        @JsonIgnore
+        public boolean isSuccess() {
+            return response != null && response.responseType() == ResponseStdVO.ResponseType.I;
+        }
+    }
+}
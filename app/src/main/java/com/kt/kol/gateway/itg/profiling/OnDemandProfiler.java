@@ -0,0 +1,317 @@
+package com.kt.kol.gateway.itg.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.metrics.InFlightRegistry;
+import com.kt.kol.gateway.itg.properties.ProfilingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 온디맨드 JFR 프로파일 수집 (시간 제한)
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>요청한 종류(CPU 샘플, 할당 샘플, 락 경합)의 이벤트만 켠 JFR 녹화를 지정 시간 동안 수행 후 파일로 덤프</li>
+ * <li>동시에 1개만 수집 - 진행 중이면 즉시 거부 (중첩 녹화로 인한 오버헤드/해석 혼선 방지)</li>
+ * <li>녹화 중 activeOperationInterval 마다 {@link InFlightRegistry} 의 처리 중 요청을 오퍼레이션별로 집계하여
+ * {@code com.kt.kol.gateway.ActiveOperation} 이벤트로 같은 녹화에 기록하고 요약에도 남김</li>
+ * <li>게이트웨이 파이프라인 이벤트(com.kt.kol.gateway.*)도 함께 켜서 오퍼레이션 단위로 대조 가능</li>
+ * </ul>
+ * 종료는 호출한 클라이언트 연결과 분리된 타이머가 수행하므로 클라이언트가 끊겨도 녹화는 정해진 시간에 멈춘다.
+ */
+@Component
+@Slf4j
+public class OnDemandProfiler {
+
+    private static final String GATEWAY_EVENT_PREFIX = "com.kt.kol.gateway.";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * 수집 종류
+     */
+    public enum Kind {
+        CPU, ALLOCATION, LOCK;
+
+        /**
+         * "cpu,alloc,lock" 형식 파싱 - 비어 있으면 전체
+         *
+         * @throws IllegalArgumentException 알 수 없는 종류
+         */
+        public static Set<Kind> parse(String value) {
+            if (value == null || value.isBlank()) {
+                return EnumSet.allOf(Kind.class);
+            }
+            Set<Kind> kinds = EnumSet.noneOf(Kind.class);
+            for (String token : value.split(",")) {
+                switch (token.trim().toLowerCase(Locale.ROOT)) {
+                    case "cpu" -> kinds.add(CPU);
+                    case "alloc", "allocation" -> kinds.add(ALLOCATION);
+                    case "lock" -> kinds.add(LOCK);
+                    default -> throw new IllegalArgumentException("Unknown profile kind: " + token.trim());
+                }
+            }
+            return kinds;
+        }
+    }
+
+    /**
+     * 녹화 중 처리 중이던 오퍼레이션 (주기마다 오퍼레이션별 1건)
+     */
+    @Name("com.kt.kol.gateway.ActiveOperation")
+    @Label("Active Operation")
+    @Category({ "KOL Gateway", "Profiling" })
+    @StackTrace(false)
+    @Period("1 s")
+    static final class ActiveOperationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("In Flight")
+        int inFlight;
+
+        @Label("Oldest Elapsed")
+        @Timespan(Timespan.MILLISECONDS)
+        long oldestElapsed;
+    }
+
+    /**
+     * 수집 요약 - operations 는 오퍼레이션별 관측 횟수(주기 샘플 중 처리 중이던 횟수)
+     */
+    public record CaptureSummary(Instant startedAt, Duration duration, Set<Kind> kinds, String file, long fileBytes,
+            String state, Map<String, Long> operations) {
+    }
+
+    /**
+     * 진행 중 수집 - result 는 녹화 파일 경로로 완료
+     */
+    public record Capture(Instant startedAt, Duration duration, Set<Kind> kinds, Mono<Path> result) {
+    }
+
+    private final ProfilingProperties properties;
+    private final InFlightRegistry inFlightRegistry;
+    private final Runnable activeOperationHook = this::emitActiveOperations;
+
+    private final Counter completedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private final AtomicBoolean capturing = new AtomicBoolean();
+    private final Map<String, LongAdder> observedOperations = new ConcurrentHashMap<>();
+    private volatile CaptureSummary lastCapture;
+    private volatile Path lastFile;
+
+    public OnDemandProfiler(ProfilingProperties properties, InFlightRegistry inFlightRegistry,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.inFlightRegistry = inFlightRegistry;
+
+        this.completedCounter = captureCounter("completed", meterRegistry);
+        this.rejectedCounter = captureCounter("rejected", meterRegistry);
+        this.failedCounter = captureCounter("failed", meterRegistry);
+    }
+
+    private static Counter captureCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("kol.profiling.captures")
+                .tag("result", result)
+                .description("On-demand profile captures by outcome (rejected: another capture was running)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (properties.isEnabled()) {
+            // 주기 hook 은 이 이벤트가 켜진 녹화가 있을 때만 호출됨
+            FlightRecorder.addPeriodicEvent(ActiveOperationEvent.class, activeOperationHook);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (properties.isEnabled()) {
+            FlightRecorder.removePeriodicEvent(activeOperationHook);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isCapturing() {
+        return capturing.get();
+    }
+
+    public CaptureSummary lastCapture() {
+        return lastCapture;
+    }
+
+    /**
+     * 녹화 시작 - 이미 수집 중이면 null
+     *
+     * @param duration 녹화 시간 (maxDuration 으로 제한)
+     */
+    public Capture start(Duration duration, Set<Kind> kinds) {
+        if (!capturing.compareAndSet(false, true)) {
+            rejectedCounter.increment();
+            return null;
+        }
+        Duration bounded = duration.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : duration;
+        Sinks.One<Path> result = Sinks.one();
+        Recording recording = new Recording();
+        Instant startedAt;
+        try {
+            recording.setName("kol-profile");
+            recording.setToDisk(true);
+            configure(recording, kinds);
+            observedOperations.clear();
+            recording.start();
+            startedAt = Instant.now();
+        } catch (RuntimeException e) {
+            recording.close();
+            capturing.set(false);
+            failedCounter.increment();
+            throw e;
+        }
+        log.info("[Profiling] 녹화 시작 - duration: {}, kinds: {}", bounded, kinds);
+        Schedulers.boundedElastic().schedule(() -> finish(recording, startedAt, bounded, kinds, result),
+                bounded.toMillis(), TimeUnit.MILLISECONDS);
+        return new Capture(startedAt, bounded, kinds, result.asMono());
+    }
+
+    private void configure(Recording recording, Set<Kind> kinds) {
+        if (kinds.contains(Kind.CPU)) {
+            recording.enable("jdk.ExecutionSample").withPeriod(properties.getCpuSampleInterval());
+            recording.enable("jdk.CPULoad").withPeriod(Duration.ofSeconds(1));
+            recording.enable("jdk.ThreadCPULoad").withPeriod(Duration.ofSeconds(1));
+        }
+        if (kinds.contains(Kind.ALLOCATION)) {
+            recording.enable("jdk.ObjectAllocationSample").withStackTrace()
+                    .with("throttle", properties.getAllocationSamplesPerSecond() + "/s");
+        }
+        if (kinds.contains(Kind.LOCK)) {
+            Duration threshold = properties.getLockThreshold();
+            recording.enable("jdk.JavaMonitorEnter").withStackTrace().withThreshold(threshold);
+            recording.enable("jdk.JavaMonitorWait").withStackTrace().withThreshold(threshold);
+            recording.enable("jdk.ThreadPark").withStackTrace().withThreshold(threshold);
+        }
+        // 공통: GC 와 힙 요약 (해석 기준), 게이트웨이 이벤트
+        recording.enable("jdk.GarbageCollection");
+        recording.enable("jdk.GCHeapSummary");
+        for (EventType type : FlightRecorder.getFlightRecorder().getEventTypes()) {
+            if (type.getName().startsWith(GATEWAY_EVENT_PREFIX)) {
+                recording.enable(type.getName());
+            }
+        }
+        recording.enable(ActiveOperationEvent.class).withPeriod(properties.getActiveOperationInterval());
+    }
+
+    private void finish(Recording recording, Instant startedAt, Duration duration, Set<Kind> kinds,
+            Sinks.One<Path> result) {
+        Path file = Path.of(properties.getDirectory(), "profile-" + FILE_TIME.format(startedAt) + ".jfr");
+        try {
+            recording.stop();
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            deletePrevious();
+            recording.dump(file);
+            lastFile = file;
+            lastCapture = new CaptureSummary(startedAt, duration, kinds, file.toString(), Files.size(file),
+                    "completed", operationCounts());
+            completedCounter.increment();
+            log.info("[Profiling] 녹화 완료 - file: {}, bytes: {}", file, lastCapture.fileBytes());
+            result.tryEmitValue(file);
+        } catch (IOException | RuntimeException e) {
+            lastCapture = new CaptureSummary(startedAt, duration, kinds, null, 0, "failed", operationCounts());
+            failedCounter.increment();
+            log.warn("[Profiling] 녹화 저장 실패 - file: {}, error: {}", file, e.getMessage());
+            result.tryEmitError(e);
+        } finally {
+            recording.close();
+            capturing.set(false);
+        }
+    }
+
+    /**
+     * 직전 녹화 파일 삭제 (디스크 사용량을 1개로 제한)
+     */
+    private void deletePrevious() {
+        Path previous = lastFile;
+        if (previous != null) {
+            try {
+                Files.deleteIfExists(previous);
+            } catch (IOException e) {
+                log.debug("[Profiling] 이전 녹화 파일 삭제 실패 - file: {}", previous);
+            }
+        }
+    }
+
+    private Map<String, Long> operationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        observedOperations.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .forEach(e -> counts.put(e.getKey(), e.getValue().sum()));
+        return counts;
+    }
+
+    /**
+     * JFR 주기 스레드에서 호출 - 처리 중 요청을 오퍼레이션별로 묶어 이벤트 기록
+     */
+    private void emitActiveOperations() {
+        List<InFlightRegistry.InFlightRequest> inFlight = inFlightRegistry.inFlight(Integer.MAX_VALUE);
+        Map<String, long[]> byOperation = new HashMap<>(); // [건수, 최대 경과 ms]
+        for (InFlightRegistry.InFlightRequest request : inFlight) {
+            String operation = request.operation() != null ? request.operation() : "unknown";
+            long[] stats = byOperation.computeIfAbsent(operation, k -> new long[2]);
+            stats[0]++;
+            stats[1] = Math.max(stats[1], (long) request.elapsedMs());
+        }
+        byOperation.forEach((operation, stats) -> {
+            if (capturing.get()) {
+                observedOperations.computeIfAbsent(operation, k -> new LongAdder()).increment();
+            }
+            ActiveOperationEvent event = new ActiveOperationEvent();
+            event.operation = operation;
+            event.inFlight = (int) stats[0];
+            event.oldestElapsed = stats[1];
+            event.commit();
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package com.kt.kol.gateway.itg.profiling;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.kt.kol.gateway.itg.properties.ProfilingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * /actuator/profile 접근 제어
+ *
+ * <p>
+ * 프로파일링은 힙/스레드 정보가 담긴 파일을 내려주므로 다른 actuator 엔드포인트와 달리 별도로 제한한다.
+ * <ul>
+ * <li>비활성이면 404 (엔드포인트 존재를 노출하지 않음)</li>
+ * <li>requireManagementPort 이면 management.server.port 로 들어온 요청만 허용 - 미설정/다른 포트는 404</li>
+ * <li>Authorization: Bearer {token} 이 설정 토큰과 일치해야 함 (상수 시간 비교) - 토큰 미설정 시 항상 403</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ProfilingAccessFilter implements WebFilter, Ordered {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ProfilingProperties properties;
+    private final ObjectProvider<PathMappedEndpoints> endpoints;
+    private final Integer managementPort;
+    private volatile PathPattern endpointPattern;
+
+    public ProfilingAccessFilter(ProfilingProperties properties, ObjectProvider<PathMappedEndpoints> endpoints,
+            Environment environment) {
+        this.properties = properties;
+        this.endpoints = endpoints;
+        this.managementPort = environment.getProperty("management.server.port", Integer.class);
+        if (properties.isEnabled() && properties.getToken().isBlank()) {
+            log.warn("[Profiling] gateway.profiling.token 미설정 - /actuator/profile 요청은 모두 거부됨");
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        PathPattern pattern = endpointPattern();
+        if (pattern == null || !pattern.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+        HttpStatus denied = check(exchange);
+        if (denied != null) {
+            log.warn("[Profiling] 접근 거부 - status: {}, remote: {}", denied.value(),
+                    exchange.getRequest().getRemoteAddress());
+            exchange.getResponse().setStatusCode(denied);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    private HttpStatus check(ServerWebExchange exchange) {
+        if (!properties.isEnabled()) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (properties.isRequireManagementPort()) {
+            InetSocketAddress local = exchange.getRequest().getLocalAddress();
+            if (managementPort == null || local == null || local.getPort() != managementPort) {
+                return HttpStatus.NOT_FOUND;
+            }
+        }
+        if (properties.getToken().isBlank()) {
+            return HttpStatus.FORBIDDEN;
+        }
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        byte[] expected = properties.getToken().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, expected) ? null : HttpStatus.UNAUTHORIZED;
+    }
+
+    /**
+     * 엔드포인트 경로 패턴 ({base-path}/profile/**) - actuator 매핑과 같이 디코딩된 경로 세그먼트로 비교하므로
+     * %70rofile 같은 인코딩 경로나 매트릭스 변수로 우회할 수 없다 (엔드포인트 미노출이면 null)
+     */
+    private PathPattern endpointPattern() {
+        PathPattern pattern = endpointPattern;
+        if (pattern == null) {
+            PathMappedEndpoints mapped = endpoints.getIfAvailable();
+            String path = mapped != null ? mapped.getPath(EndpointId.of(ProfilingEndpoint.ID)) : null;
+            if (path == null) {
+                return null;
+            }
+            pattern = PathPatternParser.defaultInstance.parse(path + "/**");
+            endpointPattern = pattern;
+        }
+        return pattern;
+    }
+}
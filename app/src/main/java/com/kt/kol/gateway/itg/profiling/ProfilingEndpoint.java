@@ -0,0 +1,72 @@
+package com.kt.kol.gateway.itg.profiling;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.properties.ProfilingProperties;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 온디맨드 프로파일링 (/actuator/profile)
+ *
+ * <p>
+ * GET 은 진행 여부와 직전 수집 요약, POST {"seconds":30,"kinds":"cpu,alloc,lock"} 는 녹화가 끝날 때까지 기다린 뒤
+ * JFR 파일을 그대로 응답한다 (진행 중이면 409, 비활성 시 404). 접근 제어는 {@link ProfilingAccessFilter}.
+ */
+@Component
+@WebEndpoint(id = ProfilingEndpoint.ID)
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+    static final String ID = "profile";
+
+    private static final String JFR_CONTENT_TYPE = "application/octet-stream";
+
+    private final OnDemandProfiler profiler;
+    private final ProfilingProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", profiler.isEnabled());
+        status.put("capturing", profiler.isCapturing());
+        status.put("maxDuration", properties.getMaxDuration());
+        status.put("lastCapture", profiler.lastCapture());
+        return status;
+    }
+
+    @WriteOperation(produces = JFR_CONTENT_TYPE)
+    public Mono<WebEndpointResponse<Resource>> capture(@Nullable Integer seconds, @Nullable String kinds) {
+        if (!profiler.isEnabled()) {
+            return Mono.just(new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+        }
+        Set<OnDemandProfiler.Kind> parsed;
+        try {
+            parsed = OnDemandProfiler.Kind.parse(kinds);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST));
+        }
+        Duration duration = seconds != null && seconds > 0 ? Duration.ofSeconds(seconds)
+                : properties.getDefaultDuration();
+        OnDemandProfiler.Capture capture = profiler.start(duration, parsed);
+        if (capture == null) {
+            return Mono.just(new WebEndpointResponse<>(409));
+        }
+        return capture.result()
+                .map(file -> new WebEndpointResponse<Resource>(new FileSystemResource(file)))
+                .onErrorReturn(new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR));
+    }
+}
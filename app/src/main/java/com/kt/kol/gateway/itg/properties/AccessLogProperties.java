@@ -0,0 +1,26 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 구조화 접근 로그 설정 (logger: kol.access, logback 비동기 appender)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    private double sampleRate = 0.01;                       // 정상 요청 기록 비율 (오류/느린 요청은 항상 기록)
+    private Map<String, Double> operationSampleRates = new HashMap<>(); // svcName.fnName 별 기록 비율 (sampleRate 대체)
+    private Duration slowThreshold = Duration.ofSeconds(1); // 이 시간 이상 걸린 요청은 항상 기록
+    private boolean includeStages = true;                   // 단계별 소요 시간(ms) 포함
+}
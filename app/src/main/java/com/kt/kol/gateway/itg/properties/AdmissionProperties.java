@@ -0,0 +1,26 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 과부하 시 요청 수용 제어(load shedding) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.admission")
+public class AdmissionProperties {
+    private boolean enabled = false;
+    private long maxPendingRequests = 2000;             // 처리 중 요청 수 상한
+    private long maxUpstreamPendingAcquire = 80;        // 커넥션 풀 획득 대기 상한 (pendingAcquireMaxCount 100 이전에 차단)
+    private Duration lagTarget = Duration.ofMillis(5);  // CoDel target: 허용 이벤트 루프 지연
+    private Duration lagInterval = Duration.ofMillis(100); // CoDel interval: target 초과가 이 시간 지속되면 과부하
+    private Duration evaluationInterval = Duration.ofMillis(50);
+    private double maxShedRatio = 0.9;                  // 지연 기반 최대 거절 비율
+}
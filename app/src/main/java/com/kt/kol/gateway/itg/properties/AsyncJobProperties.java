@@ -0,0 +1,28 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비동기 작업 모드(Prefer: respond-async) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.async-job")
+public class AsyncJobProperties {
+    private boolean enabled = false;
+    private int maxRunning = 200;                          // Pod 당 동시 실행 작업 수 (초과 시 503)
+    private int maxStored = 10000;                         // 보관 작업 수 (실행 중 + 결과 대기)
+    private Duration resultTtl = Duration.ofMinutes(5);    // 완료 결과 보관 시간
+    private Duration sweepInterval = Duration.ofSeconds(30);
+    private List<String> callbackAllowedHosts = new ArrayList<>(); // 콜백 허용 호스트 (비어 있으면 콜백 미허용)
+    private Duration callbackTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,19 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 배치 엔드포인트(/SoapBatchGateway) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.batch")
+public class BatchProperties {
+    private int maxItems = 200;       // 배치당 최대 요청 수 (초과 시 400)
+    private int maxConcurrency = 8;   // 배치당 동시 처리 수
+}
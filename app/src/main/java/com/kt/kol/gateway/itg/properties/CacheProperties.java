@@ -0,0 +1,40 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 조회성 응답 로컬 캐시 및 Pod 간 무효화 채널 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.cache")
+public class CacheProperties {
+    private boolean enabled = false;
+    private Duration ttl = Duration.ofMinutes(5);       // 캐시 유지 시간
+    private int maxEntries = 10000;                     // 최대 캐시 건수
+    private Duration sweepInterval = Duration.ofSeconds(30); // 만료 항목 정리 주기
+
+    // fnName 접두어로 조회/변경 오퍼레이션 구분
+    private List<String> lookupFnPrefixes = new ArrayList<>(List.of("retrieve", "inquiry", "search", "get"));
+    private List<String> mutationFnPrefixes = new ArrayList<>(
+            List.of("create", "update", "modify", "change", "cancel", "delete", "save", "regist"));
+
+    private Peer peer = new Peer();
+
+    @Getter
+    @Setter
+    public static class Peer {
+        private String bindAddress;                     // 미지정 시 peer 로 향하는 인터페이스 (전체는 0.0.0.0 명시)
+        private int port = 0;                           // 0이면 무효화 채널 비활성
+        private List<String> peers = new ArrayList<>(); // host:port 목록 (자기 자신 포함 가능)
+    }
+}
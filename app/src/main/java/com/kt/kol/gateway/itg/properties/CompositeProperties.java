@@ -0,0 +1,22 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 복합 요청 엔드포인트(/SoapCompositeGateway) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.composite")
+public class CompositeProperties {
+    private int maxNodes = 16;                                  // 요청당 최대 노드 수 (초과 시 400)
+    private Duration defaultNodeTimeout = Duration.ofSeconds(30); // timeoutMs 미지정 노드
+    private Duration maxNodeTimeout = Duration.ofSeconds(90);     // timeoutMs 상한
+}
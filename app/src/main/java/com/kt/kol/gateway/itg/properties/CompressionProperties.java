@@ -0,0 +1,27 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 클라이언트 응답 압축 및 압축 요청 본문 해제 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.compression")
+public class CompressionProperties {
+    private boolean enabled = false;                                // 응답 압축 (Accept-Encoding 협상)
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);     // 미만이면 압축하지 않음
+    private String preferred = "gzip";                              // 동일 q 값일 때 우선 코덱 (gzip | deflate)
+    private int gzipLevel = 6;
+    private int deflateLevel = 1;                                   // deflate 는 빠른 레벨로 CPU 절감용
+    private DataSize chunkSize = DataSize.ofKilobytes(16);          // 압축 출력 청크 크기
+    private int poolSize = 64;                                      // 코덱별 재사용 Deflater 수
+    private boolean decodeRequests = true;                          // Content-Encoding: gzip/deflate 요청 해제
+    private DataSize maxInflatedRequestSize = DataSize.ofMegabytes(10); // 해제 후 요청 본문 상한 (압축 폭탄 방지)
+}
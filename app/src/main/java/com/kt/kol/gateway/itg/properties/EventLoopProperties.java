@@ -0,0 +1,23 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Netty 이벤트 루프 지연 측정 및 블로킹 호출 탐지 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.event-loop")
+public class EventLoopProperties {
+    private Duration probeInterval = Duration.ofMillis(50);    // 루프별 지연 probe 주기
+    private boolean lagHistogram = true;                        // kol.eventloop.lag{loop} 히스토그램 기록
+    private boolean blockingDetection = false;                  // BlockHound 설치 (테스트/스테이징 전용)
+    private int maxReportedStacks = 100;                        // 스택 트레이스를 로그로 남길 고유 호출 위치 수
+}
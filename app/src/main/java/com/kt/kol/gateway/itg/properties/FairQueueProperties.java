@@ -0,0 +1,25 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회사코드(cmpnCd)별 업스트림 호출 공정 큐잉 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.fair-queue")
+public class FairQueueProperties {
+    private boolean enabled = false;
+    private int maxConcurrency = 80;                // 동시 업스트림 호출 수 (커넥션 풀 크기 이하 권장)
+    private int maxQueueDepthPerTenant = 100;       // 초과 시 즉시 거절
+    private int defaultWeight = 1;
+    private Map<String, Integer> weights = new LinkedHashMap<>(); // cmpnCd -> 가중치 (메트릭 태그도 이 목록만 사용)
+}
@@ -0,0 +1,23 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 처리 중 요청 레지스트리 및 느린 요청 기록 설정 (/actuator/inflight)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.flight-recorder")
+public class FlightRecorderProperties {
+    private boolean enabled = true;
+    private int maxInFlight = 4096;                         // 추적 슬롯 수 (2의 거듭제곱으로 올림, 초과 요청은 미추적)
+    private Duration slowThreshold = Duration.ofSeconds(2); // 이 시간 이상 걸린 요청을 링 버퍼에 기록
+    private int slowCapacity = 256;                         // 느린 요청 링 버퍼 크기 (2의 거듭제곱으로 올림)
+}
@@ -0,0 +1,19 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 처리 단계별 JDK Flight Recorder 이벤트 설정
+ * (이벤트별 threshold/enabled 는 JFR 설정 파일 또는 jfr configure 로 지정)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.jfr-events")
+public class JfrEventProperties {
+    private boolean enabled = true; // false 면 JFR 녹화 중에도 이벤트 객체를 만들지 않음
+}
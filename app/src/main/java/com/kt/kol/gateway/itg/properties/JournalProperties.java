@@ -0,0 +1,30 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * SOAP 요청/응답 원문 감사 저널 설정 (분쟁 대응용)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.journal")
+public class JournalProperties {
+    private boolean enabled = false;
+    private String directory = "data/journal";                  // 세그먼트 파일 경로 (WAL 과 다른 디렉터리)
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private int maxSegments = 16;                               // 보관 세그먼트 수 (초과 시 오래된 것부터 삭제)
+    private double sampleRate = 1.0;                            // 기록 비율 (0.0 ~ 1.0)
+    private int queueCapacity = 10_000;                         // 기록 대기 건수 상한 (초과 시 drop)
+    private DataSize maxQueuedSize = DataSize.ofMegabytes(64);  // 기록 대기 원문 크기 상한 (문자 수 기준, 초과 시 drop)
+    private DataSize maxPayloadSize = DataSize.ofMegabytes(1);  // 요청/응답별 저장 상한 (초과분은 잘라서 저장)
+    private int compressionLevel = 1;                           // deflate 레벨 (1: 속도 우선)
+    private Duration forceInterval = Duration.ofSeconds(5);     // 디스크 동기화 주기
+}
@@ -0,0 +1,20 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 처리 중 요청/응답 페이로드 총량 제한 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.memory-budget")
+public class MemoryBudgetProperties {
+    private boolean enabled = false;
+    private DataSize maxBytes = DataSize.ofMegabytes(256); // 동시 보유 가능한 요청+응답 바이트 총량
+}
@@ -0,0 +1,29 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 용량 테스트용 트래픽 미러링 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.mirror")
+public class MirrorProperties {
+    private boolean enabled = false;
+    private String target;                      // 미러 대상 URL (미지정 시 soap.service.stub-end-point)
+    private double sampleRate = 0.01;           // 미러링 비율 (0.0 ~ 1.0)
+    private List<String> fnPrefixes = new ArrayList<>(); // 미러링할 fnName 접두어 (비어 있으면 gateway.cache.lookup-fn-prefixes)
+    private int queueCapacity = 1000;           // 초과 시 drop
+    private int maxConcurrency = 16;            // 동시 미러 요청 수
+    private int maxConnections = 16;            // 미러 전용 커넥션 풀 크기
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,32 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 오퍼레이션별 지연 시간 타이머 설정 (도메인 그룹 / 오퍼레이션 / 엔드포인트 태그)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.operation-metrics")
+public class OperationMetricsProperties {
+    private boolean enabled = true;
+    private int maxOperations = 100;                // 오퍼레이션 태그 값 상한 (초과분은 other)
+    private List<String> operations = new ArrayList<>(); // 항상 허용할 svcName.fnName (상한에 포함, 그 외는 성공 호출 후 허용)
+    private int maxEndpoints = 10;                  // 엔드포인트 태그 값 상한 (초과분은 other)
+    private int maxTagLength = 64;                  // 초과하거나 허용 문자 외 값은 other
+    private boolean percentileHistogram = true;     // 집계 가능한 히스토그램 버킷 발행
+    private List<Double> percentiles = List.of(0.5, 0.95, 0.99); // Pod 단위 클라이언트 측 백분위
+    private List<Duration> slo = List.of(           // SLO 경계 버킷
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(300),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(3),
+            Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(80));
+}
@@ -0,0 +1,29 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 온디맨드 프로파일링 (/actuator/profile) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.profiling")
+public class ProfilingProperties {
+    private boolean enabled = false;
+    private String token = "";                                  // Bearer 토큰 (비어 있으면 모든 요청 거부)
+    private boolean requireManagementPort = true;               // management.server.port 로 들어온 요청만 허용
+    private String directory = "data/profiles";                 // 녹화 파일 경로 (직전 1개만 보관)
+    private Duration defaultDuration = Duration.ofSeconds(30);
+    private Duration maxDuration = Duration.ofMinutes(5);
+    private Duration cpuSampleInterval = Duration.ofMillis(10); // jdk.ExecutionSample 주기
+    private int allocationSamplesPerSecond = 150;               // jdk.ObjectAllocationSample throttle
+    private Duration lockThreshold = Duration.ofMillis(10);     // 모니터 대기/park 기록 하한
+    private Duration activeOperationInterval = Duration.ofSeconds(1); // 처리 중 오퍼레이션 기록 주기
+}
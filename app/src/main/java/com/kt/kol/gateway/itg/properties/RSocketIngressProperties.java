@@ -0,0 +1,18 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * RSocket 진입점 설정 (서버 기동 여부/포트는 spring.rsocket.server.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rsocket")
+public class RSocketIngressProperties {
+    private int maxConcurrency = 64; // request-channel 스트림당 동시 처리 수 (초과분은 requestN 으로 역압)
+}
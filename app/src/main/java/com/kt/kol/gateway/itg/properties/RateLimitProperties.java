@@ -0,0 +1,41 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 호출자별 로컬 Token Bucket 처리율 제한 설정
+ *
+ * <p>
+ * 라우트 ID(RouteConstants) 단위로 설정하며, /actuator/refresh 로 재바인딩되면 다음 요청부터 즉시 반영된다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = false;
+    private Duration idleTimeout = Duration.ofMinutes(10);  // 유휴 키 제거 기준
+    private Duration sweepInterval = Duration.ofMinutes(1);
+    private int maxKeys = 100000;                           // 초과 시 신규 키는 라우트별 공유 버킷 하나로 제한
+    private Map<String, RouteLimit> routes = new LinkedHashMap<>();
+
+    public enum KeyType {
+        USER_ID, CMPN_CD, APP_NAME, REMOTE_ADDR
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit {
+        private double replenishRate = 100;     // 초당 처리량
+        private int burstCapacity = 200;        // 최대 버킷 크기
+        private KeyType keyType = KeyType.USER_ID;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 오퍼레이션별 자원 사용량(CPU 시간, 할당, 페이로드 크기) 측정 설정 (/actuator/operationcost)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.resource-accounting")
+public class ResourceAccountingProperties {
+    private boolean enabled = true;
+    private double sampleRate = 0.1;                // CPU 시간/할당 측정 요청 비율 (측정 시 요청당 약 4us, 페이로드 크기는 전수)
+    private boolean percentileHistogram = false;    // 분포 히스토그램 버킷 발행 (오퍼레이션 수 x 버킷 수 시계열 증가)
+}
@@ -0,0 +1,20 @@
+package com.kt.kol.gateway.itg.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 처리 단계별 소요 시간 측정 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.stage-timing")
+public class StageTimingProperties {
+    private boolean enabled = true;                 // kol.soap.stage.duration{stage} 히스토그램 기록
+    private boolean serverTimingHeader = false;     // 응답에 Server-Timing 헤더 추가 (내부 구간 노출 - 운영은 필요 시만)
+    private boolean percentileHistogram = true;
+}
@@ -0,0 +1,28 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 추적 설정 (trace/span id 전파 및 샘플 span 내보내기)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.tracing")
+public class TracingProperties {
+    private boolean enabled = true;                             // id 발급/전파 (로그 MDC, 업스트림 헤더)
+    private double sampleRate = 0.01;                           // span 내보내기 비율 (요청 진입 시 결정)
+    private boolean respectParentSampled = false;               // 수신 traceparent sampled 플래그를 따름 (클라이언트가 강제 가능)
+    private String file = "logs/spans.jsonl";                   // 기본 sink (SpanSink 빈이 있으면 그것을 사용)
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);   // 초과 시 .1 로 교체 (1개 보관)
+    private int queueCapacity = 8192;                           // 내보내기 대기 span 상한 (초과 시 drop)
+    private int batchSize = 512;
+    private Duration flushInterval = Duration.ofSeconds(1);
+}
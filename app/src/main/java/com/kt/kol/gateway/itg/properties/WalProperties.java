@@ -0,0 +1,33 @@
+package com.kt.kol.gateway.itg.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * trFlag=T fire-and-forget 전달용 write-ahead log 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.wal")
+public class WalProperties {
+    private boolean enabled = false;
+    private String directory = "data/wal";                     // Pod 재시작 후에도 유지되는 볼륨 경로
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private Duration forceInterval = Duration.ofSeconds(1);    // 디스크 동기화 주기 (OS 장애 시 유실 범위)
+    private int batchSize = 256;                               // 한 번에 읽을 레코드 수
+    private int windowSize = 4096;                             // 전달 중(checkpoint 이전)으로 메모리에 둘 레코드 상한
+    private int maxConcurrency = 16;                           // 동시 전달 건수 (같은 키는 순차)
+    private Duration retryTtl = Duration.ofHours(24);          // 적재 후 재시도 기한 (초과 시 dead-letter)
+    private Duration initialBackoff = Duration.ofMillis(200);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+    private Duration idlePollInterval = Duration.ofMillis(50);
+    private long maxBacklog = 1_000_000;                       // 미전달 레코드 상한 (초과 시 503)
+    private int deadLetterMaxSegments = 0;                     // dead-letter 세그먼트 보관 수 (0: 무제한)
+}
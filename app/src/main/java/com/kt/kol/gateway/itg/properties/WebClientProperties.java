@@ -12,4 +12,5 @@ public class WebClientProperties {
     private long connectionTimeout = 5000;    // 연결 설정 타임아웃
     private long readTimeout = 95000;         // 응답 대기 타임아웃
     private long writeTimeout = 10000;        // 요청 전송 타임아웃
+    private int maxInMemorySize = 10 * 1024 * 1024; // 응답 본문 최대 버퍼 크기 (10MB)
 }
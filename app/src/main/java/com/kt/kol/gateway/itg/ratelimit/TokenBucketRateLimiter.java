@@ -0,0 +1,164 @@
+package com.kt.kol.gateway.itg.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.util.RouteIds;
+import com.kt.kol.gateway.itg.properties.RateLimitProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 호출자별 인메모리 Token Bucket 처리율 제한 (Redis 불필요)
+ *
+ * <p>
+ * 버킷 상태를 GCRA(Generic Cell Rate Algorithm) 방식의 "다음 허용 시각(TAT)" 하나로 표현하여
+ * 키당 AtomicLong 하나에 CAS로 갱신한다. replenishRate/burstCapacity 조합은 Token Bucket과 동일하게 동작한다.
+ *
+ * <p>
+ * 요청 본문을 읽기 전에 헤더만으로 판단하므로, 초과 요청은 파싱/변환 비용 없이 429로 거절된다.
+ */
+@Component
+@Slf4j
+public class TokenBucketRateLimiter {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+
+    // routeId:key -> TAT(nanos)
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // routeId -> TAT(nanos), 키 테이블이 가득 찬 동안 새 키들이 함께 쓰는 버킷
+    private final ConcurrentMap<String, AtomicLong> overflowBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+    private final Counter overflowCounter;
+
+    private Disposable sweeper;
+
+    public TokenBucketRateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+        this.overflowCounter = Counter.builder("kol.ratelimit.keys.overflow")
+                .description("Requests limited by the shared per-route overflow bucket because the key table was full")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("kol.ratelimit.keys", List.of(), buckets);
+    }
+
+    @PostConstruct
+    public void init() {
+        long interval = rateLimitProperties.getSweepInterval().toMillis();
+        sweeper = Schedulers.parallel().schedulePeriodically(this::evictIdle, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    /**
+     * 허용 여부 판단
+     *
+     * @return 허용이면 0, 거절이면 재시도까지 대기 시간(nanos)
+     */
+    public long tryAcquire(ServerWebExchange exchange) {
+        if (!rateLimitProperties.isEnabled()) {
+            return 0;
+        }
+        return tryAcquire(RouteIds.fromPath(exchange.getRequest().getPath().value()),
+                exchange.getRequest().getHeaders(), exchange.getRequest().getRemoteAddress());
+    }
+
+    /**
+     * 라우트 ID 와 헤더로 허용 여부 판단 (HTTP 외 진입점 - RSocket 은 라우트명과 메타데이터 헤더 사용)
+     *
+     * @param remote 원격 주소 (알 수 없으면 null - 키 헤더가 없으면 "unknown" 버킷 공유)
+     * @return 허용이면 0, 거절이면 재시도까지 대기 시간(nanos)
+     */
+    public long tryAcquire(String routeId, HttpHeaders headers, InetSocketAddress remote) {
+        if (!rateLimitProperties.isEnabled()) {
+            return 0;
+        }
+        RateLimitProperties.RouteLimit limit = rateLimitProperties.getRoutes().get(routeId);
+        if (limit == null || limit.getReplenishRate() <= 0) {
+            return 0;
+        }
+
+        String bucketKey = routeId + ':' + resolveKey(headers, remote, limit.getKeyType());
+        AtomicLong tat = buckets.get(bucketKey);
+        if (tat == null) {
+            if (buckets.size() >= rateLimitProperties.getMaxKeys()) {
+                // 제한 없이 통과시키지 않고, 유휴 키가 정리될 때까지 새 키들은 라우트별 공유 버킷 하나로 제한
+                overflowCounter.increment();
+                tat = overflowBuckets.computeIfAbsent(routeId, k -> new AtomicLong(System.nanoTime()));
+            } else {
+                tat = buckets.computeIfAbsent(bucketKey, k -> new AtomicLong(System.nanoTime()));
+            }
+        }
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getReplenishRate());
+        long tolerance = interval * Math.max(0, limit.getBurstCapacity() - 1);
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long waitNanos = base - tolerance - now;
+            if (waitNanos > 0) {
+                rejectedCounters.computeIfAbsent(routeId, id -> Counter.builder("kol.ratelimit.rejected")
+                        .tag("route", id)
+                        .description("Requests rejected by the local rate limiter")
+                        .register(meterRegistry))
+                        .increment();
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    private static String resolveKey(HttpHeaders headers, InetSocketAddress remote,
+            RateLimitProperties.KeyType keyType) {
+        String key = switch (keyType) {
+            case USER_ID -> headers.getFirst(HeaderConstants.USER_ID);
+            case CMPN_CD -> headers.getFirst(HeaderConstants.CMPN_CD);
+            case APP_NAME -> headers.getFirst(HeaderConstants.APP_NAME);
+            case REMOTE_ADDR -> null;
+        };
+        if (key != null) {
+            return key;
+        }
+        // 헤더가 없으면 원격 주소로 대체
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+
+    /**
+     * 버킷이 가득 찬 상태로 idleTimeout 이상 지난 키 제거
+     */
+    private void evictIdle() {
+        long threshold = System.nanoTime() - rateLimitProperties.getIdleTimeout().toNanos();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(e -> e.getValue().get() - threshold < 0);
+        overflowBuckets.entrySet().removeIf(e -> e.getValue().get() - threshold < 0);
+        if (log.isDebugEnabled() && before != buckets.size()) {
+            log.debug("[RateLimiter] 유휴 키 제거 - {} -> {}", before, buckets.size());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kt.kol.gateway.itg.route;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.server.WebHandler;
+
+import com.kt.kol.common.constant.RouteConstants;
+import com.kt.kol.gateway.itg.handler.AsyncJobHandler;
+import com.kt.kol.gateway.itg.handler.SoapBatchHandler;
+import com.kt.kol.gateway.itg.handler.SoapCompositeHandler;
+import com.kt.kol.gateway.itg.handler.SoapRequestHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SOAP 경로 직접 처리 모드 (gateway.routing.mode=direct)
+ *
+ * <p>
+ * 프록시 대상이 없는 no://op 라우트를 쓰는 대신 SoapRequestHandler를 WebHandler로 직접 매핑한다.
+ * Route predicate 매칭, Gateway global filter chain, exchange 속성 기록 비용을 생략한다.
+ * 두 모드의 요청당 오버헤드 측정 방법과 결과는 README 의 "라우팅 모드 설정" 참고.
+ *
+ * @see ESBRouteLocator
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.routing", name = "mode", havingValue = "direct")
+@RequiredArgsConstructor
+@Slf4j
+public class DirectSoapRouteConfig {
+
+    private final SoapRequestHandler soapRequestHandler;
+    private final SoapBatchHandler soapBatchHandler;
+    private final SoapCompositeHandler soapCompositeHandler;
+    private final AsyncJobHandler asyncJobHandler;
+
+    @Bean
+    public SimpleUrlHandlerMapping directSoapHandlerMapping() {
+        WebHandler soapWebHandler = soapRequestHandler::handleRequest;
+
+        Map<String, Object> urlMap = new LinkedHashMap<>();
+        urlMap.put(RouteConstants.SOAP_DYNAMIC_GATEWAY_PATH, soapWebHandler);
+        urlMap.put(RouteConstants.SOAP_GATEWAY_PATH, soapWebHandler);
+        urlMap.put(RouteConstants.SOAP_BATCH_GATEWAY_PATH, (WebHandler) soapBatchHandler::handleRequest);
+        urlMap.put(RouteConstants.SOAP_COMPOSITE_GATEWAY_PATH, (WebHandler) soapCompositeHandler::handleRequest);
+        urlMap.put(RouteConstants.SOAP_JOBS_PATH, (WebHandler) asyncJobHandler::handleRequest);
+
+        // RoutePredicateHandlerMapping, RouterFunctionMapping 보다 먼저 매칭
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(urlMap, Ordered.HIGHEST_PRECEDENCE);
+        log.info("[DirectSoapRoute] WebHandler 직접 매핑 모드 - paths: {}", urlMap.keySet());
+        return mapping;
+    }
+}
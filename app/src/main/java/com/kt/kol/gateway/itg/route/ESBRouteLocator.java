@@ -1,5 +1,6 @@
 package com.kt.kol.gateway.itg.route;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.route.RouteLocator;
@@ -12,6 +13,9 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 
+import com.kt.kol.gateway.itg.handler.AsyncJobHandler;
+import com.kt.kol.gateway.itg.handler.SoapBatchHandler;
+import com.kt.kol.gateway.itg.handler.SoapCompositeHandler;
 import com.kt.kol.gateway.itg.handler.SoapRequestHandler;
 
 import com.kt.kol.common.constant.RouteConstants;
@@ -26,8 +30,15 @@ import reactor.core.publisher.Mono;
 public class ESBRouteLocator {
 
 	private final SoapRequestHandler soapRequestHandler;
+	private final SoapBatchHandler soapBatchHandler;
+	private final SoapCompositeHandler soapCompositeHandler;
+	private final AsyncJobHandler asyncJobHandler;
 
+	/**
+	 * 기본 모드 (gateway.routing.mode=gateway) - direct 모드에서는 DirectSoapRouteConfig가 대체
+	 */
 	@Bean
+	@ConditionalOnProperty(prefix = "gateway.routing", name = "mode", havingValue = "gateway", matchIfMissing = true)
 	public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
 		return builder.routes()
 				.route(RouteConstants.REST_SOAP_PO_ROUTE, r -> r
@@ -38,33 +49,24 @@ public class ESBRouteLocator {
 						.path(RouteConstants.SOAP_GATEWAY_PATH)
 						.filters(f -> applyCommonFilters(f))
 						.uri(RouteConstants.NO_OP_URI))
+				.route(RouteConstants.REST_SOAP_BATCH_ROUTE, r -> r
+						.path(RouteConstants.SOAP_BATCH_GATEWAY_PATH)
+						.filters(f -> f.filter((exchange, chain) -> soapBatchHandler.handleRequest(exchange)))
+						.uri(RouteConstants.NO_OP_URI))
+				.route(RouteConstants.REST_SOAP_COMPOSITE_ROUTE, r -> r
+						.path(RouteConstants.SOAP_COMPOSITE_GATEWAY_PATH)
+						.filters(f -> f.filter((exchange, chain) -> soapCompositeHandler.handleRequest(exchange)))
+						.uri(RouteConstants.NO_OP_URI))
+				.route(RouteConstants.SOAP_JOBS_ROUTE, r -> r
+						.path(RouteConstants.SOAP_JOBS_PATH)
+						.filters(f -> f.filter((exchange, chain) -> asyncJobHandler.handleRequest(exchange)))
+						.uri(RouteConstants.NO_OP_URI))
 				.build();
 	}
 
 	private UriSpec applyCommonFilters(GatewayFilterSpec fn) {
+		// 처리율 제한은 SoapRequestHandler 진입 시 TokenBucketRateLimiter(로컬)로 수행 - direct 모드와 공통
 		return fn
-				// .requestRateLimiter(
-				// config ->
-				// config.setRateLimiter(redisRateLimiter()).setKeyResolver(userKeyResolver()))
 				.filter((exchange, chain) -> soapRequestHandler.handleRequest(exchange));
 	}
-
-	// @Bean
-	// RedisRateLimiter redisRateLimiter() {
-	// return new RedisRateLimiter(1, 2);
-	// Token Bucket 알고리즘 시반
-	// replenishRate: 초당처리량
-	// burstCapacity : 최대 버킷크기
-	// 일시적으로 최대 2 request/second를 처리할 수 있으며, 평균적으로는 1 request/second를 처리하며, 이를 초과하는
-	// 요청에 대해서는 HTTP 429 - Too Many Requets를 리턴
-	// }
-
-	// @Bean
-	// public KeyResolver userKeyResolver() {
-	// return exchange -> Mono.just(exchange.getRequest()
-	// .getHeaders()
-	// .getFirst("X-User-ID") != null ?
-	// exchange.getRequest().getHeaders().getFirst("X-User-ID")
-	// : exchange.getRequest().getRemoteAddress().getAddress().getHostAddress());
-	// }
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.kt.kol.gateway.itg.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.properties.FairQueueProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * 회사코드(cmpnCd)별 가중 공정 큐잉 스케줄러
+ *
+ * <p>
+ * SOAP 변환 이후 executeSoapCall 직전에 위치하여 업스트림 동시 호출 수를 maxConcurrency 로 제한한다.
+ * 허용량을 넘는 요청은 tenant 별 큐에 대기하고, 슬롯이 비면 Deficit Round Robin(가중치 = quantum)으로
+ * 다음 요청을 꺼낸다. 한 tenant 가 폭주해도 자기 큐만 차고, 다른 tenant 는 가중치만큼 차례를 보장받는다.
+ *
+ * <p>
+ * tenant 큐 깊이가 상한에 도달하면 대기 없이 ServiceOverloadedException(503)으로 거절한다.
+ */
+@Component
+@Slf4j
+public class TenantFairScheduler {
+
+    private static final String DEFAULT_TENANT = "-";
+    private static final String OTHER_TAG = "other";
+
+    private final FairQueueProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // lock 으로 보호 - 임계 구역은 큐 조작만 수행
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, TenantQueue> queues = new HashMap<>();
+    private final ArrayDeque<TenantQueue> activeQueues = new ArrayDeque<>();
+    private int inFlight;
+    private final AtomicInteger queuedTotal = new AtomicInteger();
+
+    private final ConcurrentMap<String, TenantMeters> tenantMeters = new ConcurrentHashMap<>();
+
+    public TenantFairScheduler(FairQueueProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("kol.fairqueue.queued", queuedTotal, AtomicInteger::get)
+                .description("Requests waiting in tenant queues")
+                .register(meterRegistry);
+    }
+
+    /**
+     * tenant 의 실행 슬롯을 얻은 뒤 work 를 구독하고, 완료/오류/취소 시 슬롯을 반환한다.
+     */
+    public <T> Mono<T> submit(String tenant, Mono<T> work) {
+        if (!properties.isEnabled()) {
+            return work;
+        }
+        String key = tenant != null ? tenant : DEFAULT_TENANT;
+        return Mono.usingWhen(acquire(key),
+                permit -> work,
+                Permit::releaseAsync,
+                (permit, error) -> permit.releaseAsync(),
+                Permit::releaseAsync);
+    }
+
+    private Mono<Permit> acquire(String tenant) {
+        return Mono.<Permit>create(sink -> {
+            Ticket ticket = new Ticket(tenant, sink, System.nanoTime());
+            boolean grantNow = false;
+            boolean rejected = false;
+
+            lock.lock();
+            try {
+                if (activeQueues.isEmpty() && inFlight < properties.getMaxConcurrency()) {
+                    inFlight++;
+                    grantNow = true;
+                } else {
+                    TenantQueue queue = queues.get(tenant);
+                    if (queue == null) {
+                        queue = new TenantQueue(tenant, weightOf(tenant));
+                        queues.put(tenant, queue);
+                    }
+                    if (queue.items.size() >= properties.getMaxQueueDepthPerTenant()) {
+                        rejected = true;
+                        if (queue.items.isEmpty()) {
+                            queues.remove(tenant);
+                        }
+                    } else {
+                        if (queue.items.isEmpty()) {
+                            activeQueues.addLast(queue);
+                        }
+                        queue.items.addLast(ticket);
+                        queuedTotal.incrementAndGet();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (grantNow) {
+                ticket.grant();
+            } else if (rejected) {
+                metersOf(tenant).rejected().increment();
+                sink.error(new ServiceOverloadedException("Tenant queue full: " + tenant));
+            } else {
+                sink.onCancel(ticket::cancel);
+            }
+        }).doOnDiscard(Permit.class, Permit::release);
+    }
+
+    /**
+     * 슬롯 반환 후 DRR 순서로 다음 대기 요청에 슬롯 부여
+     */
+    private void releaseSlot() {
+        Ticket next;
+        lock.lock();
+        try {
+            inFlight--;
+            next = pollNext();
+            if (next != null) {
+                inFlight++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            next.grant();
+        }
+    }
+
+    /**
+     * Deficit Round Robin - 요청 비용은 1, quantum 은 tenant 가중치 (lock 보유 상태에서 호출)
+     */
+    private Ticket pollNext() {
+        while (!activeQueues.isEmpty()) {
+            TenantQueue queue = activeQueues.peekFirst();
+            Ticket ticket = queue.items.pollFirst();
+            if (ticket != null) {
+                queuedTotal.decrementAndGet();
+            }
+            if (ticket != null && !ticket.claim()) {
+                ticket = null; // 취소된 요청은 비용 없이 건너뜀
+            }
+            if (ticket != null) {
+                if (queue.deficit < 1) {
+                    queue.deficit += queue.weight; // 이번 라운드 quantum
+                }
+                queue.deficit--;
+            }
+            if (queue.items.isEmpty()) {
+                activeQueues.pollFirst();
+                queue.deficit = 0;
+                queues.remove(queue.tenant);
+            } else if (ticket != null && queue.deficit < 1) {
+                activeQueues.addLast(activeQueues.pollFirst());
+            }
+            if (ticket != null) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    private int weightOf(String tenant) {
+        Integer weight = properties.getWeights().get(tenant);
+        return Math.max(1, weight != null ? weight : properties.getDefaultWeight());
+    }
+
+    private TenantMeters metersOf(String tenant) {
+        // 메트릭 태그는 가중치가 설정된 tenant 만 개별 노출, 나머지는 other 로 합산
+        String tag = properties.getWeights().containsKey(tenant) ? tenant : OTHER_TAG;
+        return tenantMeters.computeIfAbsent(tag, t -> new TenantMeters(
+                Timer.builder("kol.fairqueue.wait")
+                        .tag("tenant", t)
+                        .description("Time spent waiting for an upstream slot")
+                        .register(meterRegistry),
+                Counter.builder("kol.fairqueue.dispatched")
+                        .tag("tenant", t)
+                        .description("Requests dispatched to the upstream")
+                        .register(meterRegistry),
+                Counter.builder("kol.fairqueue.rejected")
+                        .tag("tenant", t)
+                        .description("Requests rejected because the tenant queue was full")
+                        .register(meterRegistry)));
+    }
+
+    private record TenantMeters(Timer waitTimer, Counter dispatched, Counter rejected) {
+    }
+
+    private static final class TenantQueue {
+        final String tenant;
+        final int weight;
+        final ArrayDeque<Ticket> items = new ArrayDeque<>();
+        int deficit;
+
+        TenantQueue(String tenant, int weight) {
+            this.tenant = tenant;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 대기 요청 - WAITING 에서 GRANTED/CANCELLED 중 하나로만 전이
+     */
+    private final class Ticket {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        final String tenant;
+        final MonoSink<Permit> sink;
+        final long enqueuedAt;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Ticket(String tenant, MonoSink<Permit> sink, long enqueuedAt) {
+            this.tenant = tenant;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        boolean claim() {
+            return state.compareAndSet(WAITING, GRANTED);
+        }
+
+        void cancel() {
+            state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        void grant() {
+            state.set(GRANTED);
+            TenantMeters meters = metersOf(tenant);
+            meters.waitTimer().record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            meters.dispatched().increment();
+            // 이미 취소된 구독이면 Permit 은 discard 훅으로 반환된다
+            sink.success(new Permit());
+        }
+    }
+
+    /**
+     * 실행 슬롯 - 한 번만 반환
+     */
+    private final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                releaseSlot();
+            }
+        }
+
+        Mono<Void> releaseAsync() {
+            return Mono.fromRunnable(this::release);
+        }
+    }
+}
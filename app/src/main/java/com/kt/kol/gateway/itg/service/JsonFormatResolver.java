@@ -0,0 +1,91 @@
+package com.kt.kol.gateway.itg.service;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kt.kol.common.constant.MediaTypes;
+
+/**
+ * 요청/응답 본문 형식(JSON, Smile, CBOR) 선택
+ *
+ * <p>
+ * <ul>
+ * <li>요청: Content-Type 이 Smile/CBOR 이면 해당 바이너리 매퍼, 그 외에는 JSON 매퍼</li>
+ * <li>응답: Accept 에서 품질값(q)이 가장 높은 지원 형식 - 미지정/와일드카드는 JSON</li>
+ * </ul>
+ * 세 매퍼는 동일한 모듈/역직렬화 정책을 공유하므로 RequestStdVO/ResponseStdVO 모델은 형식과 무관하다.
+ */
+@Component
+public class JsonFormatResolver {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(MediaTypes.APPLICATION_SMILE);
+    public static final MediaType APPLICATION_CBOR = MediaType.parseMediaType(MediaTypes.APPLICATION_CBOR);
+
+    /**
+     * 형식별 매퍼와 응답 Content-Type
+     */
+    public record Format(ObjectMapper mapper, MediaType mediaType) {
+
+        public boolean isBinary() {
+            return !MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType);
+        }
+    }
+
+    private final Format json;
+    private final Format smile;
+    private final Format cbor;
+
+    public JsonFormatResolver(ObjectMapper objectMapper, SmileMapper smileMapper, CBORMapper cborMapper) {
+        this.json = new Format(objectMapper, MediaType.APPLICATION_JSON);
+        this.smile = new Format(smileMapper, APPLICATION_SMILE);
+        this.cbor = new Format(cborMapper, APPLICATION_CBOR);
+    }
+
+    /**
+     * 요청 본문 형식 (Content-Type 기준)
+     */
+    public Format forRequest(ServerWebExchange exchange) {
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        if (contentType != null) {
+            if (APPLICATION_SMILE.equalsTypeAndSubtype(contentType)) {
+                return smile;
+            }
+            if (APPLICATION_CBOR.equalsTypeAndSubtype(contentType)) {
+                return cbor;
+            }
+        }
+        return json;
+    }
+
+    /**
+     * 응답 본문 형식 (Accept 협상 기준) - 동일 품질값이면 먼저 나열된 형식
+     */
+    public Format forResponse(ServerWebExchange exchange) {
+        List<MediaType> accept = exchange.getRequest().getHeaders().getAccept();
+        Format best = json;
+        double bestQuality = -1;
+        for (MediaType mediaType : accept) {
+            double quality = mediaType.getQualityValue();
+            if (quality == 0 || quality <= bestQuality) {
+                continue;
+            }
+            if (APPLICATION_SMILE.equalsTypeAndSubtype(mediaType)) {
+                best = smile;
+            } else if (APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+                best = cbor;
+            } else if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                best = json;
+            } else {
+                continue;
+            }
+            bestQuality = quality;
+        }
+        return best;
+    }
+}
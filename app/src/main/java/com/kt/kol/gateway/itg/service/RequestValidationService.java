@@ -2,6 +2,8 @@ package com.kt.kol.gateway.itg.service;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -13,8 +15,12 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.compression.PayloadCompression;
 import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.metrics.PipelineEvents;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
 import com.kt.kol.gateway.itg.model.RequestStdVO;
 import com.kt.kol.gateway.itg.model.ValidatedRequest;
 
@@ -29,7 +35,7 @@ import reactor.core.scheduler.Schedulers;
  * <p>
  * 주요 기능:
  * <ul>
- * <li>클라이언트로부터 받은 JSON/XML 요청을 파싱하여 RequestStdVO 객체로 변환</li>
+ * <li>클라이언트로부터 받은 JSON/Smile/CBOR 요청을 Content-Type 에 맞는 매퍼로 파싱하여 RequestStdVO 객체로 변환</li>
  * <li>필수 필드(appName, svcName, fnName) 존재 여부 검증</li>
  * <li>Content-Type에 따른 적절한 문자셋 처리</li>
  * </ul>
@@ -53,51 +59,122 @@ import reactor.core.scheduler.Schedulers;
 @Slf4j
 public class RequestValidationService {
 
-    // ✅ JSON 전용 매퍼를 명시적으로 주입 고정
-    private final ObjectMapper objectMapper;
+    // Content-Type 별 매퍼 선택 (JSON 기본, Smile/CBOR 바이너리)
+    private final JsonFormatResolver formatResolver;
+    private final MemoryBudget memoryBudget;
+    private final PayloadCompression payloadCompression;
+    private final PipelineEvents pipelineEvents;
 
     /** 요청 본문 추출 및 검증 */
     public Mono<ValidatedRequest> extractAndValidateRequest(ServerWebExchange exchange) {
         final String path = exchange.getRequest().getPath().toString();
-        log.info("[RequestValidation] 시작 - Path: {}, Method: {}", path, exchange.getRequest().getMethod());
+        log.debug("[RequestValidation] 시작 - Path: {}, Method: {}", path, exchange.getRequest().getMethod());
 
-        // XML 명시 차단 (이 엔드포인트는 JSON만)
-        MediaType ct = exchange.getRequest().getHeaders().getContentType();
-        if (ct != null && (MediaType.APPLICATION_XML.includes(ct) || MediaType.TEXT_XML.includes(ct))) {
-            return Mono.error(new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
-                    "Only application/json is supported on this endpoint"));
-        }
-
-        return DataBufferUtils.join(exchange.getRequest().getBody())
-                .switchIfEmpty(Mono.error(new InvalidRequestException("Empty request body")))
+        return readBody(exchange)
                 .flatMap(buf -> parseRequestBody(buf, exchange, path))
                 .doOnNext(vr -> {
-                    validateRequest(vr.request());
+                    validate(vr.request());
                     var info = vr.request().svcRequestInfoDTO();
-                    log.info("[RequestValidation] 완료 - Service: {}/{}, App: {}",
+                    log.debug("[RequestValidation] 완료 - Service: {}/{}, App: {}",
                             info.svcName(), info.fnName(), info.appName());
                 })
-                .doOnError(e -> {
-                    if (e instanceof InvalidRequestException || e instanceof ResponseStatusException) {
-                        log.warn("[RequestValidation] 실패 - Path: {}, Error: {}", path, e.getMessage());
-                    } else {
-                        log.error("[RequestValidation] 예기치 못한 오류 - Path: {}", path, e);
+                .doOnError(e -> log.debug("[RequestValidation] 실패 - Path: {}, Error: {}", path, e.getMessage()));
+    }
+
+    /**
+     * 배치 요청 본문 추출 - JSON 배열의 각 원소를 그대로 반환
+     *
+     * <p>
+     * 원소 단위 변환/검증은 호출 측에서 원소별로 수행하여 한 건의 오류가 배치 전체를 실패시키지 않도록 한다.
+     *
+     * @param maxItems 허용 원소 수 (초과 시 InvalidRequestException)
+     */
+    public Mono<List<JsonNode>> extractBatchRequest(ServerWebExchange exchange, int maxItems) {
+        final String path = exchange.getRequest().getPath().toString();
+        final JsonFormatResolver.Format format = formatResolver.forRequest(exchange);
+        return readBody(exchange)
+                .flatMap(buf -> Mono.fromCallable(() -> {
+                    try {
+                        JsonNode root = format.mapper().readTree(buf.asInputStream());
+                        if (root == null || !root.isArray()) {
+                            throw new InvalidRequestException("Batch request body must be a JSON array");
+                        }
+                        if (root.size() > maxItems) {
+                            throw new InvalidRequestException(
+                                    "Batch size " + root.size() + " exceeds limit " + maxItems);
+                        }
+                        List<JsonNode> items = new ArrayList<>(root.size());
+                        root.forEach(items::add);
+                        return items;
+                    } catch (JsonProcessingException e) {
+                        throw invalidBody(format, e);
+                    } finally {
+                        DataBufferUtils.release(buf);
+                    }
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .doOnNext(items -> log.debug("[RequestValidation] 배치 수신 - Path: {}, items: {}", path, items.size()))
+                .doOnError(e -> log.debug("[RequestValidation] 배치 실패 - Path: {}, Error: {}", path, e.getMessage()));
+    }
+
+    /**
+     * 본문 전체를 지정 타입으로 역직렬화 (복합 요청 등 RequestStdVO 외 형식)
+     */
+    public <T> Mono<T> extractJson(ServerWebExchange exchange, Class<T> type) {
+        final String path = exchange.getRequest().getPath().toString();
+        final JsonFormatResolver.Format format = formatResolver.forRequest(exchange);
+        return readBody(exchange)
+                .flatMap(buf -> Mono.fromCallable(() -> {
+                    try {
+                        return format.mapper().readValue(buf.asInputStream(), type);
+                    } catch (JsonProcessingException e) {
+                        throw invalidBody(format, e);
+                    } finally {
+                        DataBufferUtils.release(buf);
                     }
-                });
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .doOnError(e -> log.debug("[RequestValidation] 실패 - Path: {}, Error: {}", path, e.getMessage()));
     }
 
-    /** 본문 파싱(JSON 전용) */
+    /** 본문 전체 수신 - XML Content-Type 차단 */
+    private Mono<DataBuffer> readBody(ServerWebExchange exchange) {
+        // XML 명시 차단 (이 엔드포인트는 JSON/Smile/CBOR만)
+        MediaType ct = exchange.getRequest().getHeaders().getContentType();
+        if (ct != null && (MediaType.APPLICATION_XML.includes(ct) || MediaType.TEXT_XML.includes(ct))) {
+            return Mono.error(new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Only application/json, application/x-jackson-smile and application/cbor are supported on this endpoint"));
+        }
+
+        // 본문 청크는 (gzip/deflate 해제 후) 버퍼링되는 만큼 메모리 예산에서 차감
+        StageTimings timings = StageTimings.from(exchange);
+        long begin = timings.begin(StageTimings.Stage.BODY_READ);
+        return DataBufferUtils.join(memoryBudget.track(payloadCompression.decodeRequest(exchange),
+                MemoryBudget.Stage.REQUEST))
+                .doOnNext(buf -> {
+                    timings.end(StageTimings.Stage.BODY_READ, begin);
+                    timings.requestBytes(buf.readableByteCount());
+                })
+                .switchIfEmpty(Mono.error(new InvalidRequestException("Empty request body")));
+    }
+
+    /** 본문 파싱(JSON/Smile/CBOR) */
     private Mono<ValidatedRequest> parseRequestBody(DataBuffer dataBuffer, ServerWebExchange exchange, String path) {
+        final JsonFormatResolver.Format format = formatResolver.forRequest(exchange);
+        final StageTimings timings = StageTimings.from(exchange);
+        final long queued = timings.begin(StageTimings.Stage.ELASTIC_WAIT);
         return Mono.fromCallable(() -> {
+            long begin = timings.next(StageTimings.Stage.ELASTIC_WAIT, queued, StageTimings.Stage.PARSE);
+            PipelineEvents.StageEvent event = pipelineEvents.requestValidation();
+            int size = dataBuffer.readableByteCount();
+            RequestStdVO req = null;
             byte[] bytes = null;
             try {
                 bytes = new byte[dataBuffer.readableByteCount()];
                 dataBuffer.read(bytes);
                 Charset charset = determineCharset(exchange);
-                log.debug("[RequestValidation] 파싱 시작 - size={} bytes, charset={}, mapper={}",
-                        bytes.length, charset.displayName(), objectMapper.getClass().getName());
+                log.debug("[RequestValidation] 파싱 시작 - size={} bytes, charset={}, format={}",
+                        bytes.length, charset.displayName(), format.mediaType());
                 // 파싱
-                RequestStdVO req = objectMapper.readValue(bytes, RequestStdVO.class);
+                req = format.mapper().readValue(bytes, RequestStdVO.class);
 
                 log.debug("[RequestValidation] 파싱 성공 - App: {}, Service: {}/{}",
                         (req.svcRequestInfoDTO() != null ? req.svcRequestInfoDTO().appName() : "N/A"),
@@ -106,12 +183,14 @@ public class RequestValidationService {
 
                 return ValidatedRequest.json(req, exchange);
             } catch (JsonProcessingException e) {
-                throw new InvalidRequestException("Invalid JSON: " + e.getOriginalMessage());
+                throw invalidBody(format, e);
             } catch (InvalidRequestException e) {
                 throw e;
             } catch (Exception e) {
                 throw new InvalidRequestException("Request processing failed: " + e.getMessage());
             } finally {
+                timings.end(StageTimings.Stage.PARSE, begin);
+                PipelineEvents.end(event, req != null ? req.svcRequestInfoDTO() : null, null, size, null);
                 DataBufferUtils.release(dataBuffer); // 누수 방지
                 log.trace("[RequestValidation] DataBuffer released");
             }
@@ -119,7 +198,7 @@ public class RequestValidationService {
     }
 
     /** 필수 필드 검증 */
-    private void validateRequest(RequestStdVO request) {
+    public void validate(RequestStdVO request) {
         log.trace("[RequestValidation] 필수 필드 검증 시작");
 
         if (request.svcRequestInfoDTO() == null)
@@ -140,6 +219,12 @@ public class RequestValidationService {
                 info.svcName(), info.fnName(), info.appName());
     }
 
+    /** 파싱 오류 - JSON 은 기존 메시지 유지, 바이너리 형식은 형식명 표시 */
+    private static InvalidRequestException invalidBody(JsonFormatResolver.Format format, JsonProcessingException e) {
+        String name = format.isBinary() ? format.mediaType().getSubtype() : "JSON";
+        return new InvalidRequestException("Invalid " + name + ": " + e.getOriginalMessage());
+    }
+
     /** Content-Type의 charset 결정 (기본 UTF-8) */
     private Charset determineCharset(ServerWebExchange exchange) {
         MediaType contentType = exchange.getRequest().getHeaders().getContentType();
@@ -1,12 +1,15 @@
 package com.kt.kol.gateway.itg.service;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.compression.PayloadCompression;
+import com.kt.kol.gateway.itg.metrics.PipelineEvents;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
 import com.kt.kol.gateway.itg.model.ResponseStdVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -15,6 +18,7 @@ import reactor.core.publisher.Mono;
  * JSON 응답 작성 서비스
  *
  * <p>ESB로부터 받은 SOAP 응답을 JSON 형태로 클라이언트에 전달
+ * (Accept 로 Smile/CBOR 를 협상한 클라이언트에는 해당 바이너리 형식, Accept-Encoding 협상 시 압축)
  *
  * @see ResponseStdVO
  * @see SoapProcessingService
@@ -24,7 +28,9 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class ResponseWriterService {
 
-    private final ObjectMapper objectMapper;
+    private final JsonFormatResolver formatResolver;
+    private final PayloadCompression payloadCompression;
+    private final PipelineEvents pipelineEvents;
 
     /**
      * JSON 응답 작성
@@ -39,14 +45,19 @@ public class ResponseWriterService {
         String requestPath = exchange.getRequest().getPath().toString();
 
         try {
-            // Content-Type을 JSON으로 설정
-            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            // Accept 협상 형식으로 Content-Type 설정 (기본 JSON)
+            JsonFormatResolver.Format format = formatResolver.forResponse(exchange);
+            exchange.getResponse().getHeaders().setContentType(format.mediaType());
 
-            // ResponseStdVO를 JSON으로 직렬화
-            byte[] responseBytes = objectMapper.writeValueAsBytes(response);
-            DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(responseBytes);
+            // ResponseStdVO 직렬화 (Accept-Encoding 협상 시 직렬화와 압축을 함께 수행 - SERIALIZE 구간에 압축 포함)
+            StageTimings timings = StageTimings.from(exchange);
+            PipelineEvents.StageEvent event = pipelineEvents.responseWrite();
+            long begin = timings.begin(StageTimings.Stage.SERIALIZE);
+            PayloadCompression.Encoded encoded = payloadCompression.encode(exchange, format.mapper(), response);
+            timings.end(StageTimings.Stage.SERIALIZE, begin);
+            timings.responseBytes(encoded.bytes());
 
-            log.info("[ResponseWriter] JSON 응답 작성 - Path: {}, ResponseType: {}, ResponseCode: {}",
+            log.debug("[ResponseWriter] 응답 작성 - Path: {}, ResponseType: {}, ResponseCode: {}",
                     requestPath,
                     response.responseType(),
                     response.responseCode());
@@ -55,7 +66,13 @@ public class ResponseWriterService {
                     response.responseTitle(),
                     response.responseSystem());
 
-            return exchange.getResponse().writeWith(Mono.just(buffer));
+            Mono<Void> write = timed(timings, payloadCompression.write(exchange, encoded));
+            if (event == null) {
+                return write;
+            }
+            // 오퍼레이션 정보는 단계 측정 객체에서 (측정 비활성 시 빈 값)
+            return write.doFinally(signal -> PipelineEvents.end(event, timings.svcRequestInfo(),
+                    timings.endpoint(), encoded.bytes(), response.responseType()));
 
         } catch (JsonProcessingException e) {
             log.error("[ResponseWriter] JSON 직렬화 실패 - Path: {}, Error: {}",
@@ -66,4 +83,35 @@ public class ResponseWriterService {
             return Mono.error(new RuntimeException("Failed to write response", e));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 응답 전송 구간 기록 - 구독 시점부터 전송 완료까지
+     */
+    private static Mono<Void> timed(StageTimings timings, Mono<Void> write) {
+        if (!timings.isEnabled()) {
+            return write;
+        }
+        return Mono.defer(() -> {
+            long begin = timings.begin(StageTimings.Stage.WRITE);
+            return write.doOnTerminate(() -> timings.end(StageTimings.Stage.WRITE, begin));
+        });
+    }
+
+    /**
+     * 임의 객체 JSON 응답 작성 (비동기 작업 상태 등, Accept 협상 형식 적용)
+     *
+     * @param status HTTP 상태 코드
+     */
+    public Mono<Void> writeJson(ServerWebExchange exchange, HttpStatus status, Object body) {
+        try {
+            JsonFormatResolver.Format format = formatResolver.forResponse(exchange);
+            exchange.getResponse().setStatusCode(status);
+            exchange.getResponse().getHeaders().setContentType(format.mediaType());
+            return payloadCompression.write(exchange, payloadCompression.encode(exchange, format.mapper(), body));
+        } catch (IOException e) {
+            log.error("[ResponseWriter] JSON 직렬화 실패 - Path: {}, Error: {}",
+                    exchange.getRequest().getPath(), e.getMessage());
+            return Mono.error(new RuntimeException("Failed to serialize JSON response", e));
+        }
+    }
+}
@@ -1,21 +1,42 @@
 package com.kt.kol.gateway.itg.service;
 
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.cache.LookupResponseCache;
+import com.kt.kol.gateway.itg.delivery.FireAndForgetDelivery;
+import com.kt.kol.gateway.itg.journal.PayloadJournal;
+import com.kt.kol.gateway.itg.metrics.OperationMetrics;
+import com.kt.kol.gateway.itg.metrics.PipelineEvents;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.mirror.TrafficMirror;
 import com.kt.kol.gateway.itg.model.RequestStdVO;
 import com.kt.kol.gateway.itg.model.ResponseStdVO;
 import com.kt.kol.gateway.itg.properties.SoapServiceProperties;
+import com.kt.kol.gateway.itg.properties.WebClientProperties;
+import com.kt.kol.gateway.itg.scheduling.TenantFairScheduler;
 import com.kt.kol.gateway.itg.strategy.EndpointStrategyResolver;
+import com.kt.kol.gateway.itg.tracing.TraceContext;
 import com.kt.kol.gateway.itg.util.SoapConverter;
 import com.kt.kol.common.constant.HeaderConstants;
 import com.kt.kol.gateway.itg.exception.SoapServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SOAP 처리 비즈니스 로직 서비스
@@ -30,38 +51,126 @@ public class SoapProcessingService {
     private final SoapConverter soapConverter;
     private final EndpointStrategyResolver endpointStrategyResolver;
     private final SoapServiceProperties soapServiceProperties;
+    private final LookupResponseCache lookupResponseCache;
+    private final TrafficMirror trafficMirror;
+    private final TenantFairScheduler tenantFairScheduler;
+    private final MemoryBudget memoryBudget;
+    private final WebClientProperties webClientProperties;
+    private final FireAndForgetDelivery fireAndForgetDelivery;
+    private final OperationMetrics operationMetrics;
+    private final PipelineEvents pipelineEvents;
+    private final PayloadJournal payloadJournal;
 
     /**
      * SOAP 요청 처리 - 비동기 논블로킹 처리
      */
     public Mono<ResponseStdVO> processSoapRequest(ServerWebExchange exchange, RequestStdVO requestStdVO) {
+        return processSoapRequest(exchange.getRequest().getHeaders(), requestStdVO);
+    }
+
+    /**
+     * SOAP 요청 처리 - 요청 헤더만 사용 (HTTP 외 진입점 공용)
+     */
+    public Mono<ResponseStdVO> processSoapRequest(HttpHeaders headers, RequestStdVO requestStdVO) {
+        // 엔드포인트는 한 번만 결정하여 캐시 키와 업스트림 호출에 함께 사용
+        String resolvedEndpoint = resolveEndpointOrNull(headers, requestStdVO);
+        // 조회성 요청은 로컬 캐시 우선 (Pod 간 무효화로 일관성 유지)
+        LookupResponseCache.Lookup lookup = lookupResponseCache.lookup(requestStdVO, headers, resolvedEndpoint);
+        if (lookup.cached() != null) {
+            return Mono.just(lookup.cached());
+        }
+
+        return Mono.deferContextual(ctx -> {
+            // 캐시 적중은 제외하고 변환 ~ 업스트림 응답 변환까지 오퍼레이션별 측정
+            OperationMetrics.Observation observation = operationMetrics.start(requestStdVO.svcRequestInfoDTO());
+            StageTimings timings = StageTimings.from(ctx);
+            timings.operation(requestStdVO.svcRequestInfoDTO());
+            long queued = timings.begin(StageTimings.Stage.ELASTIC_WAIT);
+            return Mono.fromCallable(() -> {
+                timings.end(StageTimings.Stage.ELASTIC_WAIT, queued);
+                try (TraceContext.Scope scope = timings.trace().mdc()) {
+                    // SOAP 변환 준비
+                    String soapRequest = soapConverter.convertToSoap(headers, requestStdVO, timings);
+                    // 결정 실패 시 다시 호출하여 원래 예외를 처리 흐름의 오류로 전달
+                    String endpoint = resolvedEndpoint != null ? resolvedEndpoint
+                            : endpointStrategyResolver.resolveEndpoint(requestStdVO.svcRequestInfoDTO(), headers);
+                    observation.endpoint(endpoint);
+                    timings.endpoint(endpoint);
+                    log.debug("Processing SOAP request to endpoint: {}", endpoint);
+                    return new SoapRequestContext(soapRequest, endpoint,
+                            timings.begin(StageTimings.Stage.TENANT_QUEUE));
+                }
+            }).subscribeOn(Schedulers.boundedElastic()) // CPU 집약적 작업을 별도 스레드에서
+                    // cmpnCd 별 공정 큐잉 후 업스트림 호출
+                    .flatMap(context -> tenantFairScheduler.submit(
+                            headers.getFirst(HeaderConstants.CMPN_CD),
+                            Mono.defer(() -> {
+                                timings.end(StageTimings.Stage.TENANT_QUEUE, context.preparedNanos());
+                                return executeSoapCall(context, headers, requestStdVO, timings);
+                            })))
+                    .map(soapResponse -> {
+                        PipelineEvents.StageEvent event = pipelineEvents.responseConvert();
+                        long begin = timings.begin(StageTimings.Stage.CONVERT);
+                        ResponseStdVO response = null;
+                        try {
+                            response = soapConverter.convertToStdVO(soapResponse);
+                            return response;
+                        } finally {
+                            timings.end(StageTimings.Stage.CONVERT, begin);
+                            PipelineEvents.end(event, requestStdVO.svcRequestInfoDTO(), timings.endpoint(),
+                                    soapResponse.length(), response != null ? response.responseType() : null);
+                        }
+                    })
+                    .timeout(Duration.ofMillis(soapServiceProperties.getTimeout()))
+                    .doFinally(observation::stop);
+        })
+                .doOnNext(response -> lookupResponseCache.onResponse(lookup, requestStdVO, response));
+    }
+
+    private String resolveEndpointOrNull(HttpHeaders headers, RequestStdVO requestStdVO) {
+        try {
+            return endpointStrategyResolver.resolveEndpoint(requestStdVO.svcRequestInfoDTO(), headers);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * fire-and-forget 요청 적재 - 변환된 SOAP 전문을 write-ahead log 에 기록하고 sequence 반환
+     * (업스트림 호출은 전달 스레드가 수행, 적재 즉시 해당 주문의 조회 캐시 무효화)
+     */
+    public Mono<Long> enqueueSoapRequest(ServerWebExchange exchange, RequestStdVO requestStdVO) {
         return Mono.fromCallable(() -> {
-            // SOAP 변환 준비
             String soapRequest = soapConverter.convertToSoap(exchange, requestStdVO);
             String endpoint = endpointStrategyResolver.resolveEndpoint(
                     requestStdVO.svcRequestInfoDTO(),
                     exchange.getRequest().getHeaders());
-            log.debug("Processing SOAP request to endpoint: {}", endpoint);
-            return new SoapRequestContext(soapRequest, endpoint);
-        }).subscribeOn(Schedulers.boundedElastic()) // CPU 집약적 작업을 별도 스레드에서
-                .flatMap(context -> executeSoapCall(context, exchange))
-                .map(soapConverter::convertToStdVO)
-                .timeout(Duration.ofMillis(soapServiceProperties.getTimeout()))
-                .doOnError(error -> log.error("SOAP processing failed", error));
+            long sequence = fireAndForgetDelivery.append(requestStdVO.svcRequestInfoDTO().oderId(), endpoint,
+                    exchange.getRequest().getHeaders().getFirst(HeaderConstants.CMPN_CD), soapRequest);
+            lookupResponseCache.invalidateOrder(requestStdVO.svcRequestInfoDTO().oderId());
+            return sequence;
+        }).subscribeOn(Schedulers.boundedElastic()); // 변환 + mmap 기록 (page fault 가능)
     }
 
     /**
      * SOAP 호출 실행
      */
-    private Mono<String> executeSoapCall(SoapRequestContext context, ServerWebExchange exchange) {
+    private Mono<String> executeSoapCall(SoapRequestContext context, HttpHeaders headers, RequestStdVO requestStdVO,
+            StageTimings timings) {
         WebClient.RequestBodySpec requestSpec = webClient.post()
                 .uri(context.endpoint());
 
         // Stub 엔드포인트 특별 처리
         if (isStubEndpoint(context.endpoint())) {
-            requestSpec = addStubHeaders(requestSpec, exchange);
+            requestSpec = addStubHeaders(requestSpec, headers);
         }
 
+        String cmpnCd = headers.getFirst(HeaderConstants.CMPN_CD);
+        long start = System.nanoTime();
+        // 커넥션 획득/전송/TTFB 는 HttpClient 훅이 Context 의 호출 단위 측정 객체에 기록
+        StageTimings.UpstreamCall upstreamCall = timings.upstreamCall();
+        PipelineEvents.StageEvent event = pipelineEvents.upstreamCall();
+        AtomicLong responseLength = new AtomicLong();
         return requestSpec
                 .bodyValue(context.soapRequest())
                 .retrieve()
@@ -70,8 +179,58 @@ public class SoapProcessingService {
                                 .flatMap(error -> Mono.error(
                                         new SoapServiceException(
                                                 "SOAP service error: " + response.statusCode(),
-                                                error))))
-                .bodyToMono(String.class);
+                                                error,
+                                                response.statusCode().value()))))
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(this::readBudgetedBody)
+                .doOnNext(body -> {
+                    upstreamCall.onBody();
+                    responseLength.set(body.length());
+                })
+                // 미러링/저널: primary 결과 확정 후 큐에 적재만 하고 즉시 반환
+                .doOnSuccess(body -> {
+                    upstreamCall.finish(context.endpoint(), "ok");
+                    long elapsed = System.nanoTime() - start;
+                    trafficMirror.submit(requestStdVO.svcRequestInfoDTO(), context.soapRequest(), cmpnCd,
+                            HttpStatus.OK.value(), elapsed);
+                    payloadJournal.submit(upstreamCall.correlationId(), requestStdVO.svcRequestInfoDTO(),
+                            context.endpoint(), HttpStatus.OK.value(), elapsed, context.soapRequest(), body);
+                })
+                .doOnError(error -> {
+                    upstreamCall.finish(context.endpoint(), "error");
+                    long elapsed = System.nanoTime() - start;
+                    int status = error instanceof SoapServiceException se ? se.getStatusCode() : 0;
+                    trafficMirror.submit(requestStdVO.svcRequestInfoDTO(), context.soapRequest(), cmpnCd, status,
+                            elapsed);
+                    payloadJournal.submit(upstreamCall.correlationId(), requestStdVO.svcRequestInfoDTO(),
+                            context.endpoint(), status, elapsed, context.soapRequest(),
+                            error instanceof SoapServiceException se ? se.getSoapError() : null);
+                })
+                // 호출 span 은 결과가 하위로 전달되기 전에 확정 (doFinally 는 응답 기록 이후에 실행될 수 있음)
+                .doOnCancel(() -> upstreamCall.finish(context.endpoint(), "cancel"))
+                .doFinally(signal -> PipelineEvents.end(event, requestStdVO.svcRequestInfoDTO(), context.endpoint(),
+                        responseLength.get(), null))
+                .contextWrite(upstreamCall::bindTo);
+    }
+
+    /**
+     * 응답 본문을 청크 단위로 메모리 예산에서 차감하며 버퍼링 후 문자열로 디코딩
+     */
+    private Mono<String> readBudgetedBody(ResponseEntity<Flux<DataBuffer>> entity) {
+        MediaType contentType = entity.getHeaders().getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+        Flux<DataBuffer> body = entity.getBody() != null ? entity.getBody() : Flux.empty();
+        return DataBufferUtils.join(memoryBudget.track(body, MemoryBudget.Stage.RESPONSE),
+                webClientProperties.getMaxInMemorySize())
+                .map(buffer -> {
+                    try {
+                        return buffer.toString(charset);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                });
     }
 
     /**
@@ -85,9 +244,8 @@ public class SoapProcessingService {
     /**
      * Stub 헤더 추가
      */
-    private WebClient.RequestBodySpec addStubHeaders(WebClient.RequestBodySpec spec,
-            ServerWebExchange exchange) {
-        String cmpnCd = exchange.getRequest().getHeaders().getFirst(HeaderConstants.CMPN_CD);
+    private WebClient.RequestBodySpec addStubHeaders(WebClient.RequestBodySpec spec, HttpHeaders headers) {
+        String cmpnCd = headers.getFirst(HeaderConstants.CMPN_CD);
         if (cmpnCd != null) {
             return spec.header(HeaderConstants.CMPN_CD, cmpnCd);
         }
@@ -97,6 +255,6 @@ public class SoapProcessingService {
     /**
      * SOAP 요청 컨텍스트
      */
-    private record SoapRequestContext(String soapRequest, String endpoint) {
+    private record SoapRequestContext(String soapRequest, String endpoint, long preparedNanos) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,434 @@
+package com.kt.kol.gateway.itg.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 세그먼트 기반 append-only 로그
+ *
+ * <p>
+ * 레코드는 단조 증가하는 sequence(1부터)를 가지며 고정 크기 세그먼트 파일에 순서대로 기록된다.
+ * 세그먼트가 차면 다음 sequence 를 파일명으로 새 세그먼트를 만든다.
+ *
+ * <pre>
+ * 레코드: [length:int][crc32c:int][sequence:long][payload:length bytes]
+ * </pre>
+ *
+ * length 를 마지막에 기록하여 commit 표시로 사용하므로 0 이면 세그먼트의 끝이다. 기록은 page cache 에
+ * 즉시 반영되어 프로세스 재시작 후에도 남고, OS 장애 대비는 {@link #force()} 주기로 결정한다.
+ * 재시작 시 마지막 세그먼트를 CRC 검증으로 스캔하여 손상된 꼬리부터 세그먼트 끝까지 0 으로 지우고 이어서 기록한다.
+ * 복구된 sequence 가 checkpoint 보다 작으면 (마지막 세그먼트 유실/손상) checkpoint 다음 sequence 로 새 세그먼트를 시작해
+ * 이미 소비된 sequence 를 재사용하지 않는다. 읽기도 sequence 와 CRC 가 맞는 레코드만 전달한다.
+ *
+ * <p>
+ * 소비자 진행 위치는 checkpoint 파일에 저장하며, checkpoint 이하 레코드만 담은 세그먼트는 삭제한다.
+ * 소비자가 없는 보관용 로그는 {@link #trimTo(int)} 로 세그먼트 수를 제한한다.
+ * 모든 공개 메서드는 인스턴스 단위로 동기화된다. 다른 프로세스가 기록 중인 디렉터리는 {@link #scan} 으로 읽기 전용 조회한다.
+ */
+@Slf4j
+public final class MappedSegmentLog implements Closeable {
+
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final FileChannel checkpointChannel;
+
+    private Segment active;
+    private long nextSequence;
+    private long checkpoint;
+    private long corruptSequence; // 마지막으로 경고한 손상 레코드 (반복 로그 방지)
+
+    /**
+     * 레코드 (sequence, payload)
+     */
+    public record Entry(long sequence, byte[] payload) {
+    }
+
+    private MappedSegmentLog(Path directory, int segmentBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+    }
+
+    /**
+     * 디렉터리의 기존 세그먼트를 복구하거나 새 로그 생성
+     */
+    public static MappedSegmentLog open(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes <= RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("segmentBytes too small: " + segmentBytes);
+        }
+        return new MappedSegmentLog(directory, segmentBytes);
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @return 부여된 sequence
+     */
+    public synchronized long append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > segmentBytes - RECORD_HEADER_BYTES) {
+            throw new IOException("Record size out of range: " + payload.length);
+        }
+        if (active.remaining() < RECORD_HEADER_BYTES + payload.length) {
+            active = createSegment(nextSequence);
+        }
+        long sequence = nextSequence++;
+        active.write(sequence, payload);
+        return sequence;
+    }
+
+    /**
+     * fromSequence 부터 최대 maxRecords 개 읽기 (없으면 빈 목록)
+     *
+     * <p>
+     * sequence 가 기대값과 다르거나 CRC 가 맞지 않는 레코드에서 멈춘다 (손상/잔여 데이터는 전달하지 않음).
+     */
+    public synchronized List<Entry> read(long fromSequence, int maxRecords) {
+        List<Entry> entries = new ArrayList<>();
+        long sequence = Math.max(fromSequence, firstSequence());
+        Map.Entry<Long, Segment> floor = segments.floorEntry(sequence);
+        while (floor != null && entries.size() < maxRecords && sequence < nextSequence) {
+            Segment segment = floor.getValue();
+            int position = segment.positionOf(sequence);
+            while (position >= 0 && entries.size() < maxRecords && sequence < nextSequence) {
+                int length = segment.buffer.getInt(position);
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > segment.buffer.capacity()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                segment.buffer.get(position + RECORD_HEADER_BYTES, payload);
+                if (segment.buffer.getLong(position + 8) != sequence
+                        || crc(payload) != segment.buffer.getInt(position + 4)) {
+                    if (corruptSequence != sequence) {
+                        corruptSequence = sequence;
+                        log.warn("[SegmentLog] 손상 레코드에서 읽기 중단 - dir: {}, sequence: {}", directory, sequence);
+                    }
+                    return entries;
+                }
+                entries.add(new Entry(sequence, payload));
+                position += RECORD_HEADER_BYTES + length;
+                sequence++;
+                if (position + RECORD_HEADER_BYTES > segment.buffer.capacity()) {
+                    position = -1;
+                } else {
+                    segment.cache(sequence, position);
+                }
+            }
+            floor = segments.higherEntry(floor.getKey());
+            if (floor != null) {
+                sequence = Math.max(sequence, floor.getKey()); // 복구로 건너뛴 sequence 구간
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 소비 완료 위치 기록 및 완전히 소비된 세그먼트 삭제
+     */
+    public synchronized void checkpoint(long sequence) throws IOException {
+        if (sequence <= checkpoint) {
+            return;
+        }
+        checkpoint = Math.min(sequence, nextSequence - 1);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, checkpoint);
+        checkpointChannel.write(buffer, 0);
+        checkpointChannel.force(false);
+
+        // 다음 세그먼트 시작이 checkpoint 이하인 세그먼트는 모든 레코드가 소비됨 (active 는 유지)
+        while (segments.size() > 1) {
+            Map.Entry<Long, Segment> first = segments.firstEntry();
+            Long nextBase = segments.higherKey(first.getKey());
+            if (nextBase == null || nextBase - 1 > checkpoint) {
+                break;
+            }
+            segments.pollFirstEntry();
+            first.getValue().delete();
+        }
+    }
+
+    /**
+     * 오래된 세그먼트부터 삭제하여 세그먼트 수를 maxSegments 이하로 유지 (checkpoint 를 남는 첫 세그먼트 직전으로 이동)
+     */
+    public synchronized void trimTo(int maxSegments) throws IOException {
+        if (segments.size() <= Math.max(1, maxSegments)) {
+            return;
+        }
+        Long firstRetained = segments.keySet().stream()
+                .skip(segments.size() - Math.max(1, maxSegments))
+                .findFirst()
+                .orElseThrow();
+        checkpoint(firstRetained - 1);
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    public synchronized long checkpointSequence() {
+        return checkpoint;
+    }
+
+    /**
+     * 마지막으로 기록된 sequence (없으면 0)
+     */
+    public synchronized long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * 활성 세그먼트의 dirty page 를 디스크에 기록
+     */
+    public synchronized void force() {
+        if (active != null) {
+            active.buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+        checkpointChannel.close();
+    }
+
+    /**
+     * 디렉터리의 세그먼트를 읽기 전용으로 순서대로 조회 (복구/수정 없음, CRC 가 맞지 않는 꼬리에서 세그먼트 종료)
+     *
+     * <p>
+     * 기록 중인 로그도 읽을 수 있으며 checkpoint 와 무관하게 남아 있는 모든 레코드를 전달한다.
+     */
+    public static void scan(Path directory, Consumer<Entry> consumer) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int position = 0;
+                while (position + RECORD_HEADER_BYTES <= buffer.capacity()) {
+                    int length = buffer.getInt(position);
+                    if (length <= 0 || position + RECORD_HEADER_BYTES + length > buffer.capacity()) {
+                        break;
+                    }
+                    byte[] payload = new byte[length];
+                    buffer.get(position + RECORD_HEADER_BYTES, payload);
+                    if (crc(payload) != buffer.getInt(position + 4)) {
+                        break;
+                    }
+                    consumer.accept(new Entry(buffer.getLong(position + 8), payload));
+                    position += RECORD_HEADER_BYTES + length;
+                }
+            }
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private long firstSequence() {
+        return segments.isEmpty() ? nextSequence : segments.firstKey();
+    }
+
+    private void recover() throws IOException {
+        if (checkpointChannel.size() >= Long.BYTES) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+            checkpointChannel.read(buffer, 0);
+            checkpoint = buffer.getLong(0);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(base, Segment.map(file, base, segmentBytes));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            nextSequence = checkpoint + 1;
+            active = createSegment(nextSequence);
+            return;
+        }
+        active = segments.lastEntry().getValue();
+        long recovered = active.recover();
+        nextSequence = Math.max(recovered, checkpoint + 1);
+        if (nextSequence > recovered) {
+            // 소비된 sequence 가 꼬리에서 유실됨 - 기존 세그먼트에 이어 쓰면 위치와 sequence 가 어긋나므로 새 세그먼트로 시작
+            log.warn("[SegmentLog] 복구 sequence 가 checkpoint 이전 - dir: {}, recovered: {}, checkpoint: {}",
+                    directory, recovered - 1, checkpoint);
+            active = createSegment(nextSequence);
+        }
+        log.info("[SegmentLog] 복구 - dir: {}, segments: {}, last: {}, checkpoint: {}",
+                directory, segments.size(), nextSequence - 1, checkpoint);
+    }
+
+    private Segment createSegment(long baseSequence) throws IOException {
+        if (active != null) {
+            active.buffer.force();
+        }
+        Path file = directory.resolve(String.format("%020d%s", baseSequence, SEGMENT_SUFFIX));
+        Segment segment = Segment.map(file, baseSequence, segmentBytes);
+        segments.put(baseSequence, segment);
+        return segment;
+    }
+
+    private static final class Segment {
+        final Path file;
+        final long baseSequence;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int writePosition;
+        // 읽기 위치 캐시 - 직전 read 가 끝난 (sequence, position)
+        long cachedSequence;
+        int cachedPosition;
+
+        private Segment(Path file, long baseSequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.baseSequence = baseSequence;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.cachedSequence = baseSequence;
+        }
+
+        static Segment map(Path file, long baseSequence, int segmentBytes) throws IOException {
+            long size;
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                if (raf.length() < segmentBytes) {
+                    raf.setLength(segmentBytes);
+                }
+                size = raf.length(); // 설정 변경 전 생성된 큰 세그먼트도 전체 매핑
+            }
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(file, baseSequence, channel, buffer);
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition;
+        }
+
+        void write(long sequence, byte[] payload) {
+            int position = writePosition;
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.putLong(position + 8, sequence);
+            buffer.put(position + RECORD_HEADER_BYTES, payload);
+            buffer.putInt(position, payload.length); // commit 표시
+            writePosition = position + RECORD_HEADER_BYTES + payload.length;
+        }
+
+        /**
+         * sequence 레코드의 위치 (없으면 -1) - 캐시된 위치부터 순차 탐색
+         */
+        int positionOf(long sequence) {
+            long current = baseSequence;
+            int position = 0;
+            if (cachedSequence <= sequence) {
+                current = cachedSequence;
+                position = cachedPosition;
+            }
+            while (current < sequence) {
+                if (position + RECORD_HEADER_BYTES > buffer.capacity()) {
+                    return -1;
+                }
+                int length = buffer.getInt(position);
+                if (length <= 0) {
+                    return -1;
+                }
+                position += RECORD_HEADER_BYTES + length;
+                current++;
+            }
+            if (position + RECORD_HEADER_BYTES > buffer.capacity()) {
+                return -1;
+            }
+            cache(current, position);
+            return position;
+        }
+
+        void cache(long sequence, int position) {
+            cachedSequence = sequence;
+            cachedPosition = position;
+        }
+
+        /**
+         * 마지막 유효 레코드 다음 위치로 writePosition 설정
+         *
+         * @return 다음 sequence
+         */
+        long recover() {
+            int position = 0;
+            long sequence = baseSequence;
+            while (position + RECORD_HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > buffer.capacity()
+                        || buffer.getLong(position + 8) != sequence || !crcMatches(position, length)) {
+                    break;
+                }
+                position += RECORD_HEADER_BYTES + length;
+                sequence++;
+            }
+            writePosition = position;
+            // 중단된 레코드 이후 세그먼트 끝까지 제거 - 이후 기록이 잔여 데이터(이전 레코드 조각)와 섞이지 않도록
+            // (이미 0 인 페이지는 쓰지 않아 dirty page 를 만들지 않음)
+            int capacity = buffer.capacity();
+            for (; position + Long.BYTES <= capacity; position += Long.BYTES) {
+                if (buffer.getLong(position) != 0) {
+                    buffer.putLong(position, 0);
+                }
+            }
+            for (; position < capacity; position++) {
+                if (buffer.get(position) != 0) {
+                    buffer.put(position, (byte) 0);
+                }
+            }
+            return sequence;
+        }
+
+        private boolean crcMatches(int position, int length) {
+            byte[] payload = new byte[length];
+            buffer.get(position + RECORD_HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            return (int) crc.getValue() == buffer.getInt(position + 4);
+        }
+
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("[SegmentLog] 세그먼트 삭제 실패 - file: {}, error: {}", file, e.getMessage());
+            }
+        }
+    }
+}
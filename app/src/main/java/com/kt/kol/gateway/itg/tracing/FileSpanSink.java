@@ -0,0 +1,93 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기본 span sink - span 당 JSON 1줄을 로컬 파일에 추가 (수집 에이전트가 tail 하여 전송)
+ *
+ * <p>
+ * 파일이 maxFileSize 를 넘으면 {@code <file>.1} 로 교체하고 새 파일에 이어 쓴다 (이전 파일 1개 보관).
+ * 교체에 실패하면 기존 파일에 계속 쓰고 maxFileSize 만큼 더 쓴 뒤 다시 시도한다.
+ */
+@Slf4j
+public class FileSpanSink implements SpanSink {
+
+    private final Path file;
+    private final long maxFileSize;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+    private long size;
+
+    public FileSpanSink(Path file, long maxFileSize, ObjectMapper objectMapper) throws IOException {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.objectMapper = objectMapper;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    @Override
+    public void export(List<Span> batch) throws IOException {
+        if (writer == null) {
+            open(); // 이전 교체 중 재오픈 실패
+        }
+        for (Span span : batch) {
+            String line = objectMapper.writeValueAsString(span);
+            writer.write(line);
+            writer.write('\n');
+            size += line.length() + 1;
+        }
+        if (size >= maxFileSize) {
+            rotate();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        writer = null;
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            open();
+        } catch (IOException e) {
+            log.warn("[Tracing] span 파일 교체 실패 - 기존 파일에 계속 기록 - file: {}, error: {}", file, e.getMessage());
+            if (writer == null) {
+                open();
+            }
+            size = 0;
+        }
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+}
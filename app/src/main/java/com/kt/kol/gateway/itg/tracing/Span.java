@@ -0,0 +1,14 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.util.Map;
+
+/**
+ * 완료된 span 1개 (내보내기 단위)
+ *
+ * @param parentSpanId     상위 span (root 가 수신 trace 를 잇지 않으면 null)
+ * @param startEpochMicros 시작 시각 (epoch 마이크로초)
+ * @param attributes       문자열 속성 (null 값 없음)
+ */
+public record Span(String traceId, String spanId, String parentSpanId, String name, long startEpochMicros,
+        long durationMicros, Map<String, String> attributes) {
+}
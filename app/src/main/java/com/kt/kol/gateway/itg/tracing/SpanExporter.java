@@ -0,0 +1,164 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.properties.TracingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 샘플 span 배치 내보내기
+ *
+ * <p>
+ * 요청 경로는 완료된 span 을 bounded queue 에 offer 만 하고 (가득 차면 drop), 전용 스레드가 batchSize 개씩 또는
+ * flushInterval 마다 모아 {@link SpanSink} 로 넘긴다. SpanSink 빈이 없으면 {@link FileSpanSink} 를 사용한다.
+ * 기본 파일을 열 수 없으면 (읽기 전용 파일시스템 등) 기동은 계속하고 span 내보내기만 비활성화한다.
+ */
+@Component
+@Slf4j
+public class SpanExporter {
+
+    private final TracingProperties properties;
+    private final ObjectProvider<SpanSink> sinks;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter exportedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private BlockingQueue<Span> queue;
+    private SpanSink sink;
+    private Thread exporter;
+    private volatile boolean running;
+
+    public SpanExporter(TracingProperties properties, ObjectProvider<SpanSink> sinks, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sinks = sinks;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        this.exportedCounter = spanCounter("exported");
+        this.droppedCounter = spanCounter("dropped");
+        this.failedCounter = spanCounter("failed");
+    }
+
+    private Counter spanCounter(String result) {
+        return Counter.builder("kol.tracing.spans")
+                .tag("result", result)
+                .description("Sampled trace spans by export outcome")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        SpanSink configured = sinks.getIfAvailable();
+        if (configured != null) {
+            sink = configured;
+        } else {
+            try {
+                sink = new FileSpanSink(Path.of(properties.getFile()), properties.getMaxFileSize().toBytes(),
+                        objectMapper);
+            } catch (IOException | RuntimeException e) {
+                log.warn("[Tracing] span 파일을 열 수 없어 내보내기 비활성화 - file: {}, error: {}",
+                        properties.getFile(), e.toString());
+                return;
+            }
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        meterRegistry.gaugeCollectionSize("kol.tracing.queue.size", List.of(), queue);
+
+        running = true;
+        exporter = new Thread(this::exportLoop, "span-exporter");
+        exporter.setDaemon(true);
+        exporter.start();
+        log.info("[Tracing] span 내보내기 시작 - sink: {}, sampleRate: {}", sink.getClass().getSimpleName(),
+                properties.getSampleRate());
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        running = false;
+        if (exporter != null) {
+            exporter.interrupt();
+            try {
+                exporter.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    /**
+     * span 제출 - 큐가 가득 차면 drop (요청 경로 비차단)
+     */
+    public void submit(Span span) {
+        if (!running) {
+            return;
+        }
+        if (!queue.offer(span)) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void exportLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushNanos = properties.getFlushInterval().toNanos();
+        List<Span> batch = new ArrayList<>(batchSize);
+        long nextFlush = System.nanoTime() + flushNanos;
+        while (running) {
+            try {
+                Span first = queue.poll(Math.max(0, nextFlush - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (batch.size() >= batchSize || System.nanoTime() - nextFlush >= 0) {
+                export(batch);
+                nextFlush = System.nanoTime() + flushNanos;
+            }
+        }
+        // 종료 시 남은 span 내보내기
+        queue.drainTo(batch);
+        export(batch);
+    }
+
+    private void export(List<Span> batch) {
+        try {
+            if (!batch.isEmpty()) {
+                sink.export(batch);
+                exportedCounter.increment(batch.size());
+            }
+            sink.flush();
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("[Tracing] span 내보내기 실패 - spans: {}, error: {}", batch.size(), e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.util.List;
+
+/**
+ * span 내보내기 대상 - 빈으로 등록하면 기본 파일 sink({@link FileSpanSink}) 대신 사용
+ *
+ * <p>
+ * {@link SpanExporter} 의 전용 스레드 하나에서만 배치 단위로 호출되므로 구현은 스레드 안전할 필요가 없고,
+ * 블로킹 I/O 를 해도 요청 경로에 영향이 없다. 예외를 던지면 해당 배치는 실패로 집계되고 버려진다.
+ */
+public interface SpanSink extends AutoCloseable {
+
+    void export(List<Span> batch) throws Exception;
+
+    /**
+     * 주기적 flush (배치가 비어 있어도 flushInterval 마다 호출)
+     */
+    default void flush() throws Exception {
+    }
+
+    @Override
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,208 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+
+/**
+ * 요청 1건의 추적 식별자 (W3C Trace Context 호환)
+ *
+ * <p>
+ * 128bit trace id 와 64bit span id 는 ThreadLocalRandom 으로 만든 long 으로 보관하고 (UUID/SecureRandom 미사용),
+ * 16진 문자열은 로그나 헤더에 처음 필요할 때 한 번만 만든다. {@link com.kt.kol.gateway.itg.metrics.StageTimings} 에
+ * 담겨 exchange 속성과 Reactor Context 로 함께 전달되므로 별도 Context 키나 ThreadLocal 전파가 없다.
+ *
+ * <p>
+ * MDC 는 자동 전파하지 않고 (연산자마다 복원하는 비용 회피) 로그를 남기는 지점에서 {@link #mdc()} 로 감싼다.
+ */
+public final class TraceContext {
+
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SPAN_ID = "spanId";
+
+    public static final TraceContext NONE = new TraceContext(0, 0, 0, 0, false, null);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final Scope NOOP_SCOPE = () -> {
+    };
+
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;          // 게이트웨이 root span
+    private final long parentSpanId;    // 수신 traceparent 의 parent (없으면 0)
+    private final boolean sampled;
+    private final String correlationId; // 수신 X-Correlation-Id (없으면 null)
+    private String traceIdHex;          // 지연 생성 (경합 시 같은 값을 중복 생성할 뿐)
+    private String spanIdHex;
+
+    private TraceContext(long traceIdHigh, long traceIdLow, long spanId, long parentSpanId, boolean sampled,
+            String correlationId) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.sampled = sampled;
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * 새 trace 시작
+     */
+    public static TraceContext root(boolean sampled, String correlationId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long low;
+        do {
+            low = random.nextLong();
+        } while (low == 0);
+        return new TraceContext(random.nextLong(), low, nextSpanId(), 0, sampled, correlationId);
+    }
+
+    /**
+     * 수신 trace 이어받기 - 게이트웨이 span 만 새로 발급
+     */
+    static TraceContext child(Traceparent parent, boolean sampled, String correlationId) {
+        return new TraceContext(parent.traceIdHigh(), parent.traceIdLow(), nextSpanId(), parent.spanId(), sampled,
+                correlationId);
+    }
+
+    public static long nextSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    public boolean isValid() {
+        return traceIdHigh != 0 || traceIdLow != 0;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public String traceId() {
+        if (!isValid()) {
+            return null;
+        }
+        String hex = traceIdHex;
+        if (hex == null) {
+            char[] chars = new char[32];
+            hex(traceIdHigh, chars, 0);
+            hex(traceIdLow, chars, 16);
+            traceIdHex = hex = new String(chars);
+        }
+        return hex;
+    }
+
+    public String spanId() {
+        if (!isValid()) {
+            return null;
+        }
+        String hex = spanIdHex;
+        if (hex == null) {
+            spanIdHex = hex = spanIdHex(spanId);
+        }
+        return hex;
+    }
+
+    /**
+     * 수신 parent span id (새 trace 이면 null)
+     */
+    public String parentSpanId() {
+        return parentSpanId != 0 ? spanIdHex(parentSpanId) : null;
+    }
+
+    /**
+     * 업스트림에 보낼 상관관계 id - 수신 X-Correlation-Id, 없으면 trace id
+     */
+    public String correlationId() {
+        return correlationId != null ? correlationId : traceId();
+    }
+
+    /**
+     * 업스트림 호출용 traceparent 헤더 값 (version 00)
+     *
+     * @param callSpanId 업스트림 호출 span id
+     */
+    public String traceparent(long callSpanId) {
+        StringBuilder sb = new StringBuilder(55);
+        sb.append("00-").append(traceId()).append('-').append(spanIdHex(callSpanId)).append(sampled ? "-01" : "-00");
+        return sb.toString();
+    }
+
+    /**
+     * 현재 스레드 MDC 에 traceId/spanId 설정 - try-with-resources 로 닫으면 이전 값 복원
+     */
+    public Scope mdc() {
+        if (!isValid()) {
+            return NOOP_SCOPE;
+        }
+        String previousTrace = MDC.get(MDC_TRACE_ID);
+        String previousSpan = MDC.get(MDC_SPAN_ID);
+        MDC.put(MDC_TRACE_ID, traceId());
+        MDC.put(MDC_SPAN_ID, spanId());
+        return () -> {
+            restore(MDC_TRACE_ID, previousTrace);
+            restore(MDC_SPAN_ID, previousSpan);
+        };
+    }
+
+    private static void restore(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+
+    static String spanIdHex(long id) {
+        char[] chars = new char[16];
+        hex(id, chars, 0);
+        return new String(chars);
+    }
+
+    private static void hex(long value, char[] dest, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            dest[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * MDC 범위 (예외를 던지지 않는 AutoCloseable)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * 파싱된 traceparent 헤더
+     */
+    record Traceparent(long traceIdHigh, long traceIdLow, long spanId, boolean sampled) {
+
+        /**
+         * "00-{32 hex}-{16 hex}-{2 hex}" 파싱 - 형식 오류 또는 all-zero id 이면 null
+         */
+        static Traceparent parse(String value) {
+            if (value == null || value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-'
+                    || value.charAt(52) != '-' || "ff".equals(value.substring(0, 2))) {
+                return null;
+            }
+            try {
+                long high = Long.parseUnsignedLong(value, 3, 19, 16);
+                long low = Long.parseUnsignedLong(value, 19, 35, 16);
+                long span = Long.parseUnsignedLong(value, 36, 52, 16);
+                int flags = Integer.parseInt(value, 53, 55, 16);
+                if ((high == 0 && low == 0) || span == 0) {
+                    return null;
+                }
+                return new Traceparent(high, low, span, (flags & 0x01) != 0);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.kt.kol.gateway.itg.tracing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+import com.kt.kol.gateway.itg.properties.TracingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 요청 추적 시작/종료
+ *
+ * <p>
+ * 주요 기능:
+ * <ul>
+ * <li>진입 시 수신 traceparent 를 잇거나 새 trace 를 만들고, 이때 span 내보내기 여부를 결정 (head-based sampling)</li>
+ * <li>샘플되지 않은 요청도 id 는 발급하여 로그 MDC, 접근 로그, 업스트림 헤더로 전파 (long 3개 생성 비용)</li>
+ * <li>종료 시 샘플된 요청만 {@link StageTimings} 기록으로 root / 단계 / 업스트림 호출 span 을 만들어
+ * {@link SpanExporter} 에 제출 - 요청 중에는 span 객체를 만들지 않음</li>
+ * </ul>
+ * 단계 span 은 같은 단계가 여러 번 실행되면 최초 시작 시각과 합산 시간으로 1개만 만든다 (count 속성).
+ */
+@Component
+public class Tracer {
+
+    private static final int MAX_CORRELATION_ID_LENGTH = 128;
+
+    private final TracingProperties properties;
+    private final SpanExporter exporter;
+
+    private final Counter sampledCounter;
+
+    public Tracer(TracingProperties properties, SpanExporter exporter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.exporter = exporter;
+
+        this.sampledCounter = Counter.builder("kol.tracing.sampled")
+                .description("Requests selected for span export")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * HTTP 요청 trace 시작 - traceparent, X-Correlation-Id 반영
+     */
+    public TraceContext start(HttpHeaders headers) {
+        if (!properties.isEnabled()) {
+            return TraceContext.NONE;
+        }
+        String correlationId = headers.getFirst(HeaderConstants.CORRELATION_ID);
+        if (correlationId != null && (correlationId.isBlank() || correlationId.length() > MAX_CORRELATION_ID_LENGTH)) {
+            correlationId = null;
+        }
+        TraceContext.Traceparent parent = TraceContext.Traceparent.parse(headers.getFirst(HeaderConstants.TRACEPARENT));
+        if (parent == null) {
+            return TraceContext.root(sample(), correlationId);
+        }
+        boolean sampled = properties.isRespectParentSampled() ? counted(parent.sampled()) : sample();
+        return TraceContext.child(parent, sampled, correlationId);
+    }
+
+    /**
+     * 헤더 없는 진입점 trace 시작
+     */
+    public TraceContext start() {
+        return properties.isEnabled() ? TraceContext.root(sample(), null) : TraceContext.NONE;
+    }
+
+    private boolean sample() {
+        return counted(ThreadLocalRandom.current().nextDouble() < properties.getSampleRate());
+    }
+
+    private boolean counted(boolean sampled) {
+        if (sampled) {
+            sampledCounter.increment();
+        }
+        return sampled;
+    }
+
+    /**
+     * 요청 종료 - 샘플된 trace 이면 span 제출
+     */
+    public void finish(StageTimings timings) {
+        TraceContext trace = timings.trace();
+        if (!trace.isSampled()) {
+            return;
+        }
+        String traceId = trace.traceId();
+        String rootSpanId = trace.spanId();
+        long startMicros = timings.startEpochMillis() * 1_000;
+
+        Map<String, String> rootAttributes = new HashMap<>();
+        SvcRequestInfoDTO info = timings.svcRequestInfo();
+        if (info != null) {
+            put(rootAttributes, "app", info.appName());
+            put(rootAttributes, "operation", timings.operation());
+        }
+        put(rootAttributes, "endpoint", timings.endpoint());
+        if (timings.status() > 0) {
+            rootAttributes.put("status", Integer.toString(timings.status()));
+        }
+        put(rootAttributes, "error", timings.error());
+        rootAttributes.put("request.bytes", Long.toString(timings.requestBytes()));
+        rootAttributes.put("response.bytes", Long.toString(timings.responseBytes()));
+        exporter.submit(new Span(traceId, rootSpanId, trace.parentSpanId(), timings.ingress(), startMicros,
+                timings.elapsedNanos() / 1_000, rootAttributes));
+
+        for (StageTimings.Stage stage : StageTimings.Stage.values()) {
+            long offset = timings.firstBeginOffsetNanos(stage);
+            if (offset < 0 || timings.count(stage) == 0) {
+                continue;
+            }
+            exporter.submit(new Span(traceId, TraceContext.spanIdHex(TraceContext.nextSpanId()), rootSpanId,
+                    stage.metricName(), startMicros + offset / 1_000, timings.nanos(stage) / 1_000,
+                    Map.of("count", Long.toString(timings.count(stage)))));
+        }
+
+        for (StageTimings.UpstreamCall call : timings.upstreamCalls()) {
+            Map<String, String> attributes = new HashMap<>();
+            put(attributes, "endpoint", call.endpoint());
+            put(attributes, "outcome", call.outcome());
+            exporter.submit(new Span(traceId, TraceContext.spanIdHex(call.spanId()), rootSpanId, "upstream",
+                    startMicros + call.beginOffsetNanos() / 1_000, call.durationNanos() / 1_000, attributes));
+        }
+    }
+
+    private static void put(Map<String, String> attributes, String key, String value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+    }
+}
@@ -30,6 +30,8 @@ import com.kt.kol.common.model.soap.SoapHeader;
 import com.kt.kol.common.util.DateUtil;
 import com.kt.kol.common.util.JaxbXmlSerializer;
 import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.metrics.PipelineEvents;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
 import com.kt.kol.gateway.itg.model.RequestStdVO;
 import com.kt.kol.gateway.itg.model.ResponseStdVO;
 import com.kt.kol.gateway.itg.template.SoapTemplateManager;
@@ -50,11 +52,33 @@ public class SoapConverter {
     private final XmlMapper xmlMapper;
     private final SoapTemplateManager soapTemplateManager;
     private final PerformanceMetrics performanceMetrics;
+    private final PipelineEvents pipelineEvents;
 
     // 매개변수 trtBaseInfoDTO -> svcRequestInfoDTO 로 변경
     public String convertToSoap(ServerWebExchange exchange, RequestStdVO requestStdVO) {
-        CommonHeader commonHeader = extractHeaders(requestStdVO.svcRequestInfoDTO(), exchange);
-        return convertToXmlOptimized(commonHeader, requestStdVO);
+        return convertToSoap(exchange.getRequest().getHeaders(), requestStdVO);
+    }
+
+    /**
+     * 헤더 기반 변환 - HTTP 외 진입점(RSocket 등)은 요청 메타데이터를 HttpHeaders 로 전달
+     */
+    public String convertToSoap(HttpHeaders headers, RequestStdVO requestStdVO) {
+        return convertToSoap(headers, requestStdVO, StageTimings.NOOP);
+    }
+
+    /**
+     * 헤더 생성/전문 생성 구간을 요청 단계 측정에 기록하며 변환
+     */
+    public String convertToSoap(HttpHeaders headers, RequestStdVO requestStdVO, StageTimings timings) {
+        PipelineEvents.StageEvent event = pipelineEvents.soapConvert();
+        long begin = timings.begin(StageTimings.Stage.HEADER_BUILD);
+        CommonHeader commonHeader = extractHeaders(requestStdVO.svcRequestInfoDTO(), headers);
+        begin = timings.next(StageTimings.Stage.HEADER_BUILD, begin, StageTimings.Stage.TEMPLATE);
+        String soap = convertToXmlOptimized(commonHeader, requestStdVO);
+        timings.end(StageTimings.Stage.TEMPLATE, begin);
+        // SOAP 전문은 ASCII 위주이므로 문자 수를 크기로 기록 (인코딩 비용 회피)
+        PipelineEvents.end(event, requestStdVO.svcRequestInfoDTO(), null, soap.length(), null);
+        return soap;
     }
 
     public String convertToRest(String soapResponse) {
@@ -143,18 +167,20 @@ public class SoapConverter {
 
     /**
      * 매개변수 TrtBaseInfoDTO -> SvcRequestInfoDTO 로 변경
-     * 매개변수 ServerWebExchange exchange 추가 - 헤더정보 읽어야해서 필요
+     * 매개변수 ServerWebExchange exchange 추가 - 헤더정보 읽어야해서 필요 (HttpHeaders 로 일반화)
      * 최적화: 헤더 접근 횟수 최소화 및 Map 생성 개선
      */
-    private CommonHeader extractHeaders(SvcRequestInfoDTO svcRequestInfoDTO, ServerWebExchange exchange) {
-        HttpHeaders headers = exchange.getRequest().getHeaders();
-
+    private CommonHeader extractHeaders(SvcRequestInfoDTO svcRequestInfoDTO, HttpHeaders headers) {
         // 최적화: 헤더 값들을 한 번에 추출하여 반복 접근 최소화
         String globalNo = headers.getFirst(HeaderConstants.GLOBAL_NO);
         String userId = headers.getFirst(HeaderConstants.USER_ID);
         String sourceId = headers.getFirst(HeaderConstants.SOURCE_ID);
         String cmpnCd = headers.getFirst(HeaderConstants.CMPN_CD);
         String lgDateTime = headers.getFirst(HeaderConstants.LOG_DATETIME);
+        String trFlag = HeaderConstants.COMM_TR_FLAG_RECEIVE.equalsIgnoreCase(
+                headers.getFirst(HeaderConstants.TRANSACTION_FLAG))
+                        ? HeaderConstants.COMM_TR_FLAG_RECEIVE
+                        : HeaderConstants.COMM_TR_FLAG_THROW;
 
         // 최적화: Options Map 처리 개선 - null 체크 최소화
         Map<String, String> options = svcRequestInfoDTO.options() != null
@@ -177,7 +203,7 @@ public class SoapConverter {
                 .fnName(svcRequestInfoDTO.fnName())
                 .globalNo(globalNo)
                 .chnlType(HeaderConstants.KN_CHNL_TYPE)
-                .trFlag(HeaderConstants.COMM_TR_FLAG_THROW)
+                .trFlag(trFlag)
                 .trDate(LocalDate.now().format(DateTimeFormatter.ofPattern("YYYYMMdd")))
                 .trTime(LocalTime.now().format(DateTimeFormatter.ofPattern("hhmmssSSS")))
                 .clntIp(nodeIp)
@@ -0,0 +1,133 @@
+package com.kt.kol.gateway.itg.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.admission.MemoryBudget;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.exception.SoapServiceException;
+import com.kt.kol.gateway.itg.metrics.PerformanceMetrics;
+import com.kt.kol.gateway.itg.model.AsyncJobStatus;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.AsyncJobProperties;
+import com.kt.kol.gateway.itg.properties.MemoryBudgetProperties;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동시 접수 시 보관 상한 준수와, 처리 결과 메트릭을 작업 완료 시점에 기록하는지 검증
+ */
+class AsyncJobManagerTest {
+
+    private static final RequestStdVO REQUEST = new RequestStdVO(
+            new SvcRequestInfoDTO("NBSS_ORD", "OrderService", "getOrder", "O1"),
+            JsonNodeFactory.instance.objectNode());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SoapProcessingService processingService = mock(SoapProcessingService.class);
+    private final PerformanceMetrics performanceMetrics = mock(PerformanceMetrics.class);
+    private AsyncJobProperties properties;
+    private AsyncJobManager manager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AsyncJobProperties();
+        properties.setEnabled(true);
+        manager = new AsyncJobManager(properties, processingService,
+                new MemoryBudget(new MemoryBudgetProperties(), meterRegistry), new ObjectMapper(),
+                performanceMetrics, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시에 접수해도 보관 작업 수는 maxStored 를 넘지 않음")
+    void neverExceedsMaxStoredUnderConcurrentSubmit() throws Exception {
+        properties.setMaxStored(5);
+        when(processingService.processSoapRequest(any(ServerWebExchange.class), any())).thenReturn(Mono.never());
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads * 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        manager.submit(exchange(), REQUEST, mock(Timer.Sample.class));
+                        return true;
+                    } catch (ServiceOverloadedException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(accepted).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(meterRegistry.get("kol.async.jobs.stored").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("kol.async.jobs.rejected").counter().count()).isEqualTo(threads * 4 - 5);
+        assertThat(manager.hasCapacity()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공/실패 메트릭은 접수 시점이 아니라 작업 완료 시점에 기록")
+    void recordsOutcomeWhenJobCompletes() {
+        Sinks.One<ResponseStdVO> success = Sinks.one();
+        Sinks.One<ResponseStdVO> failure = Sinks.one();
+        when(processingService.processSoapRequest(any(ServerWebExchange.class), any()))
+                .thenReturn(success.asMono(), failure.asMono());
+        Timer.Sample successSample = mock(Timer.Sample.class);
+        Timer.Sample failureSample = mock(Timer.Sample.class);
+
+        AsyncJobStatus first = manager.submit(exchange(), REQUEST, successSample);
+        AsyncJobStatus second = manager.submit(exchange(), REQUEST, failureSample);
+        verify(performanceMetrics, never()).recordSoapSuccess(any());
+        verify(performanceMetrics, never()).recordSoapError(any(), anyString());
+
+        success.tryEmitValue(ResponseStdVO.success(JsonNodeFactory.instance.objectNode()));
+        failure.tryEmitError(new SoapServiceException("SOAP service error: 500", "", 500));
+
+        verify(performanceMetrics).recordSoapSuccess(successSample);
+        verify(performanceMetrics).recordSoapError(failureSample, "SoapServiceException");
+        assertThat(manager.find(first.jobId()).status()).isEqualTo(AsyncJobStatus.State.COMPLETED);
+        assertThat(manager.find(second.jobId()).status()).isEqualTo(AsyncJobStatus.State.FAILED);
+        assertThat(meterRegistry.get("kol.async.jobs.running").gauge().value()).isZero();
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/SoapDynamicGateway"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.kt.kol.gateway.itg.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kt.kol.gateway.itg.compression.PayloadCompression;
+import com.kt.kol.gateway.itg.config.JsonConfig;
+import com.kt.kol.gateway.itg.properties.CompressionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 응답 직렬화 + 압축 비용 ({@link PayloadCompression#encode})
+ *
+ * <p>
+ * encode 는 운영 경로(직렬화 출력을 풀의 Deflater 로 바로 압축, 풀 버퍼에 기록)이고, serializeThenStream 은
+ * 전체 byte[] 로 직렬화한 뒤 응답마다 새 JDK 압축 스트림을 만드는 비교 기준이다. 응답은 200 행(약 25KB)이며
+ * 압축 레벨은 기본 설정(gzip 6, deflate 1)과 같다. identity 는 압축 없이 직렬화만 한 값이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({ "identity", "gzip", "deflate" })
+    public String codec;
+
+    private final CompressionProperties properties = new CompressionProperties();
+    private ObjectMapper mapper;
+    private PayloadCompression compression;
+    private ObjectNode response;
+    private MockServerWebExchange exchange;
+
+    @Setup
+    public void setUp() {
+        properties.setEnabled(true);
+        compression = new PayloadCompression(properties, new SimpleMeterRegistry());
+        mapper = new JsonConfig().objectMapper();
+
+        response = mapper.createObjectNode()
+                .put("responseType", "I")
+                .put("responseCode", "0000")
+                .put("responseSystem", "ORD");
+        ArrayNode rows = response.putObject("data").putArray("rows");
+        for (int r = 0; r < 200; r++) {
+            rows.addObject()
+                    .put("custId", "CUST" + r)
+                    .put("orderId", "ORD" + (1000 + r))
+                    .put("amount", 50000 + r * 37)
+                    .put("status", r % 3 == 0 ? "ACTIVE" : "CLOSED")
+                    .put("createdAt", "2026-10-19T03:48:" + (10 + r % 50))
+                    .put("active", r % 2 == 0);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void newExchange() {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/SoapDynamicGateway");
+        if (!"identity".equals(codec)) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, codec);
+        }
+        exchange = MockServerWebExchange.from(request);
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        PayloadCompression.Encoded encoded = compression.encode(exchange, mapper, response);
+        encoded.buffers().forEach(DataBufferUtils::release);
+        return exchange.getResponse().getHeaders().getContentLength();
+    }
+
+    @Benchmark
+    public int serializeThenStream() throws IOException {
+        byte[] body = mapper.writeValueAsBytes(response);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+        OutputStream stream = switch (codec) {
+            case "gzip" -> new GZIPOutputStream(output) {
+                {
+                    def.setLevel(properties.getGzipLevel());
+                }
+            };
+            case "deflate" -> new DeflaterOutputStream(output, new Deflater(properties.getDeflateLevel()), true) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    def.end(); // 직접 만든 Deflater 는 스트림이 해제하지 않음
+                }
+            };
+            default -> output;
+        };
+        try (stream) {
+            stream.write(body);
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,100 @@
+package com.kt.kol.gateway.itg.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 게이트웨이 대상 closed-loop HTTP 부하 발생기 (README "라우팅 모드 설정" 측정에 사용)
+ *
+ * <p>
+ * 스레드마다 keep-alive 연결 하나로 응답을 받는 즉시 다음 요청을 보낸다. warm-up 구간은 집계에서 제외하고
+ * 측정 구간의 처리량과 지연 분포, 응답 상태별 건수를 출력한다.
+ *
+ * <pre>
+ * args: url body concurrency warmupSeconds measureSeconds
+ * </pre>
+ */
+public final class HttpLoadDriver {
+
+    private HttpLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("usage: HttpLoadDriver <url> <body> <concurrency> <warmupSeconds> <measureSeconds>");
+            System.exit(1);
+        }
+        String url = args[0];
+        String body = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        long warmupNanos = Long.parseLong(args[3]) * 1_000_000_000L;
+        long measureNanos = Long.parseLong(args[4]) * 1_000_000_000L;
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("KOL-Cmpn-Cd", "A1")
+                .header("KOL-User-Id", "u1")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long measureStart = System.nanoTime() + warmupNanos;
+        long end = measureStart + measureNanos;
+        List<long[]> latencies = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        Thread[] workers = new Thread[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            workers[i] = new Thread(() -> {
+                long[] samples = new long[1 << 20];
+                int count = 0;
+                try {
+                    while (true) {
+                        long begin = System.nanoTime();
+                        if (begin > end) {
+                            break;
+                        }
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        long elapsed = System.nanoTime() - begin;
+                        if (begin >= measureStart) {
+                            statuses.computeIfAbsent(response.statusCode(), s -> new LongAdder()).increment();
+                            if (count < samples.length) {
+                                samples[count++] = elapsed;
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                latencies.add(Arrays.copyOf(samples, count));
+            }, "load-" + i);
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        long[] merged = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (merged.length == 0) {
+            System.out.println("no responses measured");
+            return;
+        }
+        System.out.printf("status=%s requests=%d rps=%.0f mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms%n",
+                statuses, merged.length, merged.length / (measureNanos / 1e9),
+                Arrays.stream(merged).average().orElse(0) / 1e6, percentile(merged, 0.5), percentile(merged, 0.9),
+                percentile(merged, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1e6;
+    }
+}
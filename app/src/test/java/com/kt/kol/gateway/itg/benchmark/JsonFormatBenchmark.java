@@ -0,0 +1,104 @@
+package com.kt.kol.gateway.itg.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kt.kol.gateway.itg.config.JsonConfig;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+
+/**
+ * 요청/응답 본문 포맷(JSON, Smile, CBOR)별 파싱/직렬화 비용
+ *
+ * <p>
+ * 운영 매퍼({@link JsonConfig})를 그대로 사용한다. 요청은 data 30 필드, 응답은 20 행 배열로 실제 호출 모양을 흉내 낸다.
+ * 응답 파싱(parseResponse)은 같은 포맷을 받는 클라이언트 쪽 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JsonFormatBenchmark {
+
+    @Param({ "json", "smile", "cbor" })
+    public String format;
+
+    private ObjectMapper mapper;
+    private byte[] requestBytes;
+    private byte[] responseBytes;
+    private ResponseStdVO response;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonConfig config = new JsonConfig();
+        ObjectMapper json = config.objectMapper();
+        mapper = switch (format) {
+            case "smile" -> config.smileMapper();
+            case "cbor" -> config.cborMapper();
+            default -> json;
+        };
+
+        ObjectNode request = json.createObjectNode();
+        request.putObject("svcRequestInfoDTO")
+                .put("appName", "NBSS_ORD")
+                .put("svcName", "OrderService")
+                .put("fnName", "createOrder")
+                .put("oderId", "ORD123456");
+        ObjectNode data = request.putObject("data");
+        for (int i = 0; i < 30; i++) {
+            data.put("field" + i, "value-" + (i * 1234567));
+        }
+
+        ObjectNode responseNode = json.createObjectNode()
+                .put("responseType", "I")
+                .put("responseCode", "0000")
+                .put("responseTitle", "정상")
+                .put("responseSystem", "ORD");
+        ArrayNode rows = responseNode.putObject("data").putArray("rows");
+        for (int r = 0; r < 20; r++) {
+            rows.addObject()
+                    .put("custId", "CUST" + r)
+                    .put("orderId", "ORD" + (1000 + r))
+                    .put("amount", 50000 + r)
+                    .put("status", "ACTIVE")
+                    .put("createdAt", "2026-10-19T03:48:00")
+                    .put("active", true);
+        }
+
+        requestBytes = mapper.writeValueAsBytes(json.treeToValue(request, RequestStdVO.class));
+        response = json.treeToValue(responseNode, ResponseStdVO.class);
+        responseBytes = mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public RequestStdVO parseRequest() throws IOException {
+        return mapper.readValue(requestBytes, RequestStdVO.class);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ResponseStdVO parseResponse() throws IOException {
+        return mapper.readValue(responseBytes, ResponseStdVO.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.kt.kol.gateway.itg.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.buffer.Unpooled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * RSocket 진입점과 HTTP keep-alive 진입점의 요청당 오버헤드 비교 부하 발생기
+ *
+ * <p>
+ * 같은 조회 요청을 캐시 적중 상태로 반복 호출하여 업스트림 비용을 제외한 진입점 비용만 측정한다.
+ * HTTP 는 동시성만큼 연결을 쓰고 RSocket 은 연결 하나에 스트림을 다중화한다. 첫 회차는 warm-up 으로 출력만 하고
+ * 두 번째 회차를 비교에 사용한다.
+ *
+ * <pre>
+ * args: http|rsocket requests concurrency [host] [httpPort] [rsocketPort]
+ * 게이트웨이는 --spring.rsocket.server.port={rsocketPort} --gateway.cache.enabled=true 로 기동
+ * </pre>
+ */
+public final class RSocketLoadDriver {
+
+    private static final String REQUEST = "{\"svcRequestInfoDTO\":{\"appName\":\"NBSS_ORD\",\"svcName\":\"CustService\","
+            + "\"fnName\":\"getCustomer\",\"oderId\":\"BENCH\"},\"data\":{\"custId\":\"C001\"}}";
+
+    private RSocketLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: RSocketLoadDriver <http|rsocket> <requests> <concurrency> "
+                    + "[host] [httpPort] [rsocketPort]");
+            System.exit(1);
+        }
+        String mode = args[0];
+        int requests = Integer.parseInt(args[1]);
+        int concurrency = Integer.parseInt(args[2]);
+        String host = args.length > 3 ? args[3] : "localhost";
+        int httpPort = args.length > 4 ? Integer.parseInt(args[4]) : 8080;
+        int rsocketPort = args.length > 5 ? Integer.parseInt(args[5]) : 7000;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode request = objectMapper.readTree(REQUEST);
+        byte[] requestBytes = REQUEST.getBytes(StandardCharsets.UTF_8);
+
+        RSocketRequester requester = null;
+        Supplier<Mono<?>> call;
+        if ("rsocket".equals(mode)) {
+            RSocketStrategies strategies = RSocketStrategies.builder()
+                    .encoders(encoders -> encoders.add(new Jackson2JsonEncoder(objectMapper)))
+                    .decoders(decoders -> decoders.add(new Jackson2JsonDecoder(objectMapper)))
+                    .build();
+            RSocketRequester rsocket = RSocketRequester.builder()
+                    .rsocketStrategies(strategies)
+                    .dataMimeType(MimeTypeUtils.APPLICATION_JSON)
+                    .tcp(host, rsocketPort);
+            requester = rsocket;
+            call = () -> rsocket.route("soap.request").data(request).retrieveMono(byte[].class);
+        } else {
+            HttpClient http = HttpClient.create(ConnectionProvider.builder("load").maxConnections(concurrency).build())
+                    .baseUrl("http://" + host + ":" + httpPort)
+                    .headers(headers -> headers.set("Content-Type", "application/json"));
+            call = () -> http.post()
+                    .uri("/SoapDynamicGateway")
+                    .send(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(requestBytes)))
+                    .responseSingle((response, body) -> body.asByteArray());
+        }
+
+        call.get().block(); // 캐시 적재
+        for (int round = 0; round < 2; round++) {
+            long[] latencies = new long[requests];
+            AtomicInteger index = new AtomicInteger();
+            long begin = System.nanoTime();
+            Flux.range(0, requests)
+                    .flatMap(i -> {
+                        long start = System.nanoTime();
+                        return call.get().doOnNext(r -> latencies[index.getAndIncrement()] = System.nanoTime() - start);
+                    }, concurrency)
+                    .blockLast();
+            double seconds = (System.nanoTime() - begin) / 1e9;
+            Arrays.sort(latencies);
+            System.out.printf("%s%s: %d req, concurrency %d -> %.0f req/s, p50 %.2fms, p99 %.2fms%n", mode,
+                    round == 0 ? " (warmup)" : "", requests, concurrency, requests / seconds,
+                    latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6);
+        }
+        if (requester != null) {
+            requester.dispose();
+        }
+    }
+}
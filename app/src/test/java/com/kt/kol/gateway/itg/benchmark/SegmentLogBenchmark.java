@@ -0,0 +1,94 @@
+package com.kt.kol.gateway.itg.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kt.kol.gateway.itg.storage.MappedSegmentLog;
+
+/**
+ * fire-and-forget WAL ({@link MappedSegmentLog}) 기록/읽기 처리량
+ *
+ * <p>
+ * append 는 소비자처럼 65536 건마다 checkpoint 하여 소비된 세그먼트를 지우므로 디스크 사용량이 늘지 않는다.
+ * read 는 미리 채운 로그를 전달 스레드와 같은 배치 크기(256)로 처음부터 반복해서 읽는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SegmentLogBenchmark {
+
+    private static final int SEGMENT_BYTES = 64 << 20;
+    private static final int READ_BATCH = 256;
+    private static final int PREFILLED_RECORDS = 80 * READ_BATCH;
+
+    @Param({ "1536" })
+    public int payloadBytes;
+
+    private Path directory;
+    private MappedSegmentLog log;
+    private byte[] payload;
+    private long readCursor;
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("segment-log-bench");
+        log = MappedSegmentLog.open(directory, SEGMENT_BYTES);
+        payload = new byte[payloadBytes];
+        Arrays.fill(payload, (byte) 'x');
+        for (int i = 0; i < PREFILLED_RECORDS; i++) {
+            log.append(payload);
+        }
+        readCursor = 1;
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        long sequence = log.append(payload);
+        if ((sequence & 0xFFFF) == 0) {
+            log.checkpoint(sequence);
+        }
+        return sequence;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READ_BATCH)
+    public int readBatch() {
+        List<MappedSegmentLog.Entry> entries = log.read(readCursor, READ_BATCH);
+        readCursor = entries.size() == READ_BATCH ? readCursor + READ_BATCH : 1;
+        return entries.size();
+    }
+}
@@ -0,0 +1,127 @@
+package com.kt.kol.gateway.itg.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.model.SvcRequestInfoDTO;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.CacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 캐시 키 구성과, 무효화 이전에 시작된 조회 응답이 캐시에 다시 들어가지 않는지(세대 비교) 검증
+ */
+class LookupResponseCacheTest {
+
+    private static final String ENDPOINT = "http://ord/soap";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PeerInvalidationChannel channel = mock(PeerInvalidationChannel.class);
+    private final HttpHeaders headers = new HttpHeaders();
+    private CacheProperties properties;
+    private LookupResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        properties.setEnabled(true);
+        cache = new LookupResponseCache(properties, channel, meterRegistry);
+        headers.set(HeaderConstants.CMPN_CD, "A1");
+    }
+
+    @Test
+    @DisplayName("정상 조회 응답은 캐시되고 엔드포인트/호출자 헤더가 다르면 별도 키")
+    void cachesLookupPerEndpointAndCaller() {
+        RequestStdVO request = lookupRequest("O1");
+        LookupResponseCache.Lookup first = cache.lookup(request, headers, ENDPOINT);
+        assertThat(first.cached()).isNull();
+        cache.onResponse(first, request, response("v1"));
+
+        assertThat(cache.lookup(request, headers, ENDPOINT).cached()).isNotNull();
+        assertThat(cache.lookup(request, headers, "http://other/soap").cached()).isNull();
+        HttpHeaders otherCaller = new HttpHeaders();
+        otherCaller.set(HeaderConstants.CMPN_CD, "B2");
+        assertThat(cache.lookup(request, otherCaller, ENDPOINT).cached()).isNull();
+        assertThat(cache.lookup(request, headers, null)).as("엔드포인트 미결정").isEqualTo(LookupResponseCache.Lookup.NONE);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 그 응답은 캐시하지 않고, 무효화 이후 시작된 조회는 캐시")
+    void discardsResponseOfLookupStartedBeforeInvalidation() {
+        RequestStdVO request = lookupRequest("O1");
+        LookupResponseCache.Lookup inFlight = cache.lookup(request, headers, ENDPOINT);
+
+        cache.invalidateOrder("O1");
+        verify(channel).publish("orderId:O1");
+        cache.onResponse(inFlight, request, response("stale"));
+
+        assertThat(cache.lookup(request, headers, ENDPOINT).cached()).isNull();
+        assertThat(meterRegistry.get("kol.cache.lookup.discarded").counter().count()).isEqualTo(1);
+
+        LookupResponseCache.Lookup fresh = cache.lookup(request, headers, ENDPOINT);
+        cache.onResponse(fresh, request, response("fresh"));
+        assertThat(cache.lookup(request, headers, ENDPOINT).cached().data().get("v").asText()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("무효화 기록이 정리된 뒤 끝난 오래된 조회도 sweptGeneration 으로 걸러냄")
+    void discardsStaleResponseAfterEvictionRecordIsSwept() throws InterruptedException {
+        properties.setSweepInterval(Duration.ofMillis(1));
+        RequestStdVO request = lookupRequest("O1");
+        LookupResponseCache.Lookup inFlight = cache.lookup(request, headers, ENDPOINT);
+        LookupResponseCache.Lookup otherEntity = cache.lookup(lookupRequest("O2"), headers, ENDPOINT);
+
+        cache.evictEntity("orderId:O1"); // peer 로부터 받은 무효화
+        Thread.sleep(10);
+        ReflectionTestUtils.invokeMethod(cache, "sweepExpired");
+
+        cache.onResponse(inFlight, request, response("stale"));
+        assertThat(cache.lookup(request, headers, ENDPOINT).cached()).isNull();
+        // 기록이 사라졌으므로 다른 엔티티의 오래된 조회도 보수적으로 버림
+        cache.onResponse(otherEntity, lookupRequest("O2"), response("other"));
+        assertThat(cache.lookup(lookupRequest("O2"), headers, ENDPOINT).cached()).isNull();
+        assertThat(meterRegistry.get("kol.cache.lookup.discarded").counter().count()).isEqualTo(2);
+
+        LookupResponseCache.Lookup fresh = cache.lookup(request, headers, ENDPOINT);
+        cache.onResponse(fresh, request, response("fresh"));
+        assertThat(cache.lookup(request, headers, ENDPOINT).cached()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("변경 오퍼레이션 응답은 해당 엔티티의 모든 캐시를 제거하고 peer 로 전파")
+    void mutationInvalidatesEntity() {
+        RequestStdVO lookup = lookupRequest("O1");
+        cache.onResponse(cache.lookup(lookup, headers, ENDPOINT), lookup, response("v1"));
+        cache.onResponse(cache.lookup(lookup, headers, "http://other/soap"), lookup, response("v1"));
+
+        RequestStdVO mutation = new RequestStdVO(new SvcRequestInfoDTO("NBSS_ORD", "OrderService", "updateOrder", "O1"),
+                JsonNodeFactory.instance.objectNode());
+        cache.onResponse(cache.lookup(mutation, headers, ENDPOINT), mutation, response("done"));
+
+        assertThat(cache.lookup(lookup, headers, ENDPOINT).cached()).isNull();
+        assertThat(cache.lookup(lookup, headers, "http://other/soap").cached()).isNull();
+        verify(channel).publish("orderId:O1");
+    }
+
+    private static RequestStdVO lookupRequest(String oderId) {
+        return new RequestStdVO(new SvcRequestInfoDTO("NBSS_ORD", "OrderService", "getOrder", oderId),
+                JsonNodeFactory.instance.objectNode().put("orderId", oderId));
+    }
+
+    private static ResponseStdVO response(String value) {
+        return ResponseStdVO.success(JsonNodeFactory.instance.objectNode().put("v", value));
+    }
+}
@@ -0,0 +1,78 @@
+package com.kt.kol.gateway.itg.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kt.kol.gateway.itg.properties.CacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 설정된 peer 의 무효화만 반영하고 그 외 송신자 패킷은 버리는지 검증 (loopback)
+ */
+class PeerInvalidationChannelTest {
+
+    private final List<PeerInvalidationChannel> channels = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (PeerInvalidationChannel channel : channels) {
+            channel.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("peer 가 보낸 키는 전달하고 설정되지 않은 송신자 패킷은 폐기")
+    void acceptsOnlyConfiguredPeers() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        int portStranger = freePort();
+
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        PeerInvalidationChannel a = start(portA, List.of("127.0.0.1:" + portB), new SimpleMeterRegistry());
+        PeerInvalidationChannel b = start(portB, List.of("127.0.0.1:" + portA), registryB);
+        PeerInvalidationChannel stranger = start(portStranger, List.of("127.0.0.1:" + portB),
+                new SimpleMeterRegistry());
+        Queue<String> received = new ConcurrentLinkedQueue<>();
+        b.onInvalidation(received::add);
+
+        stranger.publish("orderId:FORGED");
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> registryB.get("kol.cache.invalidation.dropped").counter().count() == 1);
+
+        a.publish("orderId:O1");
+        await().atMost(Duration.ofSeconds(5)).until(() -> !received.isEmpty());
+        assertThat(received).containsExactly("orderId:O1");
+        assertThat(registryB.get("kol.cache.invalidation.received").counter().count()).isEqualTo(1);
+    }
+
+    private PeerInvalidationChannel start(int port, List<String> peers, SimpleMeterRegistry registry)
+            throws IOException {
+        CacheProperties properties = new CacheProperties();
+        properties.setEnabled(true);
+        properties.getPeer().setPort(port);
+        properties.getPeer().setPeers(peers);
+        PeerInvalidationChannel channel = new PeerInvalidationChannel(properties, registry);
+        channel.start();
+        channels.add(channel);
+        return channel;
+    }
+
+    private static int freePort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
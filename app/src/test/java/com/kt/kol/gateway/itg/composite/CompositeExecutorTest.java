@@ -0,0 +1,158 @@
+package com.kt.kol.gateway.itg.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.model.CompositeRequest;
+import com.kt.kol.gateway.itg.model.CompositeResponse;
+import com.kt.kol.gateway.itg.model.CompositeResponse.NodeResult;
+import com.kt.kol.gateway.itg.model.RequestStdVO;
+import com.kt.kol.gateway.itg.model.ResponseStdVO;
+import com.kt.kol.gateway.itg.properties.CompositeProperties;
+import com.kt.kol.gateway.itg.service.RequestValidationService;
+import com.kt.kol.gateway.itg.service.SoapProcessingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 위상 순서 실행과 bindings 적용, 순환 검출, 노드 실패 상태(424/422/504) 매핑 검증
+ */
+class CompositeExecutorTest {
+
+    private static final Map<String, String> CUSTOMER_FROM_ORDER = Map.of("/data/customerId",
+            "order:/data/orderResponse/customerId");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SoapProcessingService processingService = mock(SoapProcessingService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RequestStdVO> calls = new CopyOnWriteArrayList<>();
+    private final MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/SoapCompositeGateway"));
+    private CompositeExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new CompositeExecutor(objectMapper, mock(RequestValidationService.class), processingService,
+                new CompositeProperties(), meterRegistry);
+        when(processingService.processSoapRequest(any(ServerWebExchange.class), any(RequestStdVO.class)))
+                .thenAnswer(invocation -> {
+                    RequestStdVO request = invocation.getArgument(1);
+                    calls.add(request);
+                    return switch (request.svcRequestInfoDTO().fnName()) {
+                        case "getOrder" -> Mono.just(ResponseStdVO.success(objectMapper.createObjectNode()
+                                .set("orderResponse", objectMapper.createObjectNode().put("customerId", "C1"))));
+                        case "getCustomer" -> Mono.just(ResponseStdVO.success(request.data()));
+                        case "rejectOrder" -> Mono.just(ResponseStdVO.businessError("ORD001", "주문 없음", "", "", "ORD"));
+                        default -> Mono.never();
+                    };
+                });
+    }
+
+    @Test
+    @DisplayName("요청 순서와 무관하게 선행 노드 다음에 실행하고 결과 값을 bindings 로 주입")
+    void runsInDependencyOrderAndAppliesBindings() {
+        CompositeResponse response = execute(
+                node("customer", "getCustomer", null, CUSTOMER_FROM_ORDER),
+                node("order", "getOrder", null, null));
+
+        assertThat(calls).extracting(request -> request.svcRequestInfoDTO().fnName())
+                .containsExactly("getOrder", "getCustomer");
+        assertThat(calls.get(1).data().get("customerId").asText()).isEqualTo("C1");
+        assertThat(response.partial()).isFalse();
+        assertThat(response.results()).containsOnlyKeys("customer", "order");
+        assertThat(response.results().keySet()).containsExactly("customer", "order"); // 요청 노드 순서 유지
+    }
+
+    @Test
+    @DisplayName("순환 의존과 정의되지 않은 선행 노드는 실행 전에 거절")
+    void rejectsCyclesAndUnknownDependencies() {
+        assertThatThrownBy(() -> execute(
+                node("a", "getOrder", List.of("c"), null),
+                node("b", "getOrder", List.of("a"), null),
+                node("c", "getOrder", List.of("b"), null),
+                node("d", "getOrder", null, null)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageMatching("Cycle detected among composite nodes: \\[[abc], [abc], [abc]\\]");
+        assertThatThrownBy(() -> execute(node("a", "getOrder", List.of("missing"), null)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Unknown dependency missing");
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업무 오류(E) 응답 노드는 실패로 기록하고 그 노드에 의존하는 노드는 호출 없이 424")
+    void businessErrorFailsDependents() {
+        CompositeResponse response = execute(
+                node("order", "rejectOrder", null, null),
+                node("customer", "getCustomer", null, CUSTOMER_FROM_ORDER),
+                node("other", "getOrder", null, null));
+
+        NodeResult order = response.results().get("order");
+        assertThat(order.isSuccess()).isFalse();
+        assertThat(order.error()).isEqualTo("BusinessError");
+        assertThat(order.response().responseCode()).isEqualTo("ORD001");
+        assertThat(response.results().get("customer").status()).isEqualTo(424);
+        assertThat(response.results().get("other").isSuccess()).isTrue();
+        assertThat(response.partial()).isTrue();
+        assertThat(calls).extracting(request -> request.svcRequestInfoDTO().fnName())
+                .containsExactlyInAnyOrder("rejectOrder", "getOrder");
+        assertThat(meterRegistry.get("kol.composite.nodes").tag("result", "error").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kol.composite.nodes").tag("result", "skipped").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원본 값이 없는 binding 은 호출 없이 422, 타임아웃 노드는 504")
+    void mapsUnresolvedBindingAndTimeout() {
+        CompositeResponse response = execute(
+                node("order", "getOrder", null, null),
+                node("customer", "getCustomer", null, Map.of("/data/customerId", "order:/data/missing")),
+                timed(node("slow", "slowOrder", null, null), 50));
+
+        assertThat(response.results().get("order").isSuccess()).isTrue();
+        assertThat(response.results().get("customer").status()).isEqualTo(422);
+        assertThat(response.results().get("slow").status()).isEqualTo(504);
+        assertThat(calls).extracting(request -> request.svcRequestInfoDTO().fnName())
+                .containsExactlyInAnyOrder("getOrder", "slowOrder");
+    }
+
+    private CompositeResponse execute(CompositeRequest.Node... nodes) {
+        return executor.execute(exchange, new CompositeRequest(List.of(nodes))).block();
+    }
+
+    private CompositeRequest.Node node(String id, String fnName, List<String> dependsOn,
+            Map<String, String> bindings) {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.putObject("svcRequestInfoDTO")
+                .put("appName", "NBSS_ORD")
+                .put("svcName", "OrderService")
+                .put("fnName", fnName)
+                .put("oderId", "O1");
+        request.putObject("data");
+        return new CompositeRequest.Node(id, request, dependsOn, bindings, null);
+    }
+
+    private static CompositeRequest.Node timed(CompositeRequest.Node node, long timeoutMs) {
+        JsonNode request = node.request();
+        return new CompositeRequest.Node(node.id(), request, node.dependsOn(), node.bindings(), timeoutMs);
+    }
+}
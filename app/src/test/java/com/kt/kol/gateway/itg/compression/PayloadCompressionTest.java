@@ -0,0 +1,115 @@
+package com.kt.kol.gateway.itg.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.properties.CompressionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 응답 직렬화 출력이 Deflater 로 바로 들어가 올바른 gzip/zlib 스트림이 되는지 검증
+ */
+class PayloadCompressionTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PayloadCompression compression;
+
+    @BeforeEach
+    void setUp() {
+        CompressionProperties properties = new CompressionProperties();
+        properties.setEnabled(true);
+        properties.setMinResponseSize(DataSize.ofKilobytes(2));
+        properties.setChunkSize(DataSize.ofBytes(512));
+        compression = new PayloadCompression(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("임계치 이상 응답은 협상된 코덱으로 압축되고 풀면 직렬화 결과와 같음")
+    void compressesLargeResponse() throws IOException {
+        Map<String, Object> body = body(500);
+        byte[] expected = mapper.writeValueAsBytes(body);
+
+        for (String encoding : new String[] { "gzip", "deflate" }) {
+            MockServerWebExchange exchange = exchange(encoding);
+            PayloadCompression.Encoded encoded = compression.encode(exchange, mapper, body);
+
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(encoding);
+            assertThat(encoded.bytes()).isEqualTo(expected.length);
+            assertThat(encoded.buffers()).hasSizeGreaterThan(1); // 512 바이트 청크
+
+            byte[] compressed = drain(encoded);
+            assertThat(headers.getContentLength()).isEqualTo(compressed.length);
+            try (InputStream in = "gzip".equals(encoding)
+                    ? new GZIPInputStream(new ByteArrayInputStream(compressed))
+                    : new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+                assertThat(in.readAllBytes()).isEqualTo(expected);
+            }
+        }
+        assertThat(meterRegistry.get("kol.compression.duration").tag("codec", "gzip").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임계치 미만 응답과 Accept-Encoding 없는 응답은 압축하지 않음")
+    void leavesSmallOrUnnegotiatedResponseUncompressed() throws IOException {
+        Map<String, Object> small = body(3);
+        MockServerWebExchange exchange = exchange("gzip");
+        PayloadCompression.Encoded encoded = compression.encode(exchange, mapper, small);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(drain(encoded)).isEqualTo(mapper.writeValueAsBytes(small));
+
+        Map<String, Object> large = body(500);
+        exchange = exchange(null);
+        encoded = compression.encode(exchange, mapper, large);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(drain(encoded)).isEqualTo(mapper.writeValueAsBytes(large));
+    }
+
+    private static Map<String, Object> body(int rows) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (int i = 0; i < rows; i++) {
+            body.put("field" + i, "value-" + (i * 7919));
+        }
+        return body;
+    }
+
+    private static MockServerWebExchange exchange(String acceptEncoding) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/SoapDynamicGateway");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static byte[] drain(PayloadCompression.Encoded encoded) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (DataBuffer buffer : encoded.buffers()) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            output.writeBytes(bytes);
+            DataBufferUtils.release(buffer);
+        }
+        return output.toByteArray();
+    }
+}
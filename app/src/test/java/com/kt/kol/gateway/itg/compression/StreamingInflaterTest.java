@@ -0,0 +1,130 @@
+package com.kt.kol.gateway.itg.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+
+/**
+ * 청크 경계와 무관한 해제, trailer 검증, 해제 크기 상한 검증
+ */
+class StreamingInflaterTest {
+
+    private static final byte[] BODY = "{\"svcRequestInfoDTO\":{\"appName\":\"NBSS_ORD\"},\"data\":{\"v\":\"0123456789\"}}"
+            .repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("gzip/zlib 본문을 1바이트 청크로 나눠 넣어도 원본 그대로 복원")
+    void roundTripsAcrossChunkBoundaries() throws IOException {
+        for (boolean gzip : new boolean[] { true, false }) {
+            byte[] compressed = gzip ? gzip(BODY) : zlib(BODY);
+            for (int chunk : new int[] { 1, 7, compressed.length }) {
+                StreamingInflater inflater = new StreamingInflater(gzip, Long.MAX_VALUE);
+                try {
+                    assertThat(inflateInChunks(inflater, compressed, chunk)).isEqualTo(BODY);
+                    assertThat(inflater.isFinished()).as("gzip=%s chunk=%d", gzip, chunk).isTrue();
+                    assertThat(inflater.inputBytes()).isEqualTo(compressed.length);
+                    assertThat(inflater.outputBytes()).isEqualTo(BODY.length);
+                } finally {
+                    inflater.end();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("gzip trailer 의 CRC 또는 길이가 맞지 않으면 거절")
+    void rejectsCorruptedTrailer() throws IOException {
+        byte[] badCrc = gzip(BODY);
+        badCrc[badCrc.length - 8] ^= 0xFF;
+        byte[] badLength = gzip(BODY);
+        badLength[badLength.length - 1] ^= 0x01;
+
+        for (byte[] compressed : Arrays.asList(badCrc, badLength)) {
+            StreamingInflater inflater = new StreamingInflater(true, Long.MAX_VALUE);
+            try {
+                assertThatThrownBy(() -> inflateInChunks(inflater, compressed, 64))
+                        .isInstanceOf(InvalidRequestException.class)
+                        .hasMessageContaining("CRC or length mismatch");
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("trailer 가 잘린 본문은 완료되지 않은 상태로 남음")
+    void leavesTruncatedBodyUnfinished() throws IOException {
+        byte[] compressed = gzip(BODY);
+        StreamingInflater inflater = new StreamingInflater(true, Long.MAX_VALUE);
+        try {
+            inflateInChunks(inflater, Arrays.copyOf(compressed, compressed.length - 4), 64);
+            assertThat(inflater.isFinished()).isFalse();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Test
+    @DisplayName("해제 결과가 상한을 넘으면 전체를 풀기 전에 중단")
+    void stopsWhenInflatedSizeExceedsLimit() throws IOException {
+        byte[] bomb = gzip(new byte[1 << 20]); // 1MB 0 바이트 → 약 1KB
+        StreamingInflater inflater = new StreamingInflater(true, 64 * 1024);
+        try {
+            assertThatThrownBy(() -> inflater.feed(bomb))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("exceeds 65536 bytes");
+            assertThat(inflater.outputBytes()).isLessThan(1 << 20);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 헤더가 아니면 거절")
+    void rejectsInvalidGzipHeader() {
+        StreamingInflater inflater = new StreamingInflater(true, Long.MAX_VALUE);
+        try {
+            assertThatThrownBy(() -> inflater.feed(BODY))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("Invalid gzip request body header");
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] inflateInChunks(StreamingInflater inflater, byte[] compressed, int chunk) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int offset = 0; offset < compressed.length; offset += chunk) {
+            output.writeBytes(inflater.feed(
+                    Arrays.copyOfRange(compressed, offset, Math.min(compressed.length, offset + chunk))));
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream stream = new GZIPOutputStream(output)) {
+            stream.write(input);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] zlib(byte[] input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(output)) {
+            stream.write(input);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,229 @@
+package com.kt.kol.gateway.itg.delivery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.kt.kol.gateway.itg.cache.LookupResponseCache;
+import com.kt.kol.gateway.itg.properties.WalProperties;
+import com.kt.kol.gateway.itg.storage.MappedSegmentLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 재시도 기한, dead-letter, 키별 진행과 checkpoint 검증 (업스트림은 경로별 응답 상태를 돌려주는 stub)
+ */
+class FireAndForgetDeliveryTest {
+
+    private static final String UPSTREAM = "http://upstream";
+
+    @TempDir
+    Path directory;
+
+    private final Map<String, HttpStatus> statuses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> failuresLeft = new ConcurrentHashMap<>();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LookupResponseCache lookupResponseCache = mock(LookupResponseCache.class);
+
+    private WalProperties properties;
+    private FireAndForgetDelivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofKilobytes(64));
+        properties.setInitialBackoff(Duration.ofMillis(5));
+        properties.setMaxBackoff(Duration.ofMillis(20));
+        properties.setIdlePollInterval(Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (delivery != null) {
+            delivery.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("5xx 는 시도 횟수 제한 없이 성공할 때까지 재시도")
+    void retriesServerErrorsUntilDelivered() throws IOException {
+        failuresLeft.put("/flaky", new AtomicInteger(20));
+        start();
+
+        delivery.append("order-1", UPSTREAM + "/flaky", null, "<soap/>");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> counter("delivered") == 1);
+        assertThat(counter("retried")).isEqualTo(20);
+        awaitBacklog(0);
+        assertThat(deadLetterReasons()).isEmpty();
+        verify(lookupResponseCache).invalidateOrder("order-1");
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 거부 응답은 dead-letter 로 보관하고 다음 레코드로 진행")
+    void parksRejectedRecordInDeadLetter() throws IOException {
+        statuses.put("/bad", HttpStatus.BAD_REQUEST);
+        start();
+
+        delivery.append("order-1", UPSTREAM + "/bad", null, "<soap/>");
+        delivery.append("order-1", UPSTREAM + "/ok", null, "<soap/>");
+
+        awaitBacklog(0);
+        assertThat(counter("rejected")).isEqualTo(1);
+        assertThat(counter("delivered")).isEqualTo(1);
+        delivery.stop();
+        assertThat(deadLetterReasons()).containsExactly("rejected");
+    }
+
+    @Test
+    @DisplayName("retryTtl 이 지나면 dead-letter 로 보관")
+    void parksExpiredRecordInDeadLetter() throws IOException {
+        statuses.put("/down", HttpStatus.SERVICE_UNAVAILABLE);
+        properties.setRetryTtl(Duration.ofMillis(500));
+        start();
+        delivery.append("order-0", UPSTREAM + "/ok", null, "<soap/>"); // 첫 호출 초기화 시간이 TTL 에 포함되지 않도록
+        await().atMost(Duration.ofSeconds(10)).until(() -> counter("delivered") == 1);
+
+        delivery.append("order-1", UPSTREAM + "/down", null, "<soap/>");
+
+        awaitBacklog(0);
+        assertThat(counter("expired")).isEqualTo(1);
+        assertThat(counter("retried")).isPositive();
+        delivery.stop();
+        assertThat(deadLetterReasons()).containsExactly("expired");
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 레코드는 dead-letter 로 보내고 이후 레코드를 계속 전달")
+    void skipsUndecodableRecord() throws IOException {
+        try (MappedSegmentLog wal = MappedSegmentLog.open(directory, (int) DataSize.ofKilobytes(64).toBytes())) {
+            wal.append(new byte[] { 99, 1, 2, 3 });
+        }
+        start();
+
+        delivery.append("order-1", UPSTREAM + "/ok", null, "<soap/>");
+
+        awaitBacklog(0);
+        assertThat(counter("undecodable")).isEqualTo(1);
+        assertThat(counter("delivered")).isEqualTo(1);
+        delivery.stop();
+        assertThat(deadLetterReasons()).containsExactly("undecodable");
+    }
+
+    @Test
+    @DisplayName("재시도 중인 키가 다른 키를 막지 않고 checkpoint 는 미전달 레코드 앞에서 멈춤")
+    void retryingKeyDoesNotBlockOtherKeys() throws IOException {
+        statuses.put("/down", HttpStatus.SERVICE_UNAVAILABLE);
+        start();
+
+        delivery.append("order-a", UPSTREAM + "/down", null, "<soap/>");
+        delivery.append("order-a", UPSTREAM + "/a2", null, "<soap/>");
+        for (int i = 0; i < 3; i++) {
+            delivery.append("order-b", UPSTREAM + "/b" + i, null, "<soap/>");
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> counter("delivered") == 3);
+        assertThat(received).doesNotContain("/a2");
+        assertThat(backlog()).isEqualTo(5);
+
+        statuses.remove("/down");
+        awaitBacklog(0);
+        assertThat(received.indexOf("/a2")).isGreaterThan(received.lastIndexOf("/down"));
+        assertThat(received).containsSubsequence("/b0", "/b1", "/b2");
+    }
+
+    @Test
+    @DisplayName("재시작하면 전달된 레코드는 건너뛰고 미전달 레코드부터 다시 전달")
+    void redeliversUndeliveredRecordsAfterRestart() throws IOException {
+        statuses.put("/down", HttpStatus.SERVICE_UNAVAILABLE);
+        start();
+        delivery.append("order-1", UPSTREAM + "/ok", null, "<soap/>");
+        delivery.append("order-2", UPSTREAM + "/down", null, "<soap/>");
+        await().atMost(Duration.ofSeconds(10)).until(() -> counter("delivered") == 1 && counter("retried") > 0);
+        delivery.stop();
+
+        statuses.remove("/down");
+        received.clear();
+        start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> received.contains("/down"));
+        awaitBacklog(0);
+        assertThat(received).doesNotContain("/ok");
+        assertThat(delivery.append("order-3", UPSTREAM + "/ok", null, "<soap/>")).isEqualTo(3);
+    }
+
+    private void start() throws IOException {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    received.add(path);
+                    AtomicInteger left = failuresLeft.get(path);
+                    HttpStatus status = left != null && left.getAndDecrement() > 0
+                            ? HttpStatus.INTERNAL_SERVER_ERROR
+                            : statuses.getOrDefault(path, HttpStatus.OK);
+                    return Mono.just(ClientResponse.create(status).build());
+                })
+                .build();
+        meterRegistry.clear();
+        delivery = new FireAndForgetDelivery(properties, webClient, lookupResponseCache, meterRegistry);
+        delivery.start();
+    }
+
+    private void awaitBacklog(long expected) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> backlog() == expected);
+    }
+
+    private long backlog() {
+        return (long) meterRegistry.get("kol.wal.backlog").gauge().value();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("kol.wal.delivery").tag("result", result).counter().count();
+    }
+
+    private List<String> deadLetterReasons() throws IOException {
+        List<String> reasons = new ArrayList<>();
+        Path deadLetters = directory.resolve("dead-letter");
+        if (!deadLetters.toFile().exists()) {
+            return reasons;
+        }
+        MappedSegmentLog.scan(deadLetters, entry -> {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.payload()))) {
+                in.readByte();
+                in.readLong();
+                reasons.add(in.readUTF());
+            } catch (IOException e) {
+                reasons.add(new String(entry.payload(), StandardCharsets.UTF_8));
+            }
+        });
+        return reasons;
+    }
+}
@@ -0,0 +1,106 @@
+package com.kt.kol.gateway.itg.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.kol.gateway.itg.exception.InvalidRequestException;
+import com.kt.kol.gateway.itg.exception.RateLimitedException;
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.exception.SoapServiceException;
+import com.kt.kol.gateway.itg.metrics.StageTimings;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * 예외별 HTTP 상태 매핑과 실패 로그 수준(분류되지 않은 5xx 만 stack trace) 검증
+ */
+class ErrorResponseWriterTest {
+
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(new ObjectMapper());
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ErrorResponseWriter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("4xx/429/503 은 로그 없이 상태 코드만 응답")
+    void doesNotLogClassifiedClientAndOverloadErrors() {
+        assertThat(write(new InvalidRequestException("Missing service name"))).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(write(new RateLimitedException("Rate limit exceeded"))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(write(new ServiceOverloadedException("Gateway overloaded")))
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(write(new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE)))
+                .isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업스트림 실패(502)는 stack trace 없이 WARN 한 줄")
+    void logsUpstreamFailureWithoutStackTrace() {
+        assertThat(write(new SoapServiceException("SOAP call failed", "Upstream returned 500")))
+                .isEqualTo(HttpStatus.BAD_GATEWAY);
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getThrowableProxy()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("분류되지 않은 오류(500)는 stack trace 와 함께 ERROR 한 번")
+    void logsUnexpectedErrorOnceWithStackTrace() {
+        assertThat(write(new IllegalStateException("boom"))).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(event.getThrowableProxy().getMessage()).isEqualTo("boom");
+        });
+    }
+
+    @Test
+    @DisplayName("노드 타임아웃(504)처럼 결과로 변환되는 실패도 같은 규칙으로 기록")
+    void logsGatewayTimeoutAsUpstreamFailure() {
+        ErrorResponseWriter.logFailure(StageTimings.from(exchange()), HttpStatus.GATEWAY_TIMEOUT,
+                new TimeoutException("Did not observe any item"));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getThrowableProxy()).isNull();
+        });
+    }
+
+    private HttpStatus write(Throwable error) {
+        MockServerWebExchange exchange = exchange();
+        writer.write(exchange, error).block();
+        return HttpStatus.resolve(exchange.getResponse().getStatusCode().value());
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/SoapDynamicGateway"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.kt.kol.gateway.itg.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.util.context.Context;
+
+/**
+ * 업스트림 호출 단위 상관관계 id - 전파 헤더(traceparent, X-Correlation-Id)와 저널 id 일치 검증
+ */
+class UpstreamCallTest {
+
+    @Test
+    @DisplayName("추적 Context 가 없는 요청도 호출마다 trace 를 발급하고 X-Correlation-Id 는 그 trace id")
+    void mintsPerCallTraceWhenRequestIsUntraced() {
+        StageTimings.UpstreamCall call = StageTimings.NOOP.upstreamCall();
+
+        assertThat(call.correlationId()).hasSize(32).isEqualTo(call.trace().traceId());
+        assertThat(call.traceparent()).startsWith("00-" + call.correlationId() + "-").endsWith("-00");
+        assertThat(StageTimings.NOOP.upstreamCall().correlationId()).isNotEqualTo(call.correlationId());
+    }
+
+    @Test
+    @DisplayName("측정이 꺼져 있어도 호출이 Context 에 바인딩되어 전파 필터가 같은 trace 를 사용")
+    void bindsCallEvenWhenTimingsAreDisabled() {
+        StageTimings.UpstreamCall call = StageTimings.NOOP.upstreamCall();
+
+        StageTimings.UpstreamCall bound = StageTimings.UpstreamCall.from(call.bindTo(Context.empty()));
+
+        assertThat(bound).isSameAs(call);
+        assertThat(bound.correlationId()).isEqualTo(call.correlationId());
+    }
+
+    @Test
+    @DisplayName("바인딩된 호출이 없으면 traceparent/상관관계 id 없음 (전파 필터가 새로 발급)")
+    void unboundCallHasNoTrace() {
+        StageTimings.UpstreamCall call = StageTimings.UpstreamCall.from(Context.empty());
+
+        assertThat(call.traceparent()).isNull();
+        assertThat(call.correlationId()).isNull();
+    }
+}
@@ -0,0 +1,134 @@
+package com.kt.kol.gateway.itg.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.EndpointId;
+import org.springframework.boot.actuate.endpoint.web.PathMappedEndpoints;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.kt.kol.gateway.itg.properties.ProfilingProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 퍼센트 인코딩/매트릭스 변수 경로로 접근 제어를 우회할 수 없는지 검증
+ */
+class ProfilingAccessFilterTest {
+
+    private static final int MANAGEMENT_PORT = 8081;
+    private static final String TOKEN = "secret-token";
+
+    private ProfilingAccessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setEnabled(true);
+        properties.setToken(TOKEN);
+
+        PathMappedEndpoints mapped = mock(PathMappedEndpoints.class);
+        when(mapped.getPath(EndpointId.of("profile"))).thenReturn("/actuator/profile");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("pathMappedEndpoints", mapped);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("management.server.port", String.valueOf(MANAGEMENT_PORT));
+        filter = new ProfilingAccessFilter(properties, beanFactory.getBeanProvider(PathMappedEndpoints.class),
+                environment);
+    }
+
+    @Test
+    @DisplayName("토큰 없는 프로파일 요청은 거부")
+    void rejectsRequestWithoutToken() {
+        assertDenied("/actuator/profile", HttpStatus.UNAUTHORIZED);
+        assertDenied("/actuator/profile/", HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("퍼센트 인코딩 경로로 우회할 수 없음")
+    void encodedPathCannotBypass() {
+        assertDenied("/actuator/%70rofile", HttpStatus.UNAUTHORIZED);
+        assertDenied("/actuator/profil%65", HttpStatus.UNAUTHORIZED);
+        assertDenied("/actuator/%70%72%6f%66%69%6c%65", HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("매트릭스 변수로 우회할 수 없음")
+    void matrixVariableCannotBypass() {
+        assertDenied("/actuator/profile;x=1", HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    @DisplayName("관리 포트가 아니면 404")
+    void notFoundOutsideManagementPort() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, URI.create("/actuator/profile"))
+                .localAddress(new InetSocketAddress(8080))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+        assertThat(invoke(exchange)).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("올바른 토큰이면 통과")
+    void passesWithValidToken() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, URI.create("/actuator/%70rofile"))
+                .localAddress(new InetSocketAddress(MANAGEMENT_PORT))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN));
+        assertThat(invoke(exchange)).isTrue();
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 경로는 검사하지 않음")
+    void ignoresOtherPaths() {
+        assertPassed("/actuator/health");
+        assertPassed("/actuator/profiles");
+        assertPassed("/actuator/%70rofiles");
+    }
+
+    private void assertDenied(String path, HttpStatus status) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, URI.create(path))
+                .localAddress(new InetSocketAddress(MANAGEMENT_PORT)));
+        assertThat(invoke(exchange)).as(path).isFalse();
+        assertThat(exchange.getResponse().getStatusCode()).as(path).isEqualTo(status);
+    }
+
+    private void assertPassed(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.GET, URI.create(path))
+                .localAddress(new InetSocketAddress(MANAGEMENT_PORT)));
+        assertThat(invoke(exchange)).as(path).isTrue();
+    }
+
+    /**
+     * @return 다음 필터로 넘어갔는지 여부
+     */
+    private boolean invoke(MockServerWebExchange exchange) {
+        AtomicBoolean passed = new AtomicBoolean();
+        WebFilterChain chain = e -> {
+            passed.set(true);
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block();
+        return passed.get();
+    }
+}
@@ -0,0 +1,114 @@
+package com.kt.kol.gateway.itg.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import com.kt.kol.common.constant.HeaderConstants;
+import com.kt.kol.common.constant.RouteConstants;
+import com.kt.kol.gateway.itg.properties.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * GCRA 버스트/보충, 설정 재바인딩 즉시 반영, 키 테이블 초과 시 공유 버킷 제한 검증
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final String ROUTE = RouteConstants.REST_SOAP_PO_ROUTE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitProperties properties;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setEnabled(true);
+        properties.getRoutes().put(ROUTE, limit(1, 5));
+        limiter = new TokenBucketRateLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("burstCapacity 만큼 연속 허용 후 거절하고 대기 시간은 보충 간격 이내")
+    void allowsBurstThenRejects() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(acquire("u1")).isZero();
+        }
+        long waitNanos = acquire("u1");
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(acquire("u2")).as("다른 키는 별도 버킷").isZero();
+        assertThat(meterRegistry.get("kol.ratelimit.rejected").tag("route", ROUTE).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절된 키도 replenishRate 간격이 지나면 다시 허용")
+    void refillsAtReplenishRate() {
+        properties.getRoutes().put(ROUTE, limit(20, 1)); // 50ms 마다 1건
+        assertThat(acquire("u1")).isZero();
+        assertThat(acquire("u1")).isPositive();
+
+        long start = System.nanoTime();
+        await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(5)).until(() -> acquire("u1") == 0);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    @DisplayName("설정이 바뀌면 기존 버킷에도 다음 요청부터 새 한도 적용")
+    void appliesReboundPropertiesImmediately() {
+        properties.getRoutes().put(ROUTE, limit(1, 1));
+        assertThat(acquire("u1")).isZero();
+        assertThat(acquire("u1")).isPositive();
+
+        properties.getRoutes().put(ROUTE, limit(1, 3)); // /actuator/refresh 재바인딩과 동일 - 버스트 2건 추가
+        assertThat(acquire("u1")).isZero();
+        assertThat(acquire("u1")).isZero();
+        assertThat(acquire("u1")).isPositive();
+
+        properties.getRoutes().remove(ROUTE);
+        assertThat(acquire("u1")).as("한도가 없는 라우트").isZero();
+
+        properties.getRoutes().put(ROUTE, limit(1, 1));
+        properties.setEnabled(false);
+        for (int i = 0; i < 3; i++) {
+            assertThat(acquire("u1")).as("비활성화").isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("키 테이블이 가득 차면 새 키는 통과시키지 않고 라우트별 공유 버킷으로 제한")
+    void limitsNewKeysWithSharedOverflowBucket() {
+        properties.setMaxKeys(2);
+        properties.getRoutes().put(ROUTE, limit(1, 2));
+        assertThat(acquire("u1")).isZero();
+        assertThat(acquire("u2")).isZero();
+
+        assertThat(acquire("u3")).isZero();
+        assertThat(acquire("u4")).isZero();
+        assertThat(acquire("u5")).as("u3, u4 가 공유 버킷을 소진").isPositive();
+        assertThat(acquire("u1")).as("기존 키는 자기 버킷 사용").isZero();
+        assertThat(meterRegistry.get("kol.ratelimit.keys.overflow").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("kol.ratelimit.keys").gauge().value()).isEqualTo(2);
+    }
+
+    private long acquire(String userId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HeaderConstants.USER_ID, userId);
+        return limiter.tryAcquire(ROUTE, headers, null);
+    }
+
+    private static RateLimitProperties.RouteLimit limit(double replenishRate, int burstCapacity) {
+        RateLimitProperties.RouteLimit limit = new RateLimitProperties.RouteLimit();
+        limit.setReplenishRate(replenishRate);
+        limit.setBurstCapacity(burstCapacity);
+        return limit;
+    }
+}
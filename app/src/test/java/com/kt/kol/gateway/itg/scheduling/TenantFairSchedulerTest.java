@@ -0,0 +1,159 @@
+package com.kt.kol.gateway.itg.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kt.kol.gateway.itg.exception.ServiceOverloadedException;
+import com.kt.kol.gateway.itg.properties.FairQueueProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * DRR 가중치 순서, 대기/실행 중 취소 시 슬롯 반환, 큐 상한 거절 검증
+ */
+class TenantFairSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FairQueueProperties properties;
+    private TenantFairScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FairQueueProperties();
+        properties.setEnabled(true);
+        properties.setMaxConcurrency(1);
+        scheduler = new TenantFairScheduler(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기 요청은 가중치(quantum) 비율로 tenant 를 번갈아 실행")
+    void dispatchesByWeight() {
+        properties.getWeights().put("A", 3);
+        properties.getWeights().put("B", 1);
+        Sinks.Empty<Void> blocker = Sinks.empty();
+        scheduler.submit("X", blocker.asMono()).subscribe();
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        for (String tenant : new String[] { "A", "B" }) {
+            for (int i = 0; i < 8; i++) {
+                scheduler.submit(tenant, Mono.fromRunnable(() -> order.add(tenant))).subscribe();
+            }
+        }
+        assertThat(order).isEmpty();
+        assertThat(queued()).isEqualTo(16);
+
+        blocker.tryEmitEmpty();
+        assertThat(String.join("", order)).isEqualTo("AAABAAABAABBBBBB");
+        assertThat(queued()).isZero();
+        assertThat(meterRegistry.get("kol.fairqueue.dispatched").tag("tenant", "A").counter().count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("대기 중 취소된 요청은 건너뛰고, 실행 중 취소되면 슬롯을 다음 요청에 넘김")
+    void releasesSlotOnCancel() {
+        Sinks.Empty<Void> blocker = Sinks.empty();
+        scheduler.submit("X", blocker.asMono()).subscribe();
+
+        List<String> started = new CopyOnWriteArrayList<>();
+        Disposable waiting = scheduler.submit("A", Mono.fromRunnable(() -> started.add("cancelled"))).subscribe();
+        Disposable running = scheduler.submit("B", Mono.never().doOnSubscribe(s -> started.add("running")))
+                .subscribe();
+        scheduler.submit("B", Mono.fromRunnable(() -> started.add("next"))).subscribe();
+
+        waiting.dispose();
+        blocker.tryEmitEmpty();
+        assertThat(started).containsExactly("running");
+
+        running.dispose();
+        assertThat(started).containsExactly("running", "next");
+        assertThat(queued()).isZero();
+        assertThat(canRunImmediately(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("tenant 큐가 가득 차면 대기 없이 거절")
+    void rejectsWhenTenantQueueIsFull() {
+        properties.setMaxQueueDepthPerTenant(2);
+        scheduler.submit("A", Mono.never()).subscribe();
+        scheduler.submit("A", Mono.never()).subscribe();
+        scheduler.submit("A", Mono.never()).subscribe();
+
+        AtomicInteger rejected = new AtomicInteger();
+        scheduler.submit("A", Mono.never()).subscribe(v -> {
+        }, error -> {
+            if (error instanceof ServiceOverloadedException) {
+                rejected.incrementAndGet();
+            }
+        });
+        assertThat(rejected).hasValue(1);
+        assertThat(meterRegistry.get("kol.fairqueue.rejected").tag("tenant", "other").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료와 취소가 경합해도 슬롯이 새거나 중복 반환되지 않음")
+    void neverLeaksSlotsUnderConcurrentCancellation() {
+        properties.setMaxConcurrency(4);
+        List<Disposable> subscriptions = new ArrayList<>();
+        AtomicInteger finished = new AtomicInteger();
+        Flux.range(0, 2000)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .doOnNext(i -> {
+                    Mono<Object> work = Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextInt(2)))
+                            .then(Mono.empty());
+                    Disposable subscription = scheduler.submit("T" + (i % 5), work)
+                            .doFinally(signal -> finished.incrementAndGet())
+                            .subscribe(v -> {
+                            }, error -> {
+                            });
+                    if (i % 3 == 0) {
+                        subscription.dispose();
+                    }
+                    synchronized (subscriptions) {
+                        subscriptions.add(subscription);
+                    }
+                })
+                .sequential()
+                .blockLast();
+        await().atMost(Duration.ofSeconds(10)).until(() -> finished.get() == 2000);
+
+        assertThat(queued()).isZero();
+        assertThat(canRunImmediately(4)).as("슬롯 4개 모두 반환").isTrue();
+    }
+
+    private double queued() {
+        return meterRegistry.get("kol.fairqueue.queued").gauge().value();
+    }
+
+    /**
+     * 슬롯 수만큼 새 작업이 바로 시작되는지 (이후 정리)
+     */
+    private boolean canRunImmediately(int slots) {
+        AtomicInteger started = new AtomicInteger();
+        List<Disposable> holders = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            holders.add(scheduler.submit("probe", Mono.never().doOnSubscribe(s -> started.incrementAndGet()))
+                    .subscribe());
+        }
+        boolean allStarted = started.get() == slots && queued() == 0;
+        holders.forEach(Disposable::dispose);
+        return allStarted;
+    }
+}
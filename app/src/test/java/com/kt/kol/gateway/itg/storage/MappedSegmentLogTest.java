@@ -0,0 +1,181 @@
+package com.kt.kol.gateway.itg.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 세그먼트 전환, 손상된 꼬리 복구, checkpoint 재시작 동작 검증
+ */
+class MappedSegmentLogTest {
+
+    private static final int SEGMENT_BYTES = 256;
+    private static final int PAYLOAD_BYTES = 40;
+    private static final int RECORD_BYTES = 16 + PAYLOAD_BYTES; // 세그먼트당 4건
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트가 바뀌어도 재시작 후 모든 레코드를 순서대로 읽고 이어서 기록")
+    void recoversAcrossSegmentRoll() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            for (int i = 1; i <= 10; i++) {
+                assertThat(log.append(payload(i))).isEqualTo(i);
+            }
+            assertThat(log.segmentCount()).isEqualTo(3);
+        }
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.lastSequence()).isEqualTo(10);
+            assertThat(log.segmentCount()).isEqualTo(3);
+            assertSequences(log.read(1, 100), 1, 10);
+            assertThat(log.append(payload(11))).isEqualTo(11);
+            assertSequences(log.read(9, 100), 9, 11);
+        }
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 꼬리 레코드는 복구 시 잘라내고 그 sequence 부터 다시 기록")
+    void truncatesCorruptedTail() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            for (int i = 1; i <= 3; i++) {
+                log.append(payload(i));
+            }
+        }
+        corrupt(lastSegment(), 2 * RECORD_BYTES + 16); // 3번째 레코드 payload 첫 바이트
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.lastSequence()).isEqualTo(2);
+            assertSequences(log.read(1, 100), 1, 2);
+
+            assertThat(log.append(payload(30))).isEqualTo(3);
+            List<MappedSegmentLog.Entry> entries = log.read(3, 100);
+            assertThat(entries).hasSize(1);
+            assertThat(entries.get(0).payload()).isEqualTo(payload(30));
+        }
+    }
+
+    @Test
+    @DisplayName("기록 중 멈춘 레코드(commit 표시만 있고 payload 없음)는 복구 시 제거")
+    void discardsTornWrite() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            log.append(payload(1));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(lastSegment().toFile(), "rw")) {
+            file.seek(RECORD_BYTES);
+            file.writeInt(PAYLOAD_BYTES); // length 만 기록되고 crc/sequence/payload 는 0
+        }
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.lastSequence()).isEqualTo(1);
+            assertThat(log.append(payload(2))).isEqualTo(2);
+            assertSequences(log.read(1, 100), 1, 2);
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 checkpoint 이후 레코드만 다시 읽고 소비된 세그먼트는 삭제")
+    void replaysFromCheckpoint() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            for (int i = 1; i <= 10; i++) {
+                log.append(payload(i));
+            }
+            log.checkpoint(6);
+            assertThat(log.segmentCount()).isEqualTo(2); // 1~4 세그먼트 삭제
+        }
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.checkpointSequence()).isEqualTo(6);
+            List<MappedSegmentLog.Entry> entries = log.read(log.checkpointSequence() + 1, 100);
+            assertSequences(entries, 7, 10);
+            assertThat(entries.get(0).payload()).isEqualTo(payload(7));
+        }
+    }
+
+    @Test
+    @DisplayName("꼬리가 유실되어도 이미 소비된 sequence 를 재사용하지 않음")
+    void neverReusesConsumedSequence() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            for (int i = 1; i <= 6; i++) {
+                log.append(payload(i));
+            }
+            log.checkpoint(6);
+        }
+        Files.delete(lastSegment()); // 5~6 세그먼트 유실 (checkpoint 만 남음)
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.lastSequence()).isEqualTo(6);
+            assertThat(log.read(log.checkpointSequence() + 1, 100)).isEmpty();
+            assertThat(log.append(payload(70))).isEqualTo(7);
+            List<MappedSegmentLog.Entry> entries = log.read(7, 100);
+            assertThat(entries).hasSize(1);
+            assertThat(entries.get(0).payload()).isEqualTo(payload(70));
+        }
+    }
+
+    @Test
+    @DisplayName("checkpoint 이전으로 잘린 꼬리 뒤에 새 세그먼트를 만들고 읽기는 그 구간을 건너뜀")
+    void skipsSequenceGapAfterClampedRecovery() throws IOException {
+        try (MappedSegmentLog log = open()) {
+            for (int i = 1; i <= 3; i++) {
+                log.append(payload(i));
+            }
+            log.checkpoint(3);
+        }
+        corrupt(lastSegment(), RECORD_BYTES + 16); // 2~3 손상 - 복구 결과(1)가 checkpoint(3) 보다 뒤처짐
+
+        try (MappedSegmentLog log = open()) {
+            assertThat(log.lastSequence()).isEqualTo(3);
+            assertThat(log.append(payload(4))).isEqualTo(4);
+            assertSequences(log.read(2, 100), 4, 4);
+        }
+    }
+
+    private MappedSegmentLog open() throws IOException {
+        return MappedSegmentLog.open(directory, SEGMENT_BYTES);
+    }
+
+    private static byte[] payload(int value) {
+        byte[] bytes = new byte[PAYLOAD_BYTES];
+        byte[] text = ("record-" + value).getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(text, 0, bytes, 0, text.length);
+        return bytes;
+    }
+
+    private static void assertSequences(List<MappedSegmentLog.Entry> entries, long first, long last) {
+        assertThat(entries).extracting(MappedSegmentLog.Entry::sequence)
+                .containsExactlyElementsOf(LongStream.rangeClosed(first, last).boxed().toList());
+        for (MappedSegmentLog.Entry entry : entries) {
+            assertThat(entry.payload()).isEqualTo(payload((int) entry.sequence()));
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".seg")).sorted()
+                    .reduce((a, b) -> b)
+                    .orElseThrow();
+        }
+    }
+
+    private static void corrupt(Path file, long offset) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(offset);
+            int value = raf.read();
+            raf.seek(offset);
+            raf.write(value ^ 0xFF);
+        }
+    }
+}
@@ -31,6 +31,16 @@ public final class HeaderConstants {
     public static final String LOG_DATETIME = "KOL-Lg-Date-Time";
     public static final String ORI_IP = "KOL-Ori-IP"; // 최초 RemoteAddr 보관
 
+    // ====== Async job headers ======
+    public static final String PREFER = "Prefer";
+    public static final String PREFER_RESPOND_ASYNC = "respond-async";
+    public static final String CALLBACK_URL = "X-Callback-Url";
+
+    // ====== Diagnostics headers ======
+    public static final String SERVER_TIMING = "Server-Timing";
+    public static final String CORRELATION_ID = "X-Correlation-Id";
+    public static final String TRACEPARENT = "traceparent"; // W3C Trace Context
+
     // ====== Prevent Instantiation ======
     private HeaderConstants() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
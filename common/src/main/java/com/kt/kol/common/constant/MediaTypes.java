@@ -12,6 +12,9 @@ public final class MediaTypes {
     public static final String TEXT_XML_UTF8 = "text/xml;charset=UTF-8";
     public static final String APPLICATION_XML = "application/xml";
     public static final String APPLICATION_SOAP_XML = "application/soap+xml";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String RSOCKET_HEADERS = "application/vnd.kol.headers+json"; // RSocket 요청 헤더 메타데이터
     
     // Character Encodings
     public static final String CHARSET_UTF8 = "UTF-8";
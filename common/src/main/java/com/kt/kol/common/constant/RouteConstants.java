@@ -8,10 +8,21 @@ public final class RouteConstants {
     // Route IDs
     public static final String REST_SOAP_PO_ROUTE = "rest-soap-po-route";
     public static final String REST_SOAP_ESB_ROUTE = "rest-soap-esb-route";
+    public static final String REST_SOAP_BATCH_ROUTE = "rest-soap-batch-route";
+    public static final String REST_SOAP_COMPOSITE_ROUTE = "rest-soap-composite-route";
+    public static final String SOAP_JOBS_ROUTE = "soap-jobs-route";
     
     // Route Paths
     public static final String SOAP_DYNAMIC_GATEWAY_PATH = "/SoapDynamicGateway";
     public static final String SOAP_GATEWAY_PATH = "/SoapGateway";
+    public static final String SOAP_BATCH_GATEWAY_PATH = "/SoapBatchGateway";
+    public static final String SOAP_COMPOSITE_GATEWAY_PATH = "/SoapCompositeGateway";
+    public static final String SOAP_JOBS_PATH_PREFIX = "/SoapJobs/";
+    public static final String SOAP_JOBS_PATH = SOAP_JOBS_PATH_PREFIX + "{jobId}";
+    
+    // RSocket Routes (spring.rsocket.server.port 지정 시)
+    public static final String RSOCKET_SOAP_REQUEST_ROUTE = "soap.request";
+    public static final String RSOCKET_SOAP_CHANNEL_ROUTE = "soap.channel";
     
     // Special URIs
     public static final String NO_OP_URI = "no://op";
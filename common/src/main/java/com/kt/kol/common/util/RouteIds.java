@@ -0,0 +1,38 @@
+package com.kt.kol.common.util;
+
+import com.kt.kol.common.constant.RouteConstants;
+
+/**
+ * 요청 경로 → 라우트 ID 변환
+ *
+ * <p>
+ * direct 모드처럼 Gateway 라우트를 거치지 않는 요청도 라우트별 설정(속도 제한 등)과 메트릭 태그를 같은 ID로 공유한다.
+ */
+public final class RouteIds {
+
+    private RouteIds() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * 요청 경로의 라우트 ID (알 수 없는 경로는 경로 그대로)
+     */
+    public static String fromPath(String path) {
+        if (RouteConstants.SOAP_DYNAMIC_GATEWAY_PATH.equals(path)) {
+            return RouteConstants.REST_SOAP_PO_ROUTE;
+        }
+        if (RouteConstants.SOAP_GATEWAY_PATH.equals(path)) {
+            return RouteConstants.REST_SOAP_ESB_ROUTE;
+        }
+        if (RouteConstants.SOAP_BATCH_GATEWAY_PATH.equals(path)) {
+            return RouteConstants.REST_SOAP_BATCH_ROUTE;
+        }
+        if (RouteConstants.SOAP_COMPOSITE_GATEWAY_PATH.equals(path)) {
+            return RouteConstants.REST_SOAP_COMPOSITE_ROUTE;
+        }
+        if (path.startsWith(RouteConstants.SOAP_JOBS_PATH_PREFIX)) {
+            return RouteConstants.SOAP_JOBS_ROUTE; // 작업 id 는 메트릭 태그에서 제외
+        }
+        return path;
+    }
+}